@@ -1,11 +1,14 @@
 package com.evolvlabs.CountryInformationViewer.Controllers;
 
 import android.app.Application;
+import android.content.pm.ApplicationInfo;
 import android.content.res.Configuration;
+import android.graphics.Bitmap;
 import android.os.Bundle;
 import android.util.Log;
 import android.util.Pair;
 import android.view.InflateException;
+import android.widget.EditText;
 import androidx.activity.OnBackPressedCallback;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -23,14 +26,17 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.evolvlabs.CountryInformationViewer.DataModel.ApplicationDataPOJO;
 import com.evolvlabs.CountryInformationViewer.DataModel.ContinentRecyclerAdapter;
 import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.Utilities.CountrySearchFieldBinder;
 import com.evolvlabs.CountryInformationViewer.Utilities.DeviceOrientationUtilities;
 import com.evolvlabs.CountryInformationViewer.Utilities.MenuItemsDialogBuilder;
+import com.evolvlabs.CountryInformationViewer.Utilities.RemovedEntriesDialogBuilder;
 import com.evolvlabs.countryinformationviewer.R;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -242,17 +248,34 @@ public class ChooseAContinentController extends Fragment {
                     this.applicationDataPOJO, requireContext());
             viewFromUI.setLayoutManager(new LinearLayoutManager(requireContext()));
             viewFromUI.setAdapter(adapter);
-            adapter.notifyDataSetChanged();
+            adapter.refreshVisibleContinents();
 
             //? 3. Conectamos un listener en el caso de que cambie la lista para reconectar el
-            // contenido
+            // contenido, el adaptador solo toca las filas de los continentes que cambiaron
             applicationDataPOJO.getConstantContinentList().observe(getViewLifecycleOwner(),
                                                                    new Observer<List<String>>() {
                                                                        @Override
                                                                        public void onChanged(List<String> strings) {
-                                                                           adapter.notifyDataSetChanged();
+                                                                           adapter.refreshVisibleContinents();
                                                                        }
                                                                    });
+            //? 4. Los iconos llegan despues que la lista, cuando se publican solo se vuelven a
+            // enlazar las filas cuyo icono cambio
+            applicationDataPOJO.getConstantContinentIconMap().observe(getViewLifecycleOwner(),
+                                                                      new Observer<Map<String, Bitmap>>() {
+                                                                          @Override
+                                                                          public void onChanged(Map<String, Bitmap> icons) {
+                                                                              adapter.refreshVisibleContinents();
+                                                                          }
+                                                                      });
+            //? 5. El campo de busqueda global deja solo los continentes con paises que coinciden
+            EditText searchField =
+                    getView().findViewById(R.id.inChooseAContinentView_SearchField);
+            if (searchField != null) {
+                CountrySearchFieldBinder.bindSearchFieldToViewModel(
+                        searchField, this.applicationDataPOJO, getViewLifecycleOwner(),
+                        adapter::refreshVisibleContinents);
+            }
         }
     }
 
@@ -262,7 +285,8 @@ public class ChooseAContinentController extends Fragment {
      * Metodo responsable de configurar las opciones del menu flotante y sus interacciones.
      * Implementa la funcionalidad del boton flotante que permite al usuario recargar todos los
      * datos de la aplicacion. Este metodo establece un dialogo de confirmacion antes de ejecutar la
-     * recarga de datos.
+     * recarga de datos. En compilaciones de depuracion el menu tambien muestra la memoria usada por
+     * las banderas en cada politica de configuracion y permite alternar entre ellas.
      * </description>
      *
      * <methodology>
@@ -271,6 +295,8 @@ public class ChooseAContinentController extends Fragment {
      * <li>Configura el listener de clicks para el boton</li>
      * <li>Implementa la creacion del dialogo de confirmacion con opciones personalizadas</li>
      * <li>Configura la accion de recarga de datos cuando se confirma el dialogo</li>
+     * <li>Agrega el listado de elementos eliminados para restaurarlos uno a uno</li>
+     * <li>En depuracion, agrega la lectura de memoria de las banderas por politica</li>
      * </ol>
      * </methodology>
      * </body>
@@ -288,40 +314,122 @@ public class ChooseAContinentController extends Fragment {
         button.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
+                List<Pair<String, String>> dialogTitleAndBody = new ArrayList<>() {{
+                    add(new Pair<String, String>(
+                            getString(R.string.load_all_content_again_dialog_header),
+                            getString(R.string.load_all_content_again_dialog_message)
+                    ));
+                }};
+                List<Pair<String, String>> dialogSucceedOrNotOptions = new ArrayList<>() {{
+                    add(new Pair<String, String>(
+                            getString(R.string.remove_message_on_confirm_button_name),
+                            getString(R.string.remove_message_on_reject_button_name)
+                    ));
+                }};
+                List<Runnable> dialogOnSucceedRunnableOption = new ArrayList<>() {{
+                    add(
+                            () -> {
+                                Log.d("MenuDebug", "Runnable executed - about to call dataLoadingSuperMethod");
+                                applicationDataPOJO.reloadDataModel();
+                                if (applicationDataPOJO.getMutableIsDeviceInTabletMode() != null) {
+                                    if (Boolean.TRUE.equals(applicationDataPOJO.getMutableIsDeviceInTabletMode().getValue())) {
+                                        applicationDataPOJO.reloadPriorSelectedContinent();
+                                    }
+                                }
+                                Log.d("MenuDebug", "Runnable completed");
+                            }
+                       );
+                }};
+                List<String> menuOptionsForUser = new ArrayList<>() {{
+                    add(getString(R.string.load_all_content_again_menu_item));
+                }};
+
+                //> 1.1 Restaurar elementos eliminados no pide confirmacion, abre directamente el
+                // listado donde cada elemento se restaura por separado
+                dialogTitleAndBody.add(null);
+                dialogSucceedOrNotOptions.add(null);
+                dialogOnSucceedRunnableOption.add(() -> showRemovedEntriesDialog());
+                menuOptionsForUser.add(getString(R.string.restore_removed_entries_menu_item));
+
+                //> 1.2 Solo en depuracion mostramos la memoria de las banderas por politica, al
+                // confirmar se pasa a la siguiente politica
+                if ((requireContext().getApplicationInfo().flags
+                        & ApplicationInfo.FLAG_DEBUGGABLE) != 0) {
+                    dialogTitleAndBody.add(new Pair<String, String>(
+                            getString(R.string.flag_memory_debug_dialog_header),
+                            applicationDataPOJO.describeFlagBitmapBytesPerConfigPolicy()));
+                    dialogSucceedOrNotOptions.add(new Pair<String, String>(
+                            getString(R.string.flag_memory_debug_switch_button,
+                                      applicationDataPOJO.getFlagBitmapConfigPolicy().next().name()),
+                            getString(R.string.flag_memory_debug_close_button)));
+                    dialogOnSucceedRunnableOption.add(() -> applicationDataPOJO
+                            .setFlagBitmapConfigPolicy(
+                                    applicationDataPOJO.getFlagBitmapConfigPolicy().next()));
+                    menuOptionsForUser.add(getString(R.string.flag_memory_debug_menu_item));
+                }
+
                 MenuItemsDialogBuilder.createAndShowMenuItemSelection(requireContext(),
                                                                       button,
-                                                                      new ArrayList<>() {{
-                                                                          add(new Pair<String, String>(
-                                                                                  getString(R.string.load_all_content_again_dialog_header),
-                                                                                  getString(R.string.load_all_content_again_dialog_message)
-                                                                          ));
-                                                                      }},
-                                                                      new ArrayList<>() {{
-                                                                          add(new Pair<String, String>(
-                                                                                  getString(R.string.remove_message_on_confirm_button_name),
-                                                                                  getString(R.string.remove_message_on_reject_button_name)
-                                                                          ));
-                                                                      }},
-                                                                      new ArrayList<>() {{
-                                                                          add(
-                                                                                  () -> {
-                                                                                      Log.d("MenuDebug", "Runnable executed - about to call dataLoadingSuperMethod");
-                                                                                      applicationDataPOJO.reloadDataModel();
-                                                                                      if (applicationDataPOJO.getMutableIsDeviceInTabletMode() != null) {
-                                                                                          if (Boolean.TRUE.equals(applicationDataPOJO.getMutableIsDeviceInTabletMode().getValue())) {
-                                                                                              applicationDataPOJO.reloadPriorSelectedContinent();
-                                                                                          }
-                                                                                      }
-                                                                                      Log.d("MenuDebug", "Runnable completed");
-                                                                                  }
-                                                                             );
-                                                                      }},
-                                                                      new String[]{getString(R.string.load_all_content_again_menu_item)});
+                                                                      dialogTitleAndBody,
+                                                                      dialogSucceedOrNotOptions,
+                                                                      dialogOnSucceedRunnableOption,
+                                                                      menuOptionsForUser.toArray(new String[0]));
 
             }
         });
     }
 
+    /**
+     * <body style="color: WHITE;">
+     * <description>
+     * Metodo que muestra los continentes y paises eliminados. Al tocar uno se restaura solo ese
+     * elemento sobre el estado actual, sin recargar todos los datos como lo hace la opcion de
+     * recarga.
+     * </description>
+     *
+     * <methodology>
+     * <ol>
+     * <li>Lee los continentes y paises eliminados del modelo de datos</li>
+     * <li>Arma una etiqueta por elemento, primero los continentes</li>
+     * <li>Restaura el elemento tocado</li>
+     * </ol>
+     * </methodology>
+     * </body>
+     */
+    private void showRemovedEntriesDialog() {
+        //> 1. Leemos los elementos eliminados, el orden de las etiquetas es el mismo
+        List<String> removedContinents = applicationDataPOJO.getRemovedContinents();
+        List<CountryInformation> removedCountries = applicationDataPOJO.getRemovedCountries();
+        List<String> entryLabels =
+                new ArrayList<>(removedContinents.size() + removedCountries.size());
+        for (String removedContinent : removedContinents) {
+            entryLabels.add(getString(R.string.restore_removed_continent_entry, removedContinent));
+        }
+        for (CountryInformation removedCountry : removedCountries) {
+            entryLabels.add(getString(R.string.restore_removed_country_entry,
+                                      removedCountry.getCountryName(),
+                                      removedCountry.getCountryContinent()));
+        }
+
+        //> 2. Restauramos el elemento tocado segun su posicion
+        RemovedEntriesDialogBuilder.showRemovedEntriesDialog(
+                getString(R.string.restore_removed_entries_dialog_header),
+                getString(R.string.restore_removed_entries_empty_message),
+                getString(R.string.restore_removed_entries_close_button),
+                entryLabels,
+                selectedEntry -> {
+                    if (selectedEntry < removedContinents.size()) {
+                        applicationDataPOJO.restoreRemovedContinent(
+                                removedContinents.get(selectedEntry));
+                    } else {
+                        applicationDataPOJO.restoreRemovedCountry(
+                                removedCountries.get(selectedEntry - removedContinents.size()));
+                    }
+                },
+                requireContext(),
+                getResources());
+    }
+
     /**
      * <body style="color: WHITE;">
      * <description>
@@ -3,6 +3,8 @@ package com.evolvlabs.CountryInformationViewer.Controllers;
 import android.content.res.Configuration;
 import android.os.Bundle;
 import android.view.InflateException;
+import android.widget.Button;
+import android.widget.EditText;
 import android.widget.TextView;
 import androidx.activity.OnBackPressedCallback;
 import androidx.annotation.NonNull;
@@ -21,13 +23,13 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.evolvlabs.CountryInformationViewer.DataModel.ApplicationDataPOJO;
 import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
 import com.evolvlabs.CountryInformationViewer.DataModel.CountryRecyclerAdapter;
+import com.evolvlabs.CountryInformationViewer.Utilities.ConfirmationDialogBuilder;
+import com.evolvlabs.CountryInformationViewer.Utilities.CountrySearchFieldBinder;
 import com.evolvlabs.countryinformationviewer.R;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * A simple {@link Fragment} subclass. Use the {@link ChooseACountryController#newInstance} factory
@@ -159,6 +161,23 @@ public class ChooseACountryController extends Fragment {
         this.setUpListenersForSelectedContinentChangesAndUIUpdates(textHolder,
                                                                  countryRecyclerAdapter);
 
+        //> 2.3 Conectamos el campo de busqueda, cada tecla refina las coincidencias del
+        // continente seleccionado y refresca la lista
+        EditText searchField = view.findViewById(R.id.inChooseACountryView_SearchField);
+        if (searchField != null) {
+            CountrySearchFieldBinder.bindSearchFieldToViewModel(
+                    searchField, this.applicationDataPOJO, getViewLifecycleOwner(),
+                    countryRecyclerAdapter::refreshVisibleCountries);
+        }
+
+        //> 2.4 Conectamos el boton del modo de seleccion multiple, todos los paises
+        // seleccionados se eliminan en una sola transaccion del view model
+        Button removeSelectedButton =
+                view.findViewById(R.id.inChooseACountryView_RemoveSelectedButton);
+        if (removeSelectedButton != null) {
+            this.setUpMultipleSelectionRemoval(removeSelectedButton, countryRecyclerAdapter);
+        }
+
         //> 3. Conectamos un controlador para cuando el usuario presione el boton de ir hacia
         // atras, esto nos permite manejar el stack y eliminar errores de navegacion entre la
         // vista 1 a 3.
@@ -214,13 +233,14 @@ public class ChooseACountryController extends Fragment {
 
             //> 2. Para separar los concerns de los observadores, se anade esete observador que 
             // indica que aqui tenemos que actualizar especificamente el recycler view para que 
-            // la lista no se quede con datos anteriores
+            // la lista no se quede con datos anteriores. El adaptador calcula el diff entre los
+            // dos continentes en segundo plano
             if (applicationDataPOJO.getMutableSelectedContinent() != null) {
                 applicationDataPOJO.getMutableSelectedContinent().observe(getViewLifecycleOwner(),
                                                                           new Observer<String>() {
                                                                               @Override
                                                                               public void onChanged(String s) {
-                                                                                  countryRecyclerAdapter.notifyDataSetChanged();
+                                                                                  countryRecyclerAdapter.refreshVisibleCountries();
                                                                               }
                                                                           });
             }
@@ -240,8 +260,9 @@ public class ChooseACountryController extends Fragment {
      * <ol>
      * <li>Configura el LayoutManager del RecyclerView con un LinearLayoutManager</li>
      * <li>Establece el adaptador personalizado en el RecyclerView</li>
-     * <li>Configura observadores para la lista de paises</li>
-     * <li>Implementa la logica de filtrado de paises por continente</li>
+     * <li>Informa al modelo de datos las filas visibles al desplazar la lista</li>
+     * <li>Configura un observador para la lista de paises que entrega al adaptador la
+     * particion del continente seleccionado</li>
      * <li>Actualiza el texto del encabezado segun la seleccion del continente</li>
      * </ol>
      * </methodology>
@@ -259,34 +280,29 @@ public class ChooseACountryController extends Fragment {
         if (viewHolder != null) {
             //> 1. Si la vista no es nula, entonces asignamos el adapter para el recycler view 
             // luego de asignar un linear layout manager para las vistas
-            viewHolder.setLayoutManager(new LinearLayoutManager(requireContext()));
+            LinearLayoutManager countryLayoutManager = new LinearLayoutManager(requireContext());
+            viewHolder.setLayoutManager(countryLayoutManager);
             viewHolder.setAdapter(countryRecyclerAdapter);
-            countryRecyclerAdapter.notifyDataSetChanged();
-            //> 2  Conectamos un listener al adaptador para manejar cambios de seleccion de country
-            applicationDataPOJO.constantCountryList.observe(getViewLifecycleOwner(),
-                                                            new Observer<List<CountryInformation>>() {
-                                                                @Override
-                                                                public void onChanged(List<CountryInformation> countryInformations) {
-                                                                    countryRecyclerAdapter.notifyDataSetChanged();
-                                                                }
-                                                            });
+            countryRecyclerAdapter.refreshVisibleCountries();
+            //> 1.1 Informamos al view model las filas visibles para que decodifique primero sus
+            // banderas y luego las mas cercanas
+            viewHolder.addOnScrollListener(new RecyclerView.OnScrollListener() {
+                @Override
+                public void onScrolled(@NonNull @NotNull RecyclerView recyclerView, int dx, int dy) {
+                    applicationDataPOJO.updateVisibleCountryRows(
+                            countryLayoutManager.findFirstVisibleItemPosition(),
+                            countryLayoutManager.findLastVisibleItemPosition());
+                }
+            });
+            //> 2  Conectamos un solo observador del listado de paises: entrega la particion del
+            // continente seleccionado al adaptador, que despacha solo los cambios puntuales, y
+            // actualiza el encabezado si el continente se quedo sin paises
             applicationDataPOJO.constantCountryList.observe(getViewLifecycleOwner(),
                                                             new Observer<List<CountryInformation>>() {
                                                                 @Override
                                                                 public void onChanged(List<CountryInformation> countryInformations) {
-                                                                    List<CountryInformation> informationPerContinent =
-                                                                            countryInformations.stream().filter(new Predicate<CountryInformation>() {
-                                                                                @Override
-                                                                                public boolean test(CountryInformation countryInformation) {
-                                                                                    return countryInformation.getCountryContinent()
-                                                                                            .equalsIgnoreCase(
-                                                                                                    applicationDataPOJO
-                                                                                                            .getMutableSelectedContinent().
-                                                                                                            getValue());
-                                                                                }
-                                                                            }).collect(Collectors.toList());
-
-                                                                    if (informationPerContinent.isEmpty()) {
+                                                                    countryRecyclerAdapter.refreshVisibleCountries();
+                                                                    if (applicationDataPOJO.getCountriesOfSelectedContinent().isEmpty()) {
                                                                         textHolder.setText(
                                                                                 "Select a " +
                                                                                         "Continent");
@@ -595,6 +611,45 @@ public class ChooseACountryController extends Fragment {
         }
     }
 
+    /**
+     * <body style="color: WHITE">
+     * <description>
+     * Configura el boton del modo de seleccion multiple de paises. El boton solo se muestra
+     * mientras hay paises seleccionados, indica cuantos son y, despues de confirmar, los elimina
+     * todos en una sola transaccion del view model.
+     * </description>
+     *
+     * <methodology>
+     * <ol>
+     * <li>Muestra u oculta el boton con cada cambio de la seleccion</li>
+     * <li>Pide confirmacion y elimina los paises seleccionados</li>
+     * <li>Termina la seleccion cuando cambia el continente seleccionado</li>
+     * </ol>
+     * </methodology>
+     * </body>
+     *
+     * @param removeSelectedButton   Boton que elimina los paises seleccionados
+     * @param countryRecyclerAdapter Adaptador del RecyclerView que mantiene la seleccion
+     */
+    private void setUpMultipleSelectionRemoval(Button removeSelectedButton,
+                                               CountryRecyclerAdapter countryRecyclerAdapter) {
+        //> 1. El boton refleja la cantidad de paises seleccionados
+        countryRecyclerAdapter.setOnSelectionChangedListener(selectedCountryCount -> {
+            removeSelectedButton.setVisibility(selectedCountryCount > 0 ? View.VISIBLE : View.GONE);
+            removeSelectedButton.setText(getResources().getString(
+                    R.string.remove_selected_countries_button, selectedCountryCount));
+        });
+        //> 2. Confirmamos una sola vez para todos los paises seleccionados
+        removeSelectedButton.setOnClickListener(v -> ConfirmationDialogBuilder.showConfirmationDialog(
+                getResources().getString(R.string.removing_selected_countries_dialog_header,
+                                         countryRecyclerAdapter.getSelectedCountryCount()),
+                getResources().getString(R.string.removing_selected_countries_confirmation_message),
+                countryRecyclerAdapter::removeSelectedCountries, requireContext(), getResources()));
+        //> 3. Cambiar de continente termina la seleccion, para no eliminar paises que ya no se ven
+        applicationDataPOJO.getMutableSelectedContinent().observe(
+                getViewLifecycleOwner(), continent -> countryRecyclerAdapter.clearSelection());
+    }
+
     /**
      * <body style="color: WHITE">
      * <description>
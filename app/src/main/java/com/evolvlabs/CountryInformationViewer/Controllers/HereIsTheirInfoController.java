@@ -1,8 +1,6 @@
 package com.evolvlabs.CountryInformationViewer.Controllers;
 
 import android.content.res.Configuration;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.os.Bundle;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
@@ -22,6 +20,7 @@ import androidx.navigation.NavController;
 import androidx.navigation.Navigation;
 import com.evolvlabs.CountryInformationViewer.DataModel.ApplicationDataPOJO;
 import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.DataModel.FlagSizeBucket;
 import com.evolvlabs.countryinformationviewer.R;
 import org.jetbrains.annotations.NotNull;
 
@@ -213,24 +212,8 @@ public class HereIsTheirInfoController extends Fragment {
                                                                         // datos que tengamos
                                                                         inHereIsYourInfo_TextViewForCountryName.setText(
                                                                                 countryInformation.getCountryName());
-                                                                        Bitmap imageBitmap = null;
-                                                                        if (viewModelForApp.constantCountryFlagMap.getValue() != null){
-                                                                            if (viewModelForApp.constantCountryFlagMap.getValue().containsKey(
-                                                                                    countryInformation.getCountryImageAssetPath())){
-                                                                                imageBitmap =
-                                                                                        viewModelForApp.constantCountryFlagMap
-                                                                                                .getValue()
-                                                                                                .get(countryInformation.getCountryImageAssetPath());
-                                                                            } else {
-                                                                                downloadBitmap(countryInformation, imageBitmap);
-                                                                            }
-                                                                        }  else {
-                                                                            downloadBitmap(countryInformation, imageBitmap);
-                                                                        }
-
-                                                                        if (imageBitmap != null){
-                                                                            inHereIsYourInfo_ImageViewForFlag.setImageBitmap(imageBitmap);
-                                                                        }
+                                                                        inHereIsYourInfo_ImageViewForFlag.setImageBitmap(null);
+                                                                        downloadBitmap(countryInformation);
                                                                         //? 1.1.3 Cargamos la
                                                                         // conexion a la red
                                                                         attemptToLoadWikipediaPageForCountry();
@@ -244,33 +227,44 @@ public class HereIsTheirInfoController extends Fragment {
      * <body style="color: WHITE">
      * <h3>Descripcion:</h3>
      * <p>
-     * Metodo encargado de descargar y decodificar una imagen de bandera desde los assets de la
-     * aplicacion. Procesa el archivo de imagen almacenado localmente y lo convierte en un objeto
-     * Bitmap para su visualizacion en la interfaz de usuario.
+     * Metodo encargado de pedir la imagen de bandera del pais al modelo de datos. El modelo la
+     * toma de su cache o la decodifica en segundo plano, y la imagen se coloca en la vista solo si
+     * el pais sigue seleccionado cuando llega.
      * </p>
      *
      * <h3>Metodologia:</h3>
      * <ol>
-     *   <li>Abre un InputStream desde los assets usando la ruta proporcionada</li>
-     *   <li>Decodifica el stream de datos en un objeto Bitmap</li>
-     *   <li>Maneja posibles errores de entrada/salida durante la operacion</li>
+     *   <li>Calcula el bucket de tamano con el que se dibuja la bandera del detalle</li>
+     *   <li>Pide la bandera en software al ApplicationDataPOJO usando la ruta del pais y el
+     *   bucket</li>
+     *   <li>Verifica por identificador que el pais seleccionado no haya cambiado mientras se
+     *   decodificaba</li>
+     *   <li>Coloca el Bitmap recibido en el ImageView de la bandera</li>
      * </ol>
      * </body>
      *
      * @param countryInformation objeto que contiene la informacion del pais, incluyendo la ruta del
      *                           archivo de la bandera
-     * @param imageBitmap        objeto Bitmap que almacenara la imagen decodificada
-     * @throws IOException              si hay un error al acceder o leer el archivo de imagen
-     * @throws IllegalArgumentException si la ruta del archivo es invalida
      * @throws IllegalStateException    si el contexto de la actividad no esta disponible
      */
-    private void downloadBitmap(CountryInformation countryInformation, Bitmap imageBitmap) {
-        try (InputStream stream = getActivity().getAssets().
-                open(countryInformation.getCountryImageAssetPath())) {
-            imageBitmap = BitmapFactory.decodeStream(stream);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private void downloadBitmap(CountryInformation countryInformation) {
+        //? 1. Pedimos la bandera al view model, que la toma del cache o la decodifica en segundo
+        // plano; solo la mostramos si el pais sigue seleccionado cuando llega
+        FlagSizeBucket detailFlagSizeBucket = FlagSizeBucket.forTargetSize(
+                getResources().getDimensionPixelSize(R.dimen.country_detail_flag_size));
+        //? 1.1 La bandera del detalle se pide con pixeles en software, un Bitmap HARDWARE no se
+        // puede dibujar en un Canvas de software, por lo que esta vista no depende de la politica
+        // de configuracion activa
+        viewModelForApp.requestCountryFlag(countryInformation, detailFlagSizeBucket, true,
+                                           flagBitmap -> {
+            //? 1.2 El pais sigue seleccionado si tiene el mismo identificador, una comparacion de
+            // enteros en lugar de comparar continente, nombre y ruta
+            CountryInformation selectedCountry = viewModelForApp.constantSelectedCountry.getValue();
+            if (inHereIsYourInfo_ImageViewForFlag != null && selectedCountry != null
+                    && selectedCountry.getCountryId() == countryInformation.getCountryId()) {
+                inHereIsYourInfo_ImageViewForFlag.setImageBitmap(flagBitmap);
+            }
+        });
     }
 
     /**
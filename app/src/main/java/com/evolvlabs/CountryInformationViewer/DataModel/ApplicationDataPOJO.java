@@ -5,8 +5,10 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.res.AssetManager;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
@@ -14,16 +16,15 @@ import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 import com.evolvlabs.CountryInformationViewer.CountryInformationViewer;
 import com.evolvlabs.CountryInformationViewer.Utilities.DeviceOrientationUtilities;
+import com.evolvlabs.CountryInformationViewer.Utilities.StartupTraceRecorder;
+import com.evolvlabs.countryinformationviewer.R;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * @author: Paulo Cantos, Santiago Arellano
@@ -38,7 +39,7 @@ import java.util.stream.Collectors;
  * complejo, consideramos correcto usar esta implementacion.
  * @see ViewModel
  */
-public class ApplicationDataPOJO extends AndroidViewModel {
+public class ApplicationDataPOJO extends AndroidViewModel implements CountryRowFlagSource {
 
     /*! Parametros internos de la aplicaicon*/
     /**
@@ -49,16 +50,27 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * base a lo que pide el usuario por ejemplo
      */
     private MutableLiveData<List<String>> mutableContinentList =
-            new MutableLiveData<>(
-                    new ArrayList<>() {{
-                        addAll(List.of("Americas", "Asia", "Africa", "Europe",
-                                       "Oceania"));
-                    }});
+            new MutableLiveData<>(new ArrayList<>());
     //? Aqui definimos el tipo de constante publica dado que es facil para todo el resto de
     // componentes de la aplicacion para suscribirse a este dato, este tipo de dato es parecido a
     // un ObservableValue de JavaFX
     public LiveData<List<String>> constantContinentList = mutableContinentList;
 
+    /**
+     * @description: continentes disponibles en la aplicacion, la lista publica arranca vacia y se
+     * llena con estos continentes (menos los eliminados) cuando el catalogo esta listo
+     */
+    private static final List<String> DEFAULT_CONTINENT_LIST =
+            List.of("Americas", "Asia", "Africa", "Europe", "Oceania");
+
+    /**
+     * @description: parametro de tipo LiveData y MutableLiveData que publica la etapa de la carga
+     * de datos, que corre en segundo plano. Las etapas solo avanzan, ver {@link LoadState}
+     */
+    private final MutableLiveData<LoadState> mutableLoadState =
+            new MutableLiveData<>(LoadState.LOADING_CATALOG);
+    public LiveData<LoadState> constantLoadState = mutableLoadState;
+
     /**
      * @description: parametro de tipo LiveData and MutableLiveData que se usa especificamente para
      * mantener un listado de todos los paises cargados dentro del sistema, mientras que las
@@ -69,6 +81,72 @@ public class ApplicationDataPOJO extends AndroidViewModel {
             new MutableLiveData<>();
     public LiveData<List<CountryInformation>> constantCountryList = mutableCountryList;
 
+    /**
+     * @description: version actual de {@link #constantCountryList} como lista persistente. Cada
+     * eliminacion o restauracion produce una version nueva en O(log n) que comparte el resto del
+     * arbol con la anterior, y esa version es la que se publica. Solo se accede desde el hilo
+     * principal
+     */
+    private PersistentCountryList countryListSnapshot = PersistentCountryList.empty();
+
+    /**
+     * @description: indice por nombre (sin distinguir mayusculas) de los paises de
+     * {@link #constantCountryList}. Se reconstruye en cada carga y se actualiza de forma incremental
+     * en cada eliminacion. Solo se accede desde el hilo principal
+     */
+    private CountryNameIndex countryNameIndex = new CountryNameIndex();
+
+    /**
+     * @description: particiones por continente de {@link #constantCountryList}, la lista de
+     * paises lee de aqui la lista ya filtrada del continente seleccionado. Se reemplazan junto con
+     * la lista en cada carga y eliminacion. Solo se accede desde el hilo principal
+     */
+    private CountryPartitions countryPartitions = CountryPartitions.empty();
+
+    /**
+     * @description: indice ordenado por nombre plegado para la busqueda por prefijo. Se construye
+     * en la carga sobre todo el catalogo y no se modifica en las eliminaciones ni en las
+     * restauraciones, los paises eliminados se descartan al leer el resultado. Solo se accede
+     * desde el hilo principal
+     */
+    private CountryPrefixIndex countryPrefixIndex = CountryPrefixIndex.empty();
+
+    /**
+     * @description: indice de trigramas de los nombres y sus alias para la busqueda tolerante a
+     * errores. Completa la busqueda por prefijo cuando el texto tiene al menos
+     * {@link #FUZZY_SEARCH_MINIMUM_QUERY_LENGTH} caracteres, como maximo con
+     * {@link #FUZZY_SEARCH_MAXIMUM_MATCHES} resultados. Solo se accede desde el hilo principal
+     */
+    private static final int FUZZY_SEARCH_MINIMUM_QUERY_LENGTH = 3;
+    private static final int FUZZY_SEARCH_MAXIMUM_MATCHES = 20;
+    private CountryFuzzySearchIndex countryFuzzySearchIndex = CountryFuzzySearchIndex.empty();
+
+    /**
+     * @description: parametro de tipo LiveData y MutableLiveData con el texto de busqueda de
+     * paises. Lo comparten el campo global de la vista de continentes y el de la vista de paises
+     */
+    private final MutableLiveData<String> mutableCountrySearchQuery = new MutableLiveData<>("");
+    public LiveData<String> constantCountrySearchQuery = mutableCountrySearchQuery;
+
+    /**
+     * @description: resultado de la busqueda actual: el rango del indice (para refinarlo en la
+     * siguiente tecla), las coincidencias partidas por continente y los continentes que tienen
+     * alguna coincidencia. Son null cuando no hay texto de busqueda
+     */
+    private CountryPrefixIndex.Range countrySearchRange;
+    private CountryPartitions countrySearchMatches;
+    private List<String> continentsWithSearchMatches;
+    private List<String> continentsWithSearchMatchesSource;
+
+    /**
+     * @description: filas ya resueltas de la lista de continentes (nombre e icono) y las
+     * instancias de la lista visible y del mapa de iconos con las que se armaron. Mientras ninguna
+     * cambie se entrega la misma lista al adaptador. Solo se accede desde el hilo principal
+     */
+    private List<ContinentRowItem> visibleContinentRows;
+    private List<String> visibleContinentRowsSource;
+    private Map<String, Bitmap> visibleContinentRowsIcons;
+
     /**
      * @description: parametro de tipo liveData y MutableLiveData que se usa especificamente para
      * mantener un pais que se ha seleccionado.
@@ -97,12 +175,58 @@ public class ApplicationDataPOJO extends AndroidViewModel {
 
 
     /**
-     * @description : parametro de tipo Mutable y Live Data de un mapa que comunica el path de
-     * descarga de la imagen con el bitmap de la imagen basado en el pais cuya bandera se
-     * descarga, esto es un cache rapido en memoria
+     * @description : cache en memoria de las banderas de los paises, medido en bytes. Las banderas
+     * se decodifican bajo demanda cuando una vista las pide, por lo que la memoria residente
+     * depende de lo que se muestra en pantalla y no del tamano del catalogo
+     */
+    private final FlagBitmapCache countryFlagCache = new FlagBitmapCache();
+
+    /**
+     * @description : tabla del catalogo cargado (identificador denso por pais y arreglos
+     * paralelos) y casillas de banderas por identificador. Las casillas reflejan las entradas
+     * residentes del {@link #countryFlagCache}, de forma que leer la bandera de una fila es una
+     * lectura de arreglo. Ambas se reemplazan en cada carga y solo se acceden desde el hilo
+     * principal
+     */
+    private CountryCatalogTable countryCatalogTable = CountryCatalogTable.empty();
+    private CountryFlagSlots countryFlagSlots = new CountryFlagSlots(0);
+
+    /**
+     * @description : mapa de las decodificaciones en curso, nos permite que varias vistas que
+     * piden la misma bandera esperen una unica decodificacion. Solo se accede desde el hilo
+     * principal
+     */
+    private final Map<String, List<Consumer<Bitmap>>> pendingCountryFlagRequests =
+            new HashMap<>();
+
+    /**
+     * @description : handler del hilo principal, usado para entregar las banderas decodificadas
+     * en segundo plano a las vistas que las pidieron
+     */
+    private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * @description : se marca al inicio de {@link #onCleared()}. Una decodificacion que ya estaba
+     * corriendo puede terminar despues y publicar su resultado; lo publicado revisa esta marca y no
+     * toca el estado de un view model ya limpiado
+     */
+    private volatile boolean hasBeenCleared = false;
+
+    /**
+     * @description : atlas de banderas ya decodificados, indexados por continente. La lista solo
+     * muestra un continente a la vez, por lo que mantenemos como maximo dos atlas residentes (el
+     * actual y el anterior). Solo se accede desde el hilo principal
+     */
+    private static final int MAXIMUM_RESIDENT_FLAG_ATLASES = 2;
+    private final LruCache<String, FlagAtlas> loadedFlagAtlases =
+            new LruCache<>(MAXIMUM_RESIDENT_FLAG_ATLASES);
+
+    /**
+     * @description : cargas de atlas en curso, equivalente a {@link #pendingCountryFlagRequests}
+     * pero para los atlas. Solo se accede desde el hilo principal
      */
-    private MutableLiveData<Map<String, Bitmap>> mutableCountryFlagMap = new MutableLiveData<>();
-    public LiveData<Map<String, Bitmap>> constantCountryFlagMap = mutableCountryFlagMap;
+    private final Map<String, List<Consumer<FlagAtlas>>> pendingFlagAtlasRequests =
+            new HashMap<>();
 
     /**
      * @description : parametro de tipo Mutable y Live Data que maneja el booleano que determina
@@ -129,15 +253,12 @@ public class ApplicationDataPOJO extends AndroidViewModel {
     private MutableLiveData<Boolean> isNavigatingBack = new MutableLiveData<>(false);
 
     /**
-     * @description : parametro interno que mantiene la lista de los continentes eliminados para 
-     * el manejo de la informacion y serializacion
+     * @description : filtro de los paises y continentes eliminados, un bit por identificador de
+     * pais y un bit por ordinal de continente. Se serializa en Base64 en las preferencias
+     * compartidas en cada eliminacion. Se reemplaza en cada carga y solo se accede desde el hilo
+     * principal
      */
-    private List<String> removedContinentList = new ArrayList<>();
-    /**
-     * @description : parametro interno que mantiene una lista de los paises eliminados para la 
-     * serializacion de los mismos
-     */
-    private List<CountryInformation> removedCountryList = new ArrayList<>();
+    private CountryRemovalFilter removalFilter = CountryRemovalFilter.empty();
 
     /**
      * @description : parametro Mutable Data que permite conocer si el dispositivo esta en table 
@@ -156,11 +277,69 @@ public class ApplicationDataPOJO extends AndroidViewModel {
     private SharedPreferences preferencesFromApplication;
 
     private final String SHARED_PREFERENCES_NAME = "countryInformationViewerPreferences";
+    private final String SP_REMOVED_ENTRIES_FILTER = "removedEntriesFilter";
+    //? Llaves del formato anterior (List.toString), solo se leen una vez para migrarlas al filtro
     private final String SP_REMOVED_CONTINENT_LIST = "removedContinentList";
     private final String SP_REMOVED_COUNTRIES_LIST = "removedCountriesList";
+    private final String STARTUP_TRACE_FILE_NAME = "startup_trace.txt";
     private final Application applicationContext;
     private String selectedContinentPriorReloading;
 
+    /**
+     * @description : ejecutor compartido y acotado para la decodificacion de banderas, este
+     * ViewModel es su dueno y lo cierra en {@link #onCleared()}
+     */
+    private final FlagDecodingExecutor flagDecodingExecutor = new FlagDecodingExecutor();
+
+    /**
+     * @description : cache en disco de las miniaturas ya reducidas, se consulta antes de
+     * decodificar un PNG y se invalida cuando cambia el versionCode del APK
+     */
+    private final FlagDiskCache flagDiskCache;
+
+    /**
+     * @description : politica de configuracion de los Bitmaps de las banderas. Por defecto se usa
+     * RGB_565 dado que las banderas son opacas y asi ocupan la mitad del heap
+     */
+    private FlagBitmapConfigPolicy flagBitmapConfigPolicy = FlagBitmapConfigPolicy.RGB_565;
+
+    /**
+     * @description : instante de la primera peticion de banderas o de atlas y bandera de reporte,
+     * usados para medir cuanto tarda la primera pantalla de banderas con el cache en disco frio o
+     * caliente. Se mide desde la primera peticion y no desde la creacion del ViewModel para no
+     * contar el tiempo que el usuario tarda en elegir un continente. Solo se usan desde el hilo
+     * principal
+     */
+    private boolean hasRequestedFirstFlagScreen = false;
+    private long firstFlagScreenRequestNanos;
+    private boolean hasReportedStartupFlagLoad = false;
+
+    /**
+     * @description : ultimo rango de filas visibles informado por la lista de paises, evita
+     * reordenar la cola del ejecutor si el rango no cambio
+     */
+    private int firstVisibleCountryRow = 0;
+    private int lastVisibleCountryRow = Integer.MAX_VALUE;
+
+    /**
+     * @description : catalogo de assets generado en tiempo de compilacion, si no esta disponible
+     * es null y los assets se listan directamente con el AssetManager
+     */
+    private volatile AssetCatalog assetCatalog;
+
+    /**
+     * @description : alias de los nombres de paises leidos de los assets, se leen una sola vez en
+     * el hilo de carga
+     */
+    private volatile Map<String, List<String>> countryAliases;
+
+    /**
+     * @description : ultima etapa publicada en {@link #mutableLoadState}. postValue no actualiza
+     * getValue de inmediato, por lo que la etapa real se guarda aqui para no retroceder
+     */
+    private LoadState currentLoadState = LoadState.LOADING_CATALOG;
+    private boolean hasDeliveredFirstFlagScreen = false;
+
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
@@ -173,8 +352,8 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * <li>Inicializa la clase padre con la aplicacion proporcionada</li>
      * <li>Almacena el contexto de la aplicacion para uso posterior</li>
      * <li>Configura y obtiene las preferencias compartidas de la aplicacion</li>
-     * <li>Ejecuta el metodo de carga de datos principal</li>
-     * <li>Verifica y deserializa las preferencias guardadas si existen</li>
+     * <li>Programa la carga de datos principal en segundo plano, incluyendo la deserializacion de
+     * las preferencias guardadas</li>
      * </ol>
      * </body>
      *
@@ -190,67 +369,250 @@ public class ApplicationDataPOJO extends AndroidViewModel {
         //? 1. Llamamos al super method para la carga de datos en la aplicacion.
         this.preferencesFromApplication =
                 getApplication().getSharedPreferences(SHARED_PREFERENCES_NAME, Context.MODE_PRIVATE);
-
-        dataLoadingSuperMethod();
-        if (this.isSharedPreferencesOnline()) {
-            //? 2. Deserializamos los valores de esta vista para poder eliminar todos los valores
-            // que el usuario haya borrado anteriormente.
-            this.deserializeSharedPreferences();
-        }
+        //? 1.1 El cache en disco limpia las versiones anteriores en el ejecutor, antes de
+        // cualquier decodificacion, para no hacer I/O en el hilo principal
+        this.flagDiskCache = new FlagDiskCache(application);
+        this.flagDecodingExecutor.execute(this.flagDiskCache::removeStaleVersions);
+        //? 1.2 Cuando el cache expulsa una bandera su casilla por identificador se vacia
+        this.countryFlagCache.setOnEntryRemovedListener(
+                cacheKey -> this.countryFlagSlots.clearCacheKey(cacheKey));
+
+        //? 2. La carga de datos corre en el ejecutor y publica cada etapa en el hilo principal, el
+        // hilo principal puede dibujar la primera pantalla mientras tanto. Los valores que el
+        // usuario haya borrado anteriormente se restauran dentro de la misma carga.
+        this.flagDecodingExecutor.execute(() -> dataLoadingSuperMethod(true, null, null, null));
     }
 
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
      * Metodo principal de carga de datos que inicializa y popula las estructuras de datos
-     * fundamentales de la aplicacion. Este metodo se encarga de cargar las imagenes de banderas de
-     * paises, iconos de continentes y establecer las relaciones entre los diferentes elementos del
-     * modelo de datos.
+     * fundamentales de la aplicacion. Corre en el {@link FlagDecodingExecutor}, fuera del hilo
+     * principal, y publica sus resultados por etapas en el hilo principal: primero los continentes
+     * y paises, junto con los campos que los acompanan, ({@link LoadState#CATALOG_READY}) y luego los iconos ({@link LoadState#ICONS_READY}).
+     * Las banderas no se cargan aqui, se decodifican bajo demanda en
+     * {@link #requestCountryFlag(CountryInformation, FlagSizeBucket, Consumer)}.
      *
      * <h3>Metodologia:</h3>
      * <ol>
      * <li>Obtiene el AssetManager de la aplicacion para acceder a los recursos</li>
-     * <li>Carga las banderas de los paises y su informacion asociada</li>
-     * <li>Carga los iconos de los continentes y establece sus relaciones</li>
-     * <li>Actualiza los LiveData correspondientes con la informacion cargada</li>
+     * <li>Lee el catalogo de assets generado en tiempo de compilacion, si aun no se leyo</li>
+     * <li>Carga el catalogo completo; en una recarga, si no cambio, solo restaura las
+     * eliminaciones sobre el estado actual, y si cambio solo aplica los paises que cambiaron</li>
+     * <li>Asigna los identificadores de cada pais</li>
+     * <li>Lee de las preferencias el filtro de eliminados, si se pide restaurarlo</li>
+     * <li>Filtra los paises y continentes visibles con el filtro y publica ambas listas</li>
+     * <li>Carga los iconos de los continentes activos y publica su mapa</li>
+     * <li>En la primera carga vuelca el desglose del arranque por fase</li>
      * </ol>
      * </body>
      *
+     * @param restoreRemovedEntries Verdadero si se deben aplicar las eliminaciones guardadas en
+     *                              las preferencias compartidas
+     * @param previousCatalogTable  Tabla del catalogo en memoria al pedir una recarga, o null en
+     *                              la carga inicial
+     * @param previousPrefixIndex   Indice por prefijo de esa tabla, o null en la carga inicial
+     * @param previousFuzzyIndex    Indice de trigramas de esa tabla, o null en la carga inicial
      * @throws SecurityException     Si no se tienen los permisos necesarios para acceder a los
      *                               assets
-     * @throws IOException           Si ocurre un error durante la lectura de los archivos de
-     *                               recursos
      * @throws IllegalStateException Si el contexto de la aplicacion no esta disponible
      */
-    private void dataLoadingSuperMethod() {
-        AssetManager managerRequiredForImageExtraction =
-                this.applicationContext.getAssets();
-        //? 1. Habiendo registrado el managerRequiredForImageExtraction, si este no es nulo,
-        // tenemos que cargar las imagenes y analizar los valores
-        loadingAllCountriesAndCountriesFlagsHelper(managerRequiredForImageExtraction);
-        //? 2. Ahora cargamos los iconos de cada uno de los paises
-        loadingAllContinentNamesAndIcons(managerRequiredForImageExtraction);
+    private void dataLoadingSuperMethod(boolean restoreRemovedEntries,
+                                        CountryCatalogTable previousCatalogTable,
+                                        CountryPrefixIndex previousPrefixIndex,
+                                        CountryFuzzySearchIndex previousFuzzyIndex) {
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("dataLoadingSuperMethod");
+        boolean hasFinishedFirstLoad = false;
+        try {
+            AssetManager managerRequiredForImageExtraction =
+                    this.applicationContext.getAssets();
+            //? 1. Leemos el catalogo generado por Gradle, una sola lectura secuencial en lugar de
+            // listar cada carpeta de continente
+            if (this.assetCatalog == null) {
+                this.assetCatalog = AssetCatalog.loadFromAssets(managerRequiredForImageExtraction);
+            }
+            if (this.countryAliases == null) {
+                this.countryAliases =
+                        CountryAliasTable.loadFromAssets(managerRequiredForImageExtraction);
+            }
+
+            //? 2. Cargamos el catalogo completo, sin importar las eliminaciones, de forma que cada
+            // pais recibe siempre el mismo identificador y el filtro guardado sigue siendo valido
+            List<CountryInformation> catalogCountries =
+                    loadingAllCountriesHelper(managerRequiredForImageExtraction,
+                                              DEFAULT_CONTINENT_LIST);
+            //> 2.1 En una recarga comparamos con el catalogo en memoria. Si no cambio se conservan
+            // la tabla, sus paises, los indices y las banderas, y solo se restauran las
+            // eliminaciones en el hilo principal
+            if (previousCatalogTable != null && previousCatalogTable.size() > 0) {
+                if (previousCatalogTable.hasSameEntriesAs(catalogCountries)) {
+                    this.postingToMainThreadHelper(this::restoringAllRemovedEntriesHelper);
+                    return;
+                }
+                //> 2.2 Si cambio, los paises iguales (misma bandera, nombre y continente) se
+                // reutilizan y los indices de busqueda solo agregan y quitan los que cambiaron.
+                // Lo que depende de los identificadores se actualiza en el hilo principal
+                CountryCatalogTable.CatalogChanges catalogChanges =
+                        previousCatalogTable.reconcile(catalogCountries);
+                CountryPrefixIndex reconciledPrefixIndex = previousPrefixIndex.withChanges(
+                        catalogChanges.getDroppedCountries(), catalogChanges.getAddedCountries());
+                CountryFuzzySearchIndex reconciledFuzzyIndex = previousFuzzyIndex.withChanges(
+                        catalogChanges.getDroppedCountries(), catalogChanges.getAddedCountries(),
+                        this.countryAliases);
+                this.postingToMainThreadHelper(() -> this.applyingCatalogChangesHelper(
+                        catalogChanges, reconciledPrefixIndex, reconciledFuzzyIndex));
+                return;
+            }
+            CountryCatalogTable loadedCountryCatalogTable =
+                    CountryCatalogTable.of(catalogCountries, DEFAULT_CONTINENT_LIST);
+
+            //? 3. Restauramos el filtro de eliminados y separamos continentes y paises visibles,
+            // cada uno con una prueba de bit
+            CountryRemovalFilter loadedRemovalFilter =
+                    restoreRemovedEntries && this.isSharedPreferencesOnline()
+                    ? this.deserializeSharedPreferences(loadedCountryCatalogTable, catalogCountries)
+                    : CountryRemovalFilter.empty();
+            List<String> activeContinents = new ArrayList<>(DEFAULT_CONTINENT_LIST.size());
+            for (int ordinal = 0; ordinal < DEFAULT_CONTINENT_LIST.size(); ordinal++) {
+                if (!loadedRemovalFilter.isContinentRemoved(ordinal)) {
+                    activeContinents.add(DEFAULT_CONTINENT_LIST.get(ordinal));
+                }
+            }
+            List<CountryInformation> loadedCountries =
+                    new ArrayList<>(loadedCountryCatalogTable.size());
+            for (int countryId = 0; countryId < loadedCountryCatalogTable.size(); countryId++) {
+                if (loadedRemovalFilter.isCountryVisible(
+                        countryId, loadedCountryCatalogTable.continentOrdinalOf(countryId))) {
+                    loadedCountries.add(loadedCountryCatalogTable.countryOf(countryId));
+                }
+            }
+
+            //? 4. Publicamos continentes y paises como versiones inmutables. El indice por nombre
+            // solo tiene los visibles, los indices de busqueda tienen todo el catalogo para que un
+            // pais restaurado se encuentre sin reconstruirlos
+            //> 4.1 Los campos y las listas se publican en el mismo trabajo del hilo principal con
+            // setValue; un postValue aparte no garantiza llegar despues de los campos, y un
+            // observador podria leer la lista nueva con las particiones anteriores
+            PersistentCountryList loadedCountryListSnapshot =
+                    PersistentCountryList.of(loadedCountries);
+            CountryNameIndex loadedCountryNameIndex = CountryNameIndex.of(loadedCountries);
+            CountryPartitions loadedCountryPartitions = CountryPartitions.of(loadedCountries);
+            CountryPrefixIndex loadedCountryPrefixIndex = CountryPrefixIndex.of(catalogCountries);
+            CountryFuzzySearchIndex loadedCountryFuzzySearchIndex =
+                    CountryFuzzySearchIndex.of(catalogCountries, this.countryAliases);
+            this.postingToMainThreadHelper(() -> {
+                this.countryCatalogTable = loadedCountryCatalogTable;
+                this.removalFilter = loadedRemovalFilter;
+                this.countryFlagSlots = new CountryFlagSlots(loadedCountryCatalogTable.size());
+                this.countryListSnapshot = loadedCountryListSnapshot;
+                this.countryNameIndex = loadedCountryNameIndex;
+                this.countryPartitions = loadedCountryPartitions;
+                this.countryPrefixIndex = loadedCountryPrefixIndex;
+                this.countryFuzzySearchIndex = loadedCountryFuzzySearchIndex;
+                this.mutableContinentList.setValue(Collections.unmodifiableList(activeContinents));
+                this.mutableCountryList.setValue(loadedCountryListSnapshot);
+                this.applyingCountrySearchHelper(this.mutableCountrySearchQuery.getValue(), false);
+            });
+            advanceLoadState(LoadState.CATALOG_READY);
+
+            //? 5. Ahora cargamos los iconos de los continentes activos
+            this.mutableContinentIconMap.postValue(Collections.unmodifiableMap(
+                    loadingAllContinentNamesAndIcons(managerRequiredForImageExtraction,
+                                                     activeContinents)));
+            synchronized (this) {
+                hasFinishedFirstLoad = !this.currentLoadState.hasReached(LoadState.ICONS_READY);
+                advanceLoadState(LoadState.ICONS_READY);
+            }
+        } finally {
+            StartupTraceRecorder.endPhase("dataLoadingSuperMethod", phaseStartNanos);
+        }
+
+        //? 6. Al terminar la primera carga volcamos el desglose por fase, ya con la duracion de
+        // este metodo. No depende de que el usuario abra un continente ni de que se usen atlas
+        if (hasFinishedFirstLoad) {
+            dumpingStartupTraceHelper(LoadState.ICONS_READY);
+            synchronized (this) {
+                if (this.hasDeliveredFirstFlagScreen) {
+                    advanceLoadState(LoadState.FLAGS_WARM);
+                }
+            }
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que avanza la etapa de carga publicada. Se puede llamar desde cualquier hilo;
+     * si la etapa pedida es anterior o igual a la actual no se publica nada, de forma que las
+     * etapas nunca retroceden.
+     * </body>
+     *
+     * @param reachedState Etapa alcanzada
+     */
+    private synchronized void advanceLoadState(LoadState reachedState) {
+        if (this.currentLoadState.hasReached(reachedState)) {
+            return;
+        }
+        this.currentLoadState = reachedState;
+        this.mutableLoadState.postValue(reachedState);
+        //? Cuando la primera pantalla de banderas queda caliente volcamos el desglose otra vez,
+        // ahora con las fases de las banderas
+        if (reachedState == LoadState.FLAGS_WARM) {
+            dumpingStartupTraceHelper(reachedState);
+        }
+    }
+
+    /**
+     * @description: vuelca el desglose por fase a logcat y a un archivo en cacheDir, para atribuir
+     * una regresion del arranque a una fase especifica. El archivo se reescribe en cada volcado,
+     * por lo que queda el ultimo y mas completo
+     */
+    private void dumpingStartupTraceHelper(LoadState reachedState) {
+        if (this.hasBeenCleared) {
+            return;
+        }
+        StartupTraceRecorder.dumpToLogcat("arranque hasta " + reachedState);
+        this.flagDecodingExecutor.execute(() -> StartupTraceRecorder.dumpToFile(
+                new File(this.applicationContext.getCacheDir(), STARTUP_TRACE_FILE_NAME),
+                "arranque hasta " + reachedState));
+    }
 
+    /**
+     * @description: publica un trabajo en el hilo principal que no corre si el view model ya se
+     * limpio. Todos los resultados que llegan desde el ejecutor pasan por aqui
+     */
+    private void postingToMainThreadHelper(Runnable mainThreadWork) {
+        this.mainThreadHandler.post(() -> {
+            if (!this.hasBeenCleared) {
+                mainThreadWork.run();
+            }
+        });
+    }
 
+    public LiveData<LoadState> getConstantLoadState() {
+        return constantLoadState;
+    }
 
+    public LiveData<Map<String, Bitmap>> getConstantContinentIconMap() {
+        return constantContinentIconMap;
     }
 
 
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
-     * Metodo encargado de recargar completamente el modelo de datos de la aplicacion. Reinicializa
-     * las listas de continentes y paises a sus valores predeterminados, recarga todas las imagenes
-     * y banderas, y limpia cualquier estado anterior de elementos eliminados.
+     * Metodo encargado de recargar el modelo de datos de la aplicacion y limpiar cualquier estado
+     * anterior de elementos eliminados. El catalogo se lee de nuevo en segundo plano y se compara
+     * con el que esta en memoria: si no cambio, se conservan los paises, los indices y las
+     * banderas ya decodificadas, y solo se restauran y publican los elementos eliminados. Si
+     * cambio, se arma de nuevo; las banderas del cache se conservan igual dado que su llave es la
+     * ruta del asset.
      *
      * <h3>Metodologia:</h3>
      * <ol>
-     * <li>Obtiene el AssetManager para acceder a los recursos de la aplicacion</li>
-     * <li>Reinicializa la lista de continentes a sus valores predeterminados</li>
-     * <li>Recarga todas las banderas de paises y su informacion asociada</li>
-     * <li>Recarga todos los iconos de continentes</li>
-     * <li>Limpia las listas de elementos eliminados</li>
      * <li>Elimina las preferencias compartidas relacionadas</li>
+     * <li>Lee el catalogo en segundo plano y lo compara con el actual</li>
+     * <li>Restaura las eliminaciones o publica el catalogo nuevo en el hilo principal</li>
      * </ol>
      * </body>
      *
@@ -262,28 +624,180 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      */
     public void reloadDataModel(){
         this.selectedContinentPriorReloading = this.getMutableSelectedContinent().getValue();
-        AssetManager managerRequiredForImageExtraction =
-                this.applicationContext.getAssets();
-        this.mutableContinentList.setValue(List.of("Americas", "Asia", "Africa", "Europe",
-                                                  "Oceania"));
-        loadingAllCountriesAndCountriesFlagsHelper(managerRequiredForImageExtraction);
-        //? 2. Ahora cargamos los iconos de cada uno de los paises
-        loadingAllContinentNamesAndIcons(managerRequiredForImageExtraction);
-        //? 3. Reseteamos el data cleanup
-        this.removedContinentList.clear();
-        this.removedCountryList.clear();
+        //? 1. Reseteamos el data cleanup
+        this.cleanUpSharedPreferences();
+        //? 2. El catalogo se lee y se compara en segundo plano, sin restaurar eliminaciones. La
+        // tabla y los indices de busqueda son inmutables, por lo que se pueden leer desde el
+        // ejecutor
+        CountryCatalogTable previousCatalogTable = this.countryCatalogTable;
+        CountryPrefixIndex previousPrefixIndex = this.countryPrefixIndex;
+        CountryFuzzySearchIndex previousFuzzyIndex = this.countryFuzzySearchIndex;
+        this.flagDecodingExecutor.execute(
+                () -> dataLoadingSuperMethod(false, previousCatalogTable, previousPrefixIndex,
+                                             previousFuzzyIndex));
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar de la recarga cuando el catalogo no cambio. Restaura todos los elementos
+     * eliminados sobre el estado actual y publica solo lo que cambio: si no habia nada eliminado
+     * no se publica nada.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Lee los continentes y paises eliminados y limpia el filtro</li>
+     *   <li>Agrega los paises al listado, al indice por nombre y a las particiones</li>
+     *   <li>Publica los continentes y el listado, solo si cambiaron</li>
+     *   <li>Recupera los iconos que falten</li>
+     * </ol>
+     * </body>
+     */
+    private void restoringAllRemovedEntriesHelper() {
+        if (this.removalFilter.isEmpty()) {
+            return;
+        }
+        //? 1. Recogemos lo eliminado antes de limpiar el filtro
+        List<String> restoredContinents = this.getRemovedContinents();
+        List<CountryInformation> restoredCountries = this.getRemovedCountries();
+        for (String restoredContinent : restoredContinents) {
+            int continentOrdinal = this.countryCatalogTable.continentOrdinalOf(restoredContinent);
+            for (int countryId = 0; countryId < this.countryCatalogTable.size(); countryId++) {
+                if (this.countryCatalogTable.continentOrdinalOf(countryId) == continentOrdinal) {
+                    restoredCountries.add(this.countryCatalogTable.countryOf(countryId));
+                }
+            }
+        }
+        this.removalFilter = CountryRemovalFilter.empty();
+
+        //? 2. Pocos paises se agregan uno a uno en O(log n), si son varios el catalogo completo
+        // ya esta ordenado por identificador y se arma en una pasada, con los mismos objetos
+        if (restoredCountries.size() > 1) {
+            this.countryListSnapshot = PersistentCountryList.of(this.countryCatalogTable.asList());
+            this.countryPartitions = CountryPartitions.of(this.countryListSnapshot);
+        } else {
+            for (CountryInformation restoredCountry : restoredCountries) {
+                this.countryListSnapshot = this.countryListSnapshot.with(restoredCountry);
+                this.countryPartitions = this.countryPartitions.withCountry(restoredCountry);
+            }
+        }
+        for (CountryInformation restoredCountry : restoredCountries) {
+            this.countryNameIndex.putIfAbsent(restoredCountry);
+        }
+        this.linkingCachedFlagsOfCountriesHelper(restoredCountries);
+        this.applyingCountrySearchHelper(this.mutableCountrySearchQuery.getValue(), false);
+
+        //? 3. Publicamos solo lo que cambio
+        if (!restoredContinents.isEmpty()) {
+            this.mutableContinentList.setValue(DEFAULT_CONTINENT_LIST);
+        }
+        this.mutableCountryList.setValue(this.countryListSnapshot);
+        //> 3.1 Una eliminacion hecha mientras se leia el catalogo pudo volver a guardar el filtro
+        this.cleanUpSharedPreferences();
+
+        //? 4. Solo se leen los iconos de los continentes restaurados que falten
+        this.loadingMissingContinentIconsHelper(restoredContinents);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar de la recarga cuando el catalogo cambio. Aplica sobre el estado actual solo
+     * los paises que entraron o salieron del catalogo y restaura todas las eliminaciones. Los
+     * paises reutilizados son los mismos objetos, por lo que sus filas, sus banderas y los indices
+     * que los referencian se conservan, y la lista de cada continente sin cambios es la misma
+     * lista: las vistas solo reciben las inserciones y eliminaciones reales.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Recoge con los identificadores anteriores lo que estaba eliminado</li>
+     *   <li>Asigna los identificadores nuevos y mueve las casillas de banderas a ellos</li>
+     *   <li>Quita del indice por nombre los paises que salieron y agrega los nuevos y
+     *   restaurados</li>
+     *   <li>Arma el listado y las particiones, solo con los cambios si ningun identificador se
+     *   movio</li>
+     *   <li>Publica continentes y paises y recupera los iconos que falten</li>
+     * </ol>
+     * </body>
+     *
+     * @param catalogChanges          Cambios del catalogo, ver
+     *                                {@link CountryCatalogTable#reconcile(List)}
+     * @param reconciledPrefixIndex   Indice por prefijo con los cambios aplicados
+     * @param reconciledFuzzyIndex    Indice de trigramas con los cambios aplicados
+     */
+    private void applyingCatalogChangesHelper(CountryCatalogTable.CatalogChanges catalogChanges,
+                                              CountryPrefixIndex reconciledPrefixIndex,
+                                              CountryFuzzySearchIndex reconciledFuzzyIndex) {
+        //? 1. Lo eliminado se lee antes de cambiar los identificadores, el filtro usa los
+        // anteriores
+        CountryCatalogTable catalogTable = catalogChanges.getCatalogTable();
+        List<String> restoredContinents = this.getRemovedContinents();
+        boolean[] wasHiddenPerCountryId = new boolean[catalogTable.size()];
+        for (int countryId = 0; countryId < catalogTable.size(); countryId++) {
+            int previousId = catalogChanges.previousIdOf(countryId);
+            wasHiddenPerCountryId[countryId] = previousId != CountryInformation.NO_COUNTRY_ID
+                    && !this.removalFilter.isCountryVisible(
+                            previousId, this.countryCatalogTable.continentOrdinalOf(previousId));
+        }
+
+        //? 2. Identificadores nuevos, tabla, filtro vacio y casillas movidas
+        catalogChanges.applyCountryIds();
+        boolean keepsCountryIds = catalogChanges.keepsCountryIds();
+        this.countryCatalogTable = catalogTable;
+        this.removalFilter = CountryRemovalFilter.empty();
+        this.countryFlagSlots = this.countryFlagSlots.remapped(
+                catalogChanges.countryIdPerPreviousId(), catalogTable.size());
+        this.linkingCachedFlagsOfCountriesHelper(catalogChanges.getAddedCountries());
+
+        //? 3. Indice por nombre: un pais que salio solo se quita si su nombre sigue apuntando a el
+        for (CountryInformation droppedCountry : catalogChanges.getDroppedCountries()) {
+            if (this.countryNameIndex.get(droppedCountry.getCountryName()) == droppedCountry) {
+                this.countryNameIndex.remove(droppedCountry.getCountryName());
+            }
+        }
+        List<CountryInformation> insertedCountries = new ArrayList<>();
+        for (int countryId = 0; countryId < catalogTable.size(); countryId++) {
+            if (catalogChanges.previousIdOf(countryId) == CountryInformation.NO_COUNTRY_ID
+                    || wasHiddenPerCountryId[countryId]) {
+                CountryInformation insertedCountry = catalogTable.countryOf(countryId);
+                this.countryNameIndex.putIfAbsent(insertedCountry);
+                insertedCountries.add(insertedCountry);
+            }
+        }
+
+        //? 4. Si ningun pais se movio el listado solo quita los que salieron y mezcla los
+        // insertados; si no, se arma en una pasada con los mismos objetos. Las particiones
+        // comparten las listas de los continentes sin cambios
+        if (keepsCountryIds) {
+            this.countryListSnapshot = this.countryListSnapshot
+                    .withoutMatching(country -> !catalogTable.contains(country))
+                    .withAll(insertedCountries);
+        } else {
+            this.countryListSnapshot = PersistentCountryList.of(catalogTable.asList());
+        }
+        this.countryPartitions = this.countryPartitions.reconciledWith(this.countryListSnapshot);
+        this.countryPrefixIndex = reconciledPrefixIndex;
+        this.countryFuzzySearchIndex = reconciledFuzzyIndex;
+        this.applyingCountrySearchHelper(this.mutableCountrySearchQuery.getValue(), false);
+
+        //? 5. Publicamos, limpiamos el filtro guardado y recuperamos los iconos que falten
+        if (!restoredContinents.isEmpty()) {
+            this.mutableContinentList.setValue(DEFAULT_CONTINENT_LIST);
+        }
+        this.mutableCountryList.setValue(this.countryListSnapshot);
         this.cleanUpSharedPreferences();
+        this.loadingMissingContinentIconsHelper(restoredContinents);
     }
 
     public void reloadPriorSelectedContinent(){
-        this.mutableSelectedContinent.setValue(this.selectedContinentPriorReloading);
+        this.setSelectedContinentIntoMutableData(this.selectedContinentPriorReloading);
     }
 
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
      * Metodo encargado de limpiar las preferencias compartidas almacenadas en la aplicacion.
-     * Elimina todos los registros de continentes y paises removidos previamente almacenados. Este
+     * Elimina el filtro de continentes y paises removidos, y las listas del formato anterior. Este
      * metodo es fundamental para resetear el estado de la aplicacion a sus valores
      * predeterminados.
      *
@@ -291,8 +805,8 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * <ol>
      * <li>Verifica si las preferencias compartidas estan disponibles y activas</li>
      * <li>Obtiene un editor de preferencias compartidas</li>
-     * <li>Elimina la lista de continentes removidos</li>
-     * <li>Elimina la lista de paises removidos</li>
+     * <li>Elimina el filtro de eliminados</li>
+     * <li>Elimina las listas del formato anterior, si aun existen</li>
      * <li>Aplica los cambios de manera asincrona</li>
      * </ol>
      * </body>
@@ -304,6 +818,7 @@ public class ApplicationDataPOJO extends AndroidViewModel {
     private void cleanUpSharedPreferences(){
         if (this.isSharedPreferencesOnline()) {
             SharedPreferences.Editor editor = this.preferencesFromApplication.edit();
+            editor.remove(SP_REMOVED_ENTRIES_FILTER);
             editor.remove(SP_REMOVED_CONTINENT_LIST);
             editor.remove(SP_REMOVED_COUNTRIES_LIST);
             editor.apply();
@@ -314,70 +829,119 @@ public class ApplicationDataPOJO extends AndroidViewModel {
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
-     * Metodo auxiliar encargado de cargar la informacion de todos los paises y sus banderas
-     * correspondientes desde los assets de la aplicacion. Este proceso incluye la creacion de
-     * objetos CountryInformation para cada pais y la carga de sus imagenes de banderas en formato
-     * Bitmap.
+     * Metodo auxiliar encargado de cargar la informacion de todos los paises desde los assets de
+     * la aplicacion. Este proceso incluye la creacion de objetos CountryInformation para cada pais
+     * con la ruta de su bandera, pero sin decodificar la imagen, lo cual se hace bajo demanda. Los
+     * datos se toman del catalogo generado en compilacion, y solo si este no existe se listan las
+     * carpetas de los assets.
      *
      * <h3>Metodologia:</h3>
      * <ol>
-     *   <li>Inicializa las estructuras de datos para almacenar paises e imagenes</li>
-     *   <li>Itera sobre cada region/continente definido en el sistema</li>
-     *   <li>Para cada region, lee y procesa los archivos de imagen de banderas</li>
-     *   <li>Crea objetos CountryInformation con la informacion extraida</li>
-     *   <li>Carga las imagenes de banderas como Bitmaps</li>
-     *   <li>Actualiza los LiveData con la informacion procesada</li>
+     *   <li>Si existe el catalogo, crea los paises directamente desde sus entradas</li>
+     *   <li>Si no, lista las carpetas de cada continente y extrae los nombres</li>
      * </ol>
      * </body>
      *
      * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los recursos
      *                                          de la aplicacion
+     * @param activeContinents                  Continentes cuyos paises se deben cargar
+     * @return List Listado de paises de los continentes pedidos
      * @throws SecurityException        Si no se tienen los permisos necesarios para acceder a los
      *                                  assets
-     * @throws IOException              Si ocurre un error durante la lectura de archivos
      * @throws IllegalArgumentException Si el path de los assets es invalido
+     */
+    private List<CountryInformation> loadingAllCountriesHelper(
+            AssetManager managerRequiredForImageExtraction, List<String> activeContinents) {
+        AssetCatalog catalog = this.assetCatalog;
+        if (catalog != null) {
+            return loadingAllCountriesFromCatalog(catalog, activeContinents);
+        }
+        return loadingAllCountriesByListingAssets(managerRequiredForImageExtraction,
+                                                  activeContinents);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que crea los objetos CountryInformation a partir de las entradas del
+     * catalogo de assets. Los nombres ya vienen procesados desde la tarea de Gradle, por lo que
+     * aqui no se manipulan Strings.
+     * </body>
+     *
+     * @param catalog          Catalogo de assets leido desde el APK
+     * @param activeContinents Continentes cuyos paises se deben cargar
+     * @return List Listado de paises de los continentes activos
+     */
+    private List<CountryInformation> loadingAllCountriesFromCatalog(AssetCatalog catalog,
+                                                                    List<String> activeContinents) {
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("loadingAllCountriesFromCatalog");
+        try {
+            List<CountryInformation> loadedCountries =
+                    new ArrayList<>(catalog.getCountries().size());
+            for (AssetCatalog.Entry entry : catalog.getCountries()) {
+                if (activeContinents.contains(entry.getContinent())) {
+                    loadedCountries.add(new CountryInformation(entry.getContinent(),
+                                                               entry.getDisplayName(),
+                                                               entry.getAssetPath()));
+                }
+            }
+            return loadedCountries;
+        } finally {
+            StartupTraceRecorder.endPhase("loadingAllCountriesFromCatalog", phaseStartNanos);
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar de respaldo que lista las carpetas de cada continente con el AssetManager y
+     * extrae el nombre de cada pais del nombre de su archivo. Solo se usa cuando el catalogo
+     * generado en compilacion no esta disponible.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Itera sobre cada region/continente definido en el sistema</li>
+     *   <li>Para cada region, lee el listado de archivos de imagen de banderas</li>
+     *   <li>Crea objetos CountryInformation con la informacion extraida</li>
+     * </ol>
+     * </body>
+     *
+     * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los recursos
+     *                                          de la aplicacion
+     * @param activeContinents                  Continentes cuyos paises se deben cargar
+     * @return List Listado de paises de los continentes activos
+     * @throws IOException              Si ocurre un error durante la lectura de archivos
      * @throws NullPointerException     Si el AssetManager proporcionado es nulo
      */
-    private void loadingAllCountriesAndCountriesFlagsHelper(
-            AssetManager managerRequiredForImageExtraction) {
+    private List<CountryInformation> loadingAllCountriesByListingAssets(
+            AssetManager managerRequiredForImageExtraction, List<String> activeContinents) {
         List<CountryInformation> loadedCountries = new ArrayList<>();
-        Map<String, Bitmap> imagesCountries = new ConcurrentHashMap<>();
         if (managerRequiredForImageExtraction != null) {
             //? 2. Leemos todos los components de las assets, buscando las carpetas e imagenes
             try {
                 //? 2.1 Iteramos sobre todas las direcciones que tiene el path de la region
-                for (String regionDefinedWithin : Objects.requireNonNull(
-                        constantContinentList.getValue())) {
-                    String[] pathsPerImage =
-                            managerRequiredForImageExtraction.list(regionDefinedWithin);
-
-                    //? 2.2 Creamos un objeto interno de cada pais por categoria
-                    for (String path : pathsPerImage) {
-                        CountryInformation information = new CountryInformation();
-                        information.setCountryContinent(regionDefinedWithin);
-                        String pathWithoutExtension = path.replace(".png", "");
-                        information.setCountryName(pathWithoutExtension
-                                                           .substring(regionDefinedWithin.length() + 1)
-                                                           .replace('_', ' '));
-                        information.setCountryImageAssetPath(regionDefinedWithin + "/" + path);
-
-                        //? 2.3 Cargamos este objeto dentro del arreglo general
-                        loadedCountries.add(information);
-                        //? 2.4 Descargamos las imagenes para cargarlas al archivo con el path
-                        ExecutorService service = Executors.newCachedThreadPool();
-                        service.submit(() -> {
-                            Bitmap imageForCountryBitmap = null;
-                            try (InputStream streamForImage = managerRequiredForImageExtraction.open(
-                                    information.getCountryImageAssetPath())) {
-                                imageForCountryBitmap = BitmapFactory.decodeStream(streamForImage);
-                                imagesCountries.put(information.getCountryImageAssetPath(), imageForCountryBitmap);
-                            } catch (Exception e) {
-                                Log.e("[ApplicationDataPOJO]", "Error Code 0x001 - [Raised] - ApplicationDataPOJO" +
-                                        " - ApplicationDataPOJO - IOException - " + e.getMessage());
-                                e.printStackTrace();
-                            }
-                        });
-
+                for (String regionDefinedWithin : activeContinents) {
+                    String listingPhaseName = "listingContinent:" + regionDefinedWithin;
+                    long phaseStartNanos = StartupTraceRecorder.beginPhase(listingPhaseName);
+                    try {
+                        String[] pathsPerImage =
+                                managerRequiredForImageExtraction.list(regionDefinedWithin);
+
+                        //? 2.2 Creamos un objeto interno de cada pais por categoria
+                        for (String path : pathsPerImage) {
+                            CountryInformation information = new CountryInformation();
+                            information.setCountryContinent(regionDefinedWithin);
+                            String pathWithoutExtension = path.replace(".png", "");
+                            information.setCountryName(pathWithoutExtension
+                                                               .substring(regionDefinedWithin.length() + 1)
+                                                               .replace('_', ' '));
+                            information.setCountryImageAssetPath(regionDefinedWithin + "/" + path);
+
+                            //? 2.3 Cargamos este objeto dentro del arreglo general
+                            loadedCountries.add(information);
+                        }
+                    } finally {
+                        StartupTraceRecorder.endPhase(listingPhaseName, phaseStartNanos);
                     }
                 }
             } catch (IOException e) {
@@ -385,13 +949,8 @@ public class ApplicationDataPOJO extends AndroidViewModel {
                         " - ApplicationDataPOJO - IOException - " + e.getMessage());
                 e.printStackTrace();
             }
-
         }
-        //? 3. Con la data cargada la colocamos en los LiveData internos
-        this.mutableCountryFlagMap.setValue(new HashMap<>());
-        this.mutableCountryFlagMap.setValue(imagesCountries);
-        this.mutableCountryList.setValue(new ArrayList<>());
-        mutableCountryList.setValue(loadedCountries);
+        return loadedCountries;
     }
 
     /**
@@ -405,35 +964,62 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * <h3>Metodologia:</h3>
      * <ol>
      *   <li>Inicializa un mapa concurrente para almacenar los iconos cargados</li>
-     *   <li>Lee el listado de archivos de iconos desde la carpeta Icons</li>
+     *   <li>Toma el listado de iconos del catalogo, o lo lee desde la carpeta Icons</li>
      *   <li>Procesa cada archivo de icono de forma asincrona utilizando un ExecutorService</li>
-     *   <li>Convierte cada archivo de imagen a un objeto Bitmap</li>
+     *   <li>Convierte cada archivo de imagen a un objeto Bitmap del tamano de la fila</li>
      *   <li>Almacena los Bitmaps en el mapa utilizando el nombre del archivo sin extension</li>
-     *   <li>Actualiza el LiveData con el mapa de iconos procesado</li>
      * </ol>
      * </body>
      *
      * @param managerRequiredForImageExtraction AssetManager necesario para acceder a los recursos
+     * @param activeContinents                  Continentes cuyos iconos se deben cargar
+     * @return Map Mapa de iconos por nombre de continente
      * @throws SecurityException        Si no se tienen los permisos necesarios para acceder a los
      *                                  assets
      * @throws IOException              Si ocurre un error durante la lectura de archivos
      * @throws IllegalArgumentException Si el path de los assets es invalido
      * @throws NullPointerException     Si el AssetManager proporcionado es nulo
      */
-    private void loadingAllContinentNamesAndIcons(AssetManager managerRequiredForImageExtraction) {
-        Map<String, Bitmap> iconsLoaded = new ConcurrentHashMap<>();
+    private Map<String, Bitmap> loadingAllContinentNamesAndIcons(
+            AssetManager managerRequiredForImageExtraction, List<String> activeContinents) {
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("loadingAllContinentNamesAndIcons");
         try {
-            String[] icons = managerRequiredForImageExtraction.list("Icons");
-            System.out.println(Arrays.toString(icons));
-            for (String icon : icons) {
-                String pathWithoutExtension = icon.replace(".png", "");
+            Map<String, Bitmap> iconsLoaded = new ConcurrentHashMap<>();
+            //? 1. Los iconos se dibujan en la misma fila que las banderas, por lo que los
+            // decodificamos solo al tamano de esa fila
+            FlagSizeBucket iconSizeBucket = FlagSizeBucket.forTargetSize(
+                    this.applicationContext.getResources()
+                            .getDimensionPixelSize(R.dimen.country_row_flag_size));
+            //? 2. Determinamos los iconos a cargar, desde el catalogo si existe o listando la carpeta
+            Map<String, String> iconAssetPathPerContinent = new LinkedHashMap<>();
+            AssetCatalog catalog = this.assetCatalog;
+            if (catalog != null) {
+                for (AssetCatalog.Entry entry : catalog.getIcons()) {
+                    iconAssetPathPerContinent.put(entry.getDisplayName(), entry.getAssetPath());
+                }
+            } else {
+                try {
+                    String[] icons = managerRequiredForImageExtraction.list("Icons");
+                    for (String icon : icons) {
+                        iconAssetPathPerContinent.put(icon.replace(".png", ""), "Icons/" + icon);
+                    }
+                } catch (IOException e) {
+                    Log.e("[ApplicationDataPOJO]", "Error Code 0x001 - [Raised] - ApplicationDataPOJO" +
+                            " - ApplicationDataPOJO - IOException - " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+
+            //? 3. Decodificamos cada icono al tamano de la fila, o lo leemos del cache en disco,
+            // solo para los continentes que se muestran
+            iconAssetPathPerContinent.keySet().retainAll(activeContinents);
+            for (Map.Entry<String, String> icon : iconAssetPathPerContinent.entrySet()) {
                 try {
-                    InputStream streamFromPath =
-                            managerRequiredForImageExtraction.open("Icons/" + icon);
-                    Bitmap bitmap = BitmapFactory.decodeStream(streamFromPath);
-                    streamFromPath.close();
+                    Bitmap bitmap = loadingFlagThroughDiskCache(
+                            managerRequiredForImageExtraction, icon.getValue(), iconSizeBucket,
+                            this.flagBitmapConfigPolicy.resolveFor(false));
                     if (bitmap != null) {
-                        iconsLoaded.put(pathWithoutExtension, bitmap);
+                        iconsLoaded.put(icon.getKey(), bitmap);
                     }
                 } catch (IOException e) {
                     Log.e("[ApplicationDataPOJO]", "Error Code 0x001 - [Raised] - ApplicationDataPOJO" +
@@ -441,15 +1027,11 @@ public class ApplicationDataPOJO extends AndroidViewModel {
                     e.printStackTrace();
                 }
             }
-        } catch (IOException e) {
-            Log.e("[ApplicationDataPOJO]", "Error Code 0x001 - [Raised] - ApplicationDataPOJO" +
-                    " - ApplicationDataPOJO - IOException - " + e.getMessage());
-            e.printStackTrace();
-        }
 
-        //? 5. Cargamos los iconos y su mapa hacia el mutable live data
-        this.mutableContinentIconMap.setValue(new HashMap<>());
-        this.mutableContinentIconMap.setValue(iconsLoaded);
+            return iconsLoaded;
+        } finally {
+            StartupTraceRecorder.endPhase("loadingAllContinentNamesAndIcons", phaseStartNanos);
+        }
     }
 
 
@@ -457,14 +1039,14 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
      * Metodo interno que verifica el estado y disponibilidad de las preferencias compartidas de la
-     * aplicacion. Este metodo evalua si las preferencias estan inicializadas y si contienen datos
-     * serializados de continentes o paises removidos previamente.
+     * aplicacion. Este metodo evalua si las preferencias estan inicializadas y si contienen el
+     * filtro de eliminados, o las listas del formato anterior que aun no se migraron.
      *
      * <h3>Metodologia:</h3>
      * <ol>
      *   <li>Verifica que el objeto preferencesFromApplication no sea nulo</li>
-     *   <li>Comprueba la existencia de la clave para continentes removidos</li>
-     *   <li>Comprueba la existencia de la clave para paises removidos</li>
+     *   <li>Comprueba la existencia de la clave del filtro de eliminados</li>
+     *   <li>Comprueba la existencia de las claves del formato anterior</li>
      * </ol>
      * </body>
      *
@@ -477,7 +1059,8 @@ public class ApplicationDataPOJO extends AndroidViewModel {
     private boolean isSharedPreferencesOnline() {
         //? 2. Revisamos si no es nulo y existe contenido
         return this.preferencesFromApplication != null &&
-                (this.preferencesFromApplication.contains(SP_REMOVED_CONTINENT_LIST) ||
+                (this.preferencesFromApplication.contains(SP_REMOVED_ENTRIES_FILTER) ||
+                        this.preferencesFromApplication.contains(SP_REMOVED_CONTINENT_LIST) ||
                         this.preferencesFromApplication.contains(SP_REMOVED_COUNTRIES_LIST));
     }
 
@@ -485,167 +1068,143 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
      * Metodo interno responsable de deserializar las preferencias compartidas de la aplicacion.
-     * Este proceso recupera la informacion previamente guardada sobre continentes y paises
-     * eliminados del sistema. La deserializacion permite restaurar el estado anterior de la
-     * aplicacion en cuanto a elementos removidos.
+     * Este proceso recupera el filtro de continentes y paises eliminados del sistema. El filtro se
+     * guarda como unos pocos bytes en Base64, por lo que restaurarlo no depende de cuantos
+     * elementos se hayan eliminado.
+     *
+     * Se ejecuta dentro de la carga en segundo plano, despues de asignar los identificadores del
+     * catalogo. Si solo existen las listas del formato anterior, se migran una vez al filtro.
      *
      * <h3>Metodologia:</h3>
      * <ol>
-     *   <li>Recupera la cadena de continentes eliminados desde las preferencias compartidas</li>
-     *   <li>Procesa la cadena y elimina los continentes del sistema actual</li>
-     *   <li>Recupera la cadena de paises eliminados desde las preferencias compartidas</li>
-     *   <li>Procesa la cadena y elimina los paises del sistema actual</li>
+     *   <li>Decodifica el filtro guardado, reubicando sus paises si el catalogo cambio</li>
+     *   <li>Si no existe, resuelve los continentes y paises de las listas anteriores</li>
+     *   <li>Guarda el filtro migrado y elimina las listas anteriores</li>
      * </ol>
      * </body>
      *
+     * @param catalogTable     Tabla del catalogo recien cargado
+     * @param catalogCountries Paises del catalogo, para resolver los nombres del formato anterior
+     * @return CountryRemovalFilter Filtro restaurado, vacio si no habia nada que restaurar
      * @throws SecurityException        Si no hay permisos para acceder a las preferencias
      *                                  compartidas
      * @throws IllegalStateException    Si las preferencias compartidas no estan disponibles
-     * @throws IllegalArgumentException Si el formato de los datos serializados es invalido
      */
-    private void deserializeSharedPreferences() {
-        //? 1. Cargamos al programa la lista de continentes eliminados directamente, dado que
-        // estos nos eliminan mas rapidamente varios paises.
-        String removedContinents = this.preferencesFromApplication
-                .getString(SP_REMOVED_CONTINENT_LIST, "");
-        if (!removedContinents.isEmpty()) {
-            var newString = removedContinents.replace('[', ' ').replace(']', ' ');
-            for (String continentName : newString.split(",")) {
-                if (!continentName.isEmpty()) {
-                    this.removeConstantContinentFromContinentList(
-                            continentName.trim().strip());
+    private CountryRemovalFilter deserializeSharedPreferences(
+            CountryCatalogTable catalogTable, List<CountryInformation> catalogCountries) {
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("deserializeSharedPreferences");
+        try {
+            //? 1. Decodificamos el filtro. Si fue guardado con otro catalogo (una actualizacion
+            // agrego, renombro o reordeno banderas) el filtro reubica los paises eliminados por
+            // nombre, y lo guardamos de nuevo con la huella actual para no repetirlo
+            String encodedFilter =
+                    this.preferencesFromApplication.getString(SP_REMOVED_ENTRIES_FILTER, null);
+            if (encodedFilter != null) {
+                CountryRemovalFilter restoredFilter =
+                        CountryRemovalFilter.decode(encodedFilter, catalogTable);
+                if (restoredFilter != null) {
+                    String reencodedFilter = restoredFilter.encode(catalogTable);
+                    if (!reencodedFilter.equals(encodedFilter)) {
+                        this.preferencesFromApplication.edit()
+                                .putString(SP_REMOVED_ENTRIES_FILTER, reencodedFilter)
+                                .apply();
+                    }
+                    return restoredFilter;
                 }
+                Log.w("[ApplicationDataPOJO]", "Error Code 0x001 - [Raised] - ApplicationDataPOJO" +
+                        " - deserializeSharedPreferences - filtro guardado ilegible");
             }
-        }
 
-        //? 2. Cargamos al programa la lista de paises eliminados, en este contexto, solo
-        // tendremos paises libres si su continente no se ha eliminado completamente, por
-        // ejemplo, si eliminamos USA y Canada, pero no Americas, entonces estos quedan, pero si
-        // eliminamos Americas, entonces eliminamos los paises eliminados y nos valemos de los
-        // continentes para alivianara el shared preferences
-        String removedCountries =
-                this.preferencesFromApplication.getString(SP_REMOVED_COUNTRIES_LIST, "");
-        if (!removedCountries.isEmpty()) {
-            var newString = removedCountries.replace('[', ' ').replace(']', ' ');
-            for (String countryName : newString.split(",")) {
-                if (!countryName.isEmpty()) {
-                    this.removeConstantCountryFromCountryList(countryName.trim().strip());
+            //? 2. Migramos las listas del formato anterior, primero los continentes dado que estos
+            // eliminan varios paises a la vez
+            CountryRemovalFilter migratedFilter = CountryRemovalFilter.empty();
+            List<String> legacyNames = new ArrayList<>();
+            splittingSerializedNamesHelper(this.preferencesFromApplication
+                                                   .getString(SP_REMOVED_CONTINENT_LIST, ""),
+                                           legacyNames);
+            for (String continentName : legacyNames) {
+                migratedFilter.removeContinent(catalogTable.continentOrdinalOf(continentName),
+                                               catalogTable);
+            }
+            legacyNames.clear();
+            splittingSerializedNamesHelper(this.preferencesFromApplication
+                                                   .getString(SP_REMOVED_COUNTRIES_LIST, ""),
+                                           legacyNames);
+            if (!legacyNames.isEmpty()) {
+                CountryNameIndex catalogNameIndex = CountryNameIndex.of(catalogCountries);
+                for (String countryName : legacyNames) {
+                    CountryInformation removedCountry = catalogNameIndex.get(countryName);
+                    if (removedCountry != null && !migratedFilter.isContinentRemoved(
+                            catalogTable.continentOrdinalOf(removedCountry.getCountryId()))) {
+                        migratedFilter.removeCountry(removedCountry.getCountryId());
+                    }
                 }
             }
+
+            //? 3. Guardamos el filtro migrado, las listas anteriores ya no se vuelven a leer
+            this.preferencesFromApplication.edit()
+                    .putString(SP_REMOVED_ENTRIES_FILTER,
+                               migratedFilter.encode(catalogTable))
+                    .remove(SP_REMOVED_CONTINENT_LIST)
+                    .remove(SP_REMOVED_COUNTRIES_LIST)
+                    .apply();
+            return migratedFilter;
+        } finally {
+            StartupTraceRecorder.endPhase("deserializeSharedPreferences", phaseStartNanos);
         }
     }
 
     /**
-     * <body style="color: WHITE;">
-     * <h3>Descripcion:</h3>
-     * Metodo interno responsable de serializar la eliminacion de un continente del sistema. Este
-     * proceso incluye la actualizacion de las preferencias compartidas y la eliminacion de todos
-     * los paises asociados a dicho continente. La serializacion asegura que los cambios persistan
-     * entre sesiones de la aplicacion.
-     *
-     * <h3>Metodologia:</h3>
-     * <ol>
-     *   <li>Verifica si el continente ya esta en la lista de continentes eliminados</li>
-     *   <li>Anade el continente a la lista de continentes eliminados</li>
-     *   <li>Filtra y elimina los paises asociados al continente eliminado</li>
-     *   <li>Serializa la lista actualizada de paises eliminados</li>
-     *   <li>Serializa la lista actualizada de continentes eliminados</li>
-     * </ol>
-     * </body>
-     *
-     * @param continentName El nombre del continente que se va a eliminar y serializar
-     * @throws SecurityException        Si no se tienen los permisos necesarios para acceder a las
-     *                                  preferencias compartidas
-     * @throws IllegalStateException    Si las preferencias compartidas no estan disponibles
-     * @throws IllegalArgumentException Si el nombre del continente es invalido o nulo
+     * @description: separa una lista serializada con {@link List#toString()} en sus nombres, solo
+     * se usa para migrar el formato anterior
      */
-    private void serializeSingleContinentRemoved(String continentName) {
-        //? 1. Para manejar esto, tenemos que tomar la string ya cargada dentro del sistema, si
-        // nosotros tenemos una string vacia entonces es el primer continente eliminado, pero por
-        // seguridad intentamos eliminar cualquier pais asociado al continente para no tener
-        // sobrecarga de memoria
-        for (String continentsRemoved : this.removedContinentList) {
-            if (continentsRemoved.equalsIgnoreCase(continentName)) {
-                return; // Salimos rapidamente (no espero que eso suceda nunca) pero demostraria
-                // que ya esta el continente a eliminar
+    private static void splittingSerializedNamesHelper(String serializedNames,
+                                                       List<String> namesOutput) {
+        if (serializedNames.isEmpty()) {
+            return;
+        }
+        var newString = serializedNames.replace('[', ' ').replace(']', ' ');
+        for (String name : newString.split(",")) {
+            String trimmedName = name.trim().strip();
+            if (!trimmedName.isEmpty()) {
+                namesOutput.add(trimmedName);
             }
         }
-        //> 1.1 Anadimos el continente a la lista de continentes eliminados
-
-        this.removedContinentList.add(continentName);
-
-
-        //> 1.2 Con el continente seleccionado, intentamos eliminar todos los paises dentro del
-        // arreglo cuyo continent sea el continentName
-        this.removedCountryList =
-                this.removedCountryList.stream().filter(new Predicate<CountryInformation>() {
-                    @Override
-                    public boolean test(CountryInformation countryInformation) {
-                        return countryInformation.getCountryContinent().equalsIgnoreCase(continentName);
-                    }
-                }).collect(Collectors.toList());
-
-
-        //> 1.3 Serializamos con un editor los paises filtrados
-        SharedPreferences.Editor editor = this.preferencesFromApplication.edit();
-        editor.putString(SP_REMOVED_COUNTRIES_LIST, this.removedCountryList.toString());
-        editor.commit();
-        //> 1.4 Serializamos con un editor
-        editor.putString(SP_REMOVED_CONTINENT_LIST, this.removedContinentList.toString());
-        editor.commit();
     }
 
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
-     * Metodo interno responsable de serializar la eliminacion de un pais del sistema. Este proceso
-     * incluye la verificacion de duplicados, el almacenamiento del pais en la lista de eliminados y
-     * la actualizacion de las preferencias compartidas para mantener la persistencia de datos entre
-     * sesiones de la aplicacion.
-     *
-     * <h3>Metodologia:</h3>
-     * <ol>
-     *   <li>Verifica si el pais ya existe en la lista de paises eliminados</li>
-     *   <li>Anade el pais a la lista de paises eliminados si no existe</li>
-     *   <li>Convierte la lista de paises eliminados a formato String</li>
-     *   <li>Actualiza las preferencias compartidas con la nueva lista serializada</li>
-     * </ol>
+     * Metodo interno responsable de serializar el filtro de eliminados despues de eliminar o
+     * restaurar un continente o un pais. El filtro completo ocupa unos pocos bytes, por lo que se
+     * reescribe entero en cada cambio, con apply para no bloquear el hilo principal con I/O.
      * </body>
      *
-     * @param informationForCountryRemoved Objeto CountryInformation que contiene la informacion del
-     *                                     pais a eliminar
-     * @throws SecurityException        Si no hay permisos para acceder a las preferencias
-     *                                  compartidas
-     * @throws IllegalStateException    Si las preferencias compartidas no estan disponibles
-     * @throws IllegalArgumentException Si el objeto CountryInformation es invalido o nulo
+     * @throws SecurityException     Si no se tienen los permisos necesarios para acceder a las
+     *                               preferencias compartidas
+     * @throws IllegalStateException Si las preferencias compartidas no estan disponibles
      */
-    private void serializeSingleCountryRemoved(CountryInformation informationForCountryRemoved){
-        //? Aqui no debemos filtrarpor los continentes eliminados, dado que si estos ya estan
-        // eliminados es muy poco probable que estos vuelvan a aparecer vivos, y que se cargue
-        // informacion incorrecta aqui. Ademas, estos paises se serializan rapidamente como una
-        // String completa
-
-        //> 1. Revisamos si el pais ya esta eliminado
-        for(CountryInformation information: this.removedCountryList){
-            if (information.getCountryName().equalsIgnoreCase(informationForCountryRemoved.getCountryName())){
-                return;
-            }
+    private void serializeRemovalFilter() {
+        if (this.preferencesFromApplication == null) {
+            return;
         }
+        this.preferencesFromApplication.edit()
+                .putString(SP_REMOVED_ENTRIES_FILTER,
+                           this.removalFilter.encode(this.countryCatalogTable))
+                .apply();
+    }
 
-        //> 2. Anadimos el pais a eliminar al listado de paises
-        this.removedCountryList.add(informationForCountryRemoved);
-
-        //> 3. Convertimos el listado a una lista de Strings
-        List<String> stringList = new ArrayList<>();
-        stringList.addAll(this.removedCountryList
-                                  .stream()
-                                  .map(CountryInformation::getCountryName)
-                                  .collect(Collectors.toList()));
-
-        //> 4. Serializamos la lista nueva
-        SharedPreferences.Editor editor = this.preferencesFromApplication.edit();
-        editor.putString(SP_REMOVED_COUNTRIES_LIST, stringList.toString());
-        editor.commit();
+    /**
+     * @description: verdadero si el pais es parte del catalogo actual y no esta eliminado, son
+     * dos pruebas de bit sobre el filtro
+     */
+    private boolean isCountryVisibleHelper(CountryInformation country) {
+        if (!this.countryCatalogTable.contains(country)) {
+            return false;
+        }
+        int countryId = country.getCountryId();
+        return this.removalFilter.isCountryVisible(
+                countryId, this.countryCatalogTable.continentOrdinalOf(countryId));
     }
 
     /*? Metodos de trabajo planeados para el mutableContinentList*/
@@ -657,20 +1216,8 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
      * Metodo responsable de eliminar un continente especifico del sistema y toda su informacion
-     * asociada. Esta eliminacion incluye la actualizacion de las listas de continentes, paises,
-     * iconos y banderas relacionadas con el continente especificado. Ademas, gestiona la
-     * serializacion de los datos eliminados para mantener la persistencia entre sesiones.
-     *
-     * <h3>Metodologia:</h3>
-     * <ol>
-     *   <li>Verifica la existencia del continente en las listas del sistema</li>
-     *   <li>Elimina el continente de la lista de continentes y su icono asociado</li>
-     *   <li>Remueve todos los paises asociados al continente</li>
-     *   <li>Elimina las banderas e imagenes relacionadas con el continente</li>
-     *   <li>Actualiza las selecciones actuales si estan relacionadas con el continente</li>
-     *   <li>Serializa los cambios en las preferencias compartidas</li>
-     * </ol>
-     * </body>
+     * asociada. Es una transaccion de un solo continente, ver {@link #edit()}.
+     * </body>
      *
      * @param continentName El nombre del continente que se desea eliminar
      * @return boolean Verdadero si el continente fue eliminado exitosamente, falso en caso
@@ -680,66 +1227,322 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * @throws SecurityException        Si no hay permisos para acceder al almacenamiento
      */
     public boolean removeConstantContinentFromContinentList(String continentName) {
+        return this.edit().removeContinent(continentName).apply();
+    }
 
-        if (this.constantContinentList.getValue() != null
-                && this.constantContinentIconMap.getValue() != null) {
-            if (this.constantContinentList.getValue().contains(continentName)
-                    && this.constantContinentIconMap.getValue().containsKey(continentName)) {
-                //? 1. Removemos la informacion directa del continente
-                if (this.mutableContinentIconMap.getValue() != null) {
-                    Map<String, Bitmap> updatedIconMap =
-                            new HashMap<>(this.mutableContinentIconMap.getValue());
-                    updatedIconMap.remove(continentName);
-                    this.mutableContinentIconMap.setValue(updatedIconMap);
-                }
-                if (this.mutableContinentList.getValue() != null) {
-                    List<String> updatedContinentList =
-                            new ArrayList<>(this.mutableContinentList.getValue());
-                    updatedContinentList.remove(continentName);
-                    this.mutableContinentList.setValue(updatedContinentList);
-                }
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que abre una transaccion de eliminaciones. Las eliminaciones acumuladas se aplican
+     * juntas con {@link CatalogRemovalEditor#apply()}: cada LiveData afectado se publica una sola
+     * vez y el filtro de eliminados se escribe una sola vez.
+     * </body>
+     *
+     * @return CatalogRemovalEditor Transaccion vacia
+     */
+    public CatalogRemovalEditor edit() {
+        return new CatalogRemovalEditor(this);
+    }
 
-                //? 2. Removemos la informacion de los paisees asociados con este continente
-                if (this.mutableCountryList.getValue() != null) {
-                    List<CountryInformation> updatedCountryList = new ArrayList<>(this.mutableCountryList.getValue());
-                    updatedCountryList.removeIf(countryInfo ->
-                                                        countryInfo.getCountryContinent().equalsIgnoreCase(continentName)
-                                               );
-                    this.mutableCountryList.setValue(updatedCountryList);
-                }
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que aplica una transaccion de eliminaciones. Primero se resuelve todo el estado nuevo
+     * (filtro, listado, indices, particiones y banderas) y recien al final se publica cada
+     * LiveData afectado una sola vez, de forma que los observadores nunca ven un estado a medias.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Marca en el filtro los continentes visibles de la transaccion</li>
+     *   <li>Marca en el filtro los paises visibles cuyo continente no se elimina</li>
+     *   <li>Arma la version nueva del listado, los indices y las particiones</li>
+     *   <li>Publica continentes, paises y selecciones, solo si cambiaron</li>
+     *   <li>Serializa el filtro una sola vez, con apply</li>
+     * </ol>
+     * </body>
+     *
+     * @param countryNames   Nombres de los paises a eliminar
+     * @param continentNames Nombres de los continentes a eliminar
+     * @return boolean Verdadero si se elimino al menos un pais o continente
+     */
+    boolean applyingRemovalTransaction(Set<String> countryNames, Set<String> continentNames) {
+        List<String> continents = this.mutableContinentList.getValue();
+        if (continents == null) {
+            return false;
+        }
+        //? 1. Marcamos los continentes, el filtro se marca primero dado que la busqueda lo consulta
+        List<String> removedContinents = new ArrayList<>(continentNames.size());
+        int removedContinentMask = 0;
+        for (String continentName : continentNames) {
+            int continentOrdinal = this.countryCatalogTable.continentOrdinalOf(continentName);
+            if (continentOrdinal >= 0 && continents.contains(continentName)
+                    && !this.removalFilter.isContinentRemoved(continentOrdinal)) {
+                this.removalFilter.removeContinent(continentOrdinal, this.countryCatalogTable);
+                removedContinentMask |= 1 << continentOrdinal;
+                removedContinents.add(continentName);
+            }
+        }
 
-                //? 3. Removemos la informacion de las imagenes asociadas con este continente
-                if (this.mutableContinentIconMap.getValue() != null) {
-                    Map<String, Bitmap> updatedIconMap =
-                            new HashMap<>(this.mutableContinentIconMap.getValue());
-                    List<CountryInformation> countries_to_remove =
-                            this.mutableCountryList.getValue();
-                    for (CountryInformation information : countries_to_remove) {
-                        updatedIconMap.remove((information.getCountryContinent()
-                                .equalsIgnoreCase(continentName)) ?
-                                                      information.getCountryImageAssetPath() :
-                                                      "");
-                    }
-                    this.mutableContinentIconMap.setValue(updatedIconMap);
-                }
+        //? 2. Marcamos los paises, los de un continente eliminado ya estan cubiertos
+        List<CountryInformation> removedCountries = new ArrayList<>(countryNames.size());
+        for (String countryName : countryNames) {
+            CountryInformation country = this.countryNameIndex.get(countryName);
+            if (country != null && this.isCountryVisibleHelper(country)) {
+                this.removalFilter.removeCountry(country.getCountryId());
+                removedCountries.add(country);
+            }
+        }
+        if (removedContinentMask == 0 && removedCountries.isEmpty()) {
+            return false;
+        }
 
-                //? 4.  Removemos el continent selected
-                if (this.mutableSelectedContinent.getValue() != null && this.getMutableSelectedContinent()
-                        .getValue().equalsIgnoreCase(continentName)) {
-                    this.mutableSelectedContinent.setValue("");
+        //? 3. Version nueva del listado: pocos paises se quitan uno a uno en O(log n), un
+        // continente se quita en una pasada que solo copia las hojas que cambian
+        if (removedContinentMask != 0) {
+            this.countryListSnapshot = this.countryListSnapshot.withoutMatching(
+                    countryInfo -> !this.isCountryVisibleHelper(countryInfo));
+        } else {
+            for (CountryInformation removedCountry : removedCountries) {
+                this.countryListSnapshot = this.countryListSnapshot.without(removedCountry);
+            }
+        }
+        //> 3.1 Indice por nombre, recorriendo los ordinales de continente. Las banderas y los
+        // atlas no se eliminan: salen solos del LRU si no se vuelven a usar, y si el pais se
+        // restaura antes siguen residentes
+        for (CountryInformation removedCountry : removedCountries) {
+            this.countryNameIndex.remove(removedCountry.getCountryName());
+        }
+        if (removedContinentMask != 0) {
+            for (int countryId = 0; countryId < this.countryCatalogTable.size(); countryId++) {
+                if ((removedContinentMask
+                        & (1 << this.countryCatalogTable.continentOrdinalOf(countryId))) != 0) {
+                    this.countryNameIndex.remove(this.countryCatalogTable.countryNameOf(countryId));
                 }
+            }
+        }
+        //> 3.2 Particiones: un solo pais copia solo su continente, varios paises se reparten de
+        // nuevo en una pasada
+        if (removedCountries.size() > 1) {
+            this.countryPartitions = CountryPartitions.of(this.countryListSnapshot);
+        } else {
+            for (String removedContinent : removedContinents) {
+                this.countryPartitions = this.countryPartitions.withoutContinent(removedContinent);
+            }
+            for (CountryInformation removedCountry : removedCountries) {
+                this.countryPartitions = this.countryPartitions.withoutCountry(removedCountry);
+            }
+        }
+        this.applyingCountrySearchHelper(this.mutableCountrySearchQuery.getValue(), false);
 
-                //? 5. Removemos el country selected
-                if (this.mutableSelectedCountry.getValue() != null) {
-                    this.mutableSelectedCountry.setValue(new CountryInformation());
+        //? 4. Publicamos cada LiveData afectado una sola vez
+        if (!removedContinents.isEmpty()) {
+            List<String> updatedContinentList =
+                    new ArrayList<>(continents.size() - removedContinents.size());
+            for (String continent : continents) {
+                if (!removedContinents.contains(continent)) {
+                    updatedContinentList.add(continent);
                 }
+            }
+            this.mutableContinentList.setValue(Collections.unmodifiableList(updatedContinentList));
+        }
+        this.mutableCountryList.setValue(this.countryListSnapshot);
+        //> 4.1 El continente seleccionado se limpia si se elimino
+        String selectedContinent = this.mutableSelectedContinent.getValue();
+        if (selectedContinent != null && this.removalFilter.isContinentRemoved(
+                this.countryCatalogTable.continentOrdinalOf(selectedContinent))) {
+            this.mutableSelectedContinent.setValue("");
+        }
+        //> 4.2 El pais seleccionado se limpia si ya no se muestra
+        CountryInformation selectedCountry = this.mutableSelectedCountry.getValue();
+        if (selectedCountry != null && this.countryCatalogTable.contains(selectedCountry)
+                && !this.isCountryVisibleHelper(selectedCountry)) {
+            this.mutableSelectedCountry.setValue(new CountryInformation());
+        }
 
-                //? 6. Serializamos hacia sharedPreferences
-                serializeSingleContinentRemoved(continentName);
-                return true;
+        //? 5. Serializamos el filtro una sola vez hacia sharedPreferences
+        serializeRemovalFilter();
+        return true;
+    }
+
+
+    /*? Metodos de trabajo planeados para restaurar eliminaciones*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna los continentes eliminados, en el orden del catalogo. Se lee de la
+     * mascara del filtro de eliminados.
+     * </body>
+     *
+     * @return List Nombres de los continentes eliminados
+     */
+    public List<String> getRemovedContinents() {
+        List<String> removedContinents = new ArrayList<>();
+        for (int ordinal = 0; ordinal < DEFAULT_CONTINENT_LIST.size(); ordinal++) {
+            if (this.removalFilter.isContinentRemoved(ordinal)) {
+                removedContinents.add(DEFAULT_CONTINENT_LIST.get(ordinal));
             }
         }
-        return false;
+        return removedContinents;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna los paises eliminados uno a uno, en el orden del catalogo. Los paises de
+     * un continente eliminado no se incluyen, vuelven al restaurar su continente.
+     * </body>
+     *
+     * @return List Paises eliminados
+     */
+    public List<CountryInformation> getRemovedCountries() {
+        List<CountryInformation> removedCountries = new ArrayList<>();
+        for (int countryId = this.removalFilter.nextRemovedCountryId(0);
+             countryId >= 0 && countryId < this.countryCatalogTable.size();
+             countryId = this.removalFilter.nextRemovedCountryId(countryId + 1)) {
+            removedCountries.add(this.countryCatalogTable.countryOf(countryId));
+        }
+        return removedCountries;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que restaura un pais eliminado sobre el estado actual, sin recargar el catalogo. El
+     * pais vuelve a su posicion en el listado en O(log n), su bandera sale del cache en disco
+     * cuando una fila la pida y el filtro guardado cambia en un solo bit.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Verifica que el pais este eliminado y que su continente se muestre</li>
+     *   <li>Limpia su bit en el filtro</li>
+     *   <li>Lo agrega al listado, al indice por nombre y a las particiones</li>
+     *   <li>Publica el listado y serializa el filtro con apply</li>
+     * </ol>
+     * </body>
+     *
+     * @param restoredCountry Pais a restaurar, uno de {@link #getRemovedCountries()}
+     * @return boolean Verdadero si el pais se restauro
+     */
+    public boolean restoreRemovedCountry(CountryInformation restoredCountry) {
+        //? 1. Solo se restauran paises eliminados uno a uno, los de un continente eliminado
+        // vuelven con su continente
+        if (restoredCountry == null || !this.countryCatalogTable.contains(restoredCountry)) {
+            return false;
+        }
+        int countryId = restoredCountry.getCountryId();
+        if (!this.removalFilter.isCountryRemoved(countryId)
+                || this.removalFilter.isContinentRemoved(
+                        this.countryCatalogTable.continentOrdinalOf(countryId))) {
+            return false;
+        }
+        //? 2. Limpiamos el bit antes de buscar, la busqueda consulta el filtro
+        this.removalFilter.restoreCountry(countryId);
+
+        //? 3. Version nueva del listado, del indice y de las particiones
+        this.countryListSnapshot = this.countryListSnapshot.with(restoredCountry);
+        this.countryNameIndex.putIfAbsent(restoredCountry);
+        this.countryPartitions = this.countryPartitions.withCountry(restoredCountry);
+        this.linkingCachedFlagsOfCountriesHelper(Collections.singletonList(restoredCountry));
+        this.applyingCountrySearchHelper(this.mutableCountrySearchQuery.getValue(), false);
+
+        //? 4. Publicamos y guardamos el filtro
+        this.mutableCountryList.setValue(this.countryListSnapshot);
+        serializeRemovalFilter();
+        return true;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que restaura un continente eliminado y todos sus paises sobre el estado actual, sin
+     * recargar el catalogo. Solo el icono del continente se lee de nuevo, del cache en disco y en
+     * segundo plano, si ya no estaba en el mapa de iconos.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Verifica que el continente este eliminado y limpia su bit en el filtro</li>
+     *   <li>Agrega sus paises al listado, al indice por nombre y a las particiones</li>
+     *   <li>Publica la lista de continentes en el orden del catalogo y el listado</li>
+     *   <li>Serializa el filtro con apply y recupera el icono si hace falta</li>
+     * </ol>
+     * </body>
+     *
+     * @param continentName Continente a restaurar, uno de {@link #getRemovedContinents()}
+     * @return boolean Verdadero si el continente se restauro
+     */
+    public boolean restoreRemovedContinent(String continentName) {
+        //? 1. Limpiamos el bit del continente, sus paises ya no tienen bits propios
+        int continentOrdinal = this.countryCatalogTable.continentOrdinalOf(continentName);
+        if (continentOrdinal < 0 || !this.removalFilter.isContinentRemoved(continentOrdinal)) {
+            return false;
+        }
+        this.removalFilter.restoreContinent(continentOrdinal);
+
+        //? 2. Agregamos los paises del continente, recorriendo los ordinales del catalogo. Los
+        // paises salen en orden de identificador y se agregan al listado en una sola mezcla, no
+        // con una insercion por pais
+        List<CountryInformation> restoredCountries = new ArrayList<>();
+        for (int countryId = 0; countryId < this.countryCatalogTable.size(); countryId++) {
+            if (this.countryCatalogTable.continentOrdinalOf(countryId) == continentOrdinal
+                    && !this.removalFilter.isCountryRemoved(countryId)) {
+                CountryInformation restoredCountry = this.countryCatalogTable.countryOf(countryId);
+                this.countryNameIndex.putIfAbsent(restoredCountry);
+                restoredCountries.add(restoredCountry);
+            }
+        }
+        this.countryListSnapshot = this.countryListSnapshot.withAll(restoredCountries);
+        String restoredContinent = DEFAULT_CONTINENT_LIST.get(continentOrdinal);
+        this.countryPartitions =
+                this.countryPartitions.withContinent(restoredContinent, restoredCountries);
+        this.linkingCachedFlagsOfCountriesHelper(restoredCountries);
+        this.applyingCountrySearchHelper(this.mutableCountrySearchQuery.getValue(), false);
+
+        //? 3. Publicamos los continentes en el orden del catalogo y el listado
+        List<String> updatedContinentList = new ArrayList<>(DEFAULT_CONTINENT_LIST.size());
+        for (int ordinal = 0; ordinal < DEFAULT_CONTINENT_LIST.size(); ordinal++) {
+            if (!this.removalFilter.isContinentRemoved(ordinal)) {
+                updatedContinentList.add(DEFAULT_CONTINENT_LIST.get(ordinal));
+            }
+        }
+        this.mutableContinentList.setValue(Collections.unmodifiableList(updatedContinentList));
+        this.mutableCountryList.setValue(this.countryListSnapshot);
+
+        //? 4. Guardamos el filtro y recuperamos el icono si no esta en el mapa
+        serializeRemovalFilter();
+        this.loadingMissingContinentIconsHelper(Collections.singletonList(restoredContinent));
+        return true;
+    }
+
+    /**
+     * @description: lee en el ejecutor los iconos de continentes restaurados que no esten en el
+     * mapa y publica un mapa de iconos nuevo con esos iconos agregados, sin volver a leer los
+     * demas
+     */
+    private void loadingMissingContinentIconsHelper(List<String> restoredContinents) {
+        Map<String, Bitmap> currentIcons = this.mutableContinentIconMap.getValue();
+        List<String> missingContinents = new ArrayList<>(restoredContinents.size());
+        for (String restoredContinent : restoredContinents) {
+            if (currentIcons == null || !currentIcons.containsKey(restoredContinent)) {
+                missingContinents.add(restoredContinent);
+            }
+        }
+        if (missingContinents.isEmpty()) {
+            return;
+        }
+        AssetManager managerRequiredForImageExtraction = this.applicationContext.getAssets();
+        this.flagDecodingExecutor.execute(() -> {
+            Map<String, Bitmap> restoredIcons = loadingAllContinentNamesAndIcons(
+                    managerRequiredForImageExtraction, missingContinents);
+            this.postingToMainThreadHelper(() -> {
+                Map<String, Bitmap> updatedIcons = new HashMap<>();
+                Map<String, Bitmap> continentIcons = this.mutableContinentIconMap.getValue();
+                if (continentIcons != null) {
+                    updatedIcons.putAll(continentIcons);
+                }
+                updatedIcons.putAll(restoredIcons);
+                this.mutableContinentIconMap.setValue(Collections.unmodifiableMap(updatedIcons));
+            });
+        });
     }
 
     /*? Metodos de trabajo planeados para el mutableCountryList*/
@@ -750,56 +1553,196 @@ public class ApplicationDataPOJO extends AndroidViewModel {
     /**
      * <body style="color: WHITE;">
      * <h3>Descripcion:</h3>
-     * Metodo responsable de eliminar un pais especifico del sistema y toda su informacion asociada.
-     * Este proceso incluye la eliminacion del pais de la lista principal, la eliminacion de su
-     * bandera del mapa de banderas y la actualizacion del pais seleccionado si corresponde. Tambien
-     * gestiona la serializacion del pais eliminado para mantener la persistencia entre sesiones.
+     * Metodo que retorna los paises del continente seleccionado desde las particiones ya armadas.
+     * No filtra ni copia nada, por lo que se puede llamar en cada getItemCount y onBindViewHolder.
+     * </body>
+     *
+     * @return List Lista inmutable de paises del continente seleccionado, vacia si no hay uno
+     */
+    public List<CountryInformation> getCountriesOfSelectedContinent() {
+        return this.countryPartitions.countriesOf(this.mutableSelectedContinent.getValue());
+    }
+
+    /*? Metodos de trabajo planeados para la busqueda de paises*/
+    public LiveData<String> getConstantCountrySearchQuery() {
+        return constantCountrySearchQuery;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que actualiza el texto de busqueda de paises, se llama en cada tecla. La busqueda se
+     * resuelve aqui una sola vez y las listas solo leen el resultado.
      *
      * <h3>Metodologia:</h3>
      * <ol>
-     *   <li>Verifica la existencia del pais en la lista del sistema</li>
-     *   <li>Elimina el pais de la lista principal de paises</li>
-     *   <li>Elimina la bandera asociada al pais del mapa de banderas</li>
-     *   <li>Actualiza la seleccion actual si corresponde al pais eliminado</li>
-     *   <li>Serializa el pais eliminado en las preferencias compartidas</li>
+     *   <li>Normaliza el texto y descarta la llamada si no cambio</li>
+     *   <li>Refina el rango de la busqueda anterior con el nuevo prefijo</li>
+     *   <li>Publica el texto para que las listas se refresquen</li>
      * </ol>
      * </body>
      *
-     * @param countryName El nombre del pais que se desea eliminar del sistema
-     * @throws IllegalStateException    Si los LiveData no estan inicializados correctamente
-     * @throws IllegalArgumentException Si el nombre del pais es invalido o nulo
-     * @throws SecurityException        Si no hay permisos para acceder al almacenamiento
+     * @param query Texto escrito por el usuario
      */
-    public void removeConstantCountryFromCountryList(String countryName) {
-        if (this.mutableCountryList.getValue() != null) {
-            //? 1. Removemos directmente el pais si este existe en el listado de paises
-            if (this.mutableCountryList.getValue() != null) {
-                CountryInformation information =
-                        this.getConstantCountryFromCountryListPerName(countryName);
-                List<CountryInformation> updatedCountryList =
-                        new ArrayList<>(this.mutableCountryList.getValue());
-                updatedCountryList.removeIf(countryInfo ->
-                                                    countryInfo.getCountryName().equalsIgnoreCase(countryName)
-                                           );
-                this.mutableCountryList.setValue(updatedCountryList);
-                //? 2. Renovemos directamente la imagen del pais
-                if (this.mutableCountryFlagMap.getValue() != null) {
-                    Map<String, Bitmap> updatedFlagMap =
-                            new HashMap<>(this.mutableCountryFlagMap.getValue());
-                    updatedFlagMap.remove(information.getCountryImageAssetPath());
-                    this.mutableCountryFlagMap.setValue(updatedFlagMap);
-                }
+    public void setCountrySearchQuery(String query) {
+        String normalizedQuery = query == null ? "" : query.strip();
+        if (normalizedQuery.equals(this.mutableCountrySearchQuery.getValue())) {
+            return;
+        }
+        this.applyingCountrySearchHelper(normalizedQuery, true);
+        this.mutableCountrySearchQuery.setValue(normalizedQuery);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna los paises que muestra la lista de paises: las coincidencias de la
+     * busqueda en el continente seleccionado si hay texto de busqueda, o todo el continente
+     * seleccionado si no. No filtra ni copia nada.
+     * </body>
+     *
+     * @return List Lista inmutable de paises a mostrar
+     */
+    public List<CountryInformation> getVisibleCountriesOfSelectedContinent() {
+        if (this.countrySearchMatches == null) {
+            return this.getCountriesOfSelectedContinent();
+        }
+        return this.countrySearchMatches.countriesOf(this.mutableSelectedContinent.getValue());
+    }
 
-                //? 3. Removenmos directamente tambien si este es el pais seleccionado
-                if (this.mutableSelectedCountry.getValue() != null) {
-                    this.mutableSelectedCountry.setValue(new CountryInformation());
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna los continentes que muestra la lista de continentes: solo los que tienen
+     * coincidencias si hay texto de busqueda, o todos si no. El filtro se calcula una vez por
+     * busqueda y por lista de continentes, no en cada fila.
+     * </body>
+     *
+     * @return List Continentes a mostrar
+     */
+    public List<String> getVisibleContinents() {
+        List<String> continents = this.constantContinentList.getValue();
+        if (continents == null) {
+            return Collections.emptyList();
+        }
+        if (this.countrySearchMatches == null) {
+            return continents;
+        }
+        if (this.continentsWithSearchMatches == null
+                || this.continentsWithSearchMatchesSource != continents) {
+            List<String> continentsWithMatches = new ArrayList<>(continents.size());
+            for (String continent : continents) {
+                if (!this.countrySearchMatches.countriesOf(continent).isEmpty()) {
+                    continentsWithMatches.add(continent);
                 }
+            }
+            this.continentsWithSearchMatches = continentsWithMatches;
+            this.continentsWithSearchMatchesSource = continents;
+        }
+        return this.continentsWithSearchMatches;
+    }
 
-                //? 4. Serializamos pais removido
-                serializeSingleCountryRemoved(information);
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna las filas de la lista de continentes, con el nombre y el icono ya
+     * resueltos y el ordinal del catalogo como identificador estable. Se arman una vez por lista
+     * de continentes visibles y por mapa de iconos; mientras ninguno cambie se retorna la misma
+     * lista y el adaptador no calcula ningun diff.
+     * </body>
+     *
+     * @return List Lista inmutable de filas a mostrar
+     */
+    public List<ContinentRowItem> getVisibleContinentRows() {
+        List<String> visibleContinents = this.getVisibleContinents();
+        Map<String, Bitmap> continentIcons = this.constantContinentIconMap.getValue();
+        if (this.visibleContinentRows == null
+                || this.visibleContinentRowsSource != visibleContinents
+                || this.visibleContinentRowsIcons != continentIcons) {
+            List<ContinentRowItem> continentRows = new ArrayList<>(visibleContinents.size());
+            for (String continent : visibleContinents) {
+                continentRows.add(new ContinentRowItem(
+                        DEFAULT_CONTINENT_LIST.indexOf(continent), continent,
+                        continentIcons != null ? continentIcons.get(continent) : null));
             }
+            this.visibleContinentRows = Collections.unmodifiableList(continentRows);
+            this.visibleContinentRowsSource = visibleContinents;
+            this.visibleContinentRowsIcons = continentIcons;
+        }
+        return this.visibleContinentRows;
+    }
 
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que resuelve el texto de busqueda actual sobre el indice por prefijo. Los
+     * paises eliminados se descartan con el filtro de eliminados, y el resultado se
+     * parte por continente para que la lista de paises aplique el continente seleccionado en O(1).
+     * Despues de las coincidencias por prefijo (en orden alfabetico) se agregan las coincidencias
+     * aproximadas por trigramas y alias (en orden de similitud) que el prefijo no encontro.
+     * </body>
+     *
+     * @param query               Texto de busqueda normalizado
+     * @param refinePreviousRange Verdadero si el rango anterior sigue siendo valido (solo cambio
+     *                            el texto), falso si cambio el indice o los paises eliminados
+     */
+    private void applyingCountrySearchHelper(String query, boolean refinePreviousRange) {
+        this.continentsWithSearchMatches = null;
+        if (query == null || query.isEmpty()) {
+            this.countrySearchRange = null;
+            this.countrySearchMatches = null;
+            return;
         }
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("countryPrefixSearch");
+        try {
+            //? 1. Refinamos o buscamos de nuevo el rango de coincidencias
+            this.countrySearchRange = refinePreviousRange
+                                      ? this.countryPrefixIndex.refine(this.countrySearchRange,
+                                                                       query)
+                                      : this.countryPrefixIndex.search(query);
+            //? 2. Descartamos los paises eliminados y partimos por continente
+            List<CountryInformation> matchingCountries =
+                    new ArrayList<>(this.countrySearchRange.size());
+            for (int order = this.countrySearchRange.getStart();
+                 order < this.countrySearchRange.getEnd(); order++) {
+                CountryInformation candidate = this.countryPrefixIndex.countryAt(order);
+                if (this.isCountryVisibleHelper(candidate)) {
+                    matchingCountries.add(candidate);
+                }
+            }
+            //? 3. Agregamos las coincidencias aproximadas que no empiezan con el texto, como
+            // "DRC" o "guinea bisau"
+            if (query.length() >= FUZZY_SEARCH_MINIMUM_QUERY_LENGTH) {
+                for (CountryFuzzySearchIndex.Match match : this.countryFuzzySearchIndex.search(
+                        query, FUZZY_SEARCH_MAXIMUM_MATCHES)) {
+                    CountryInformation candidate = match.getCountry();
+                    String candidateName = candidate.getCountryName();
+                    if (!candidateName.regionMatches(true, 0, query, 0, query.length())
+                            && this.isCountryVisibleHelper(candidate)) {
+                        matchingCountries.add(candidate);
+                    }
+                }
+            }
+            this.countrySearchMatches = CountryPartitions.of(matchingCountries);
+        } finally {
+            StartupTraceRecorder.endPhase("countryPrefixSearch", phaseStartNanos);
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo responsable de eliminar un pais especifico del sistema y toda su informacion asociada.
+     * Es una transaccion de un solo pais, ver {@link #edit()}.
+     * </body>
+     *
+     * @param countryName El nombre del pais que se desea eliminar del sistema
+     * @throws IllegalStateException    Si los LiveData no estan inicializados correctamente
+     * @throws IllegalArgumentException Si el nombre del pais es invalido o nulo
+     * @throws SecurityException        Si no hay permisos para acceder al almacenamiento
+     */
+    public void removeConstantCountryFromCountryList(String countryName) {
+        this.edit().removeCountry(countryName).apply();
     }
 
     /**
@@ -812,9 +1755,8 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      *
      * <h3>Metodologia:</h3>
      * <ol>
-     *   <li>Verifica la existencia de datos en el LiveData de paises</li>
-     *   <li>Filtra la lista de paises buscando coincidencias con el nombre proporcionado</li>
-     *   <li>Retorna el primer pais que coincida o un objeto vacio si no hay coincidencias</li>
+     *   <li>Busca el nombre en el indice {@link CountryNameIndex}, en O(1) y sin crear objetos</li>
+     *   <li>Retorna el pais que coincida o un objeto vacio si no hay coincidencias</li>
      * </ol>
      * </body>
      *
@@ -825,31 +1767,530 @@ public class ApplicationDataPOJO extends AndroidViewModel {
      * @throws NullPointerException  Si el parametro countryName es nulo
      */
     public CountryInformation getConstantCountryFromCountryListPerName(String countryName) {
-        //? 1. Si tenemos valores en el contant list buscamos por el valor de esta country absado
-        // del nombre
-        if (this.constantCountryList.getValue() != null) {
-            CountryInformation information = this.constantCountryList
-                    .getValue()
-                    .stream()
-                    .filter(new Predicate<CountryInformation>() {
-                        @Override
-                        public boolean test(CountryInformation countryInformation) {
-                            return countryInformation.getCountryName().equalsIgnoreCase(countryName);
-                        }
-                    })
-                    .findFirst()
-                    .orElse(new CountryInformation());
+        //? 1. Buscamos en el indice por nombre, sin recorrer la lista ni crear objetos
+        CountryInformation information = this.countryNameIndex.get(countryName);
+        //? 2. Si no existe regresamos un objeto vacio, como lo hacia la busqueda lineal
+        return information != null ? information : new CountryInformation();
+    }
+
+    /*? Metodos de trabajo planeados para el countryFlagCache*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna la bandera de un pais solo si ya esta en el cache para el bucket pedido,
+     * sin decodificar nada. Esto permite a las vistas dibujar inmediatamente las banderas ya
+     * cargadas.
+     * </body>
+     *
+     * @param countryId  Identificador del pais, ver {@link CountryCatalogTable}
+     * @param sizeBucket Bucket de tamano con el que la vista dibuja la bandera
+     * @return Bitmap La bandera si esta en el cache, o null si no lo esta
+     */
+    @Override
+    public Bitmap getCachedCountryFlag(int countryId, FlagSizeBucket sizeBucket) {
+        //? Es una lectura de arreglo, no se arma ni se compara la llave del cache
+        return this.countryFlagSlots.get(countryId, sizeBucket,
+                                         this.flagBitmapConfigPolicy.resolveFor(false));
+    }
 
-            //? 2. Teniendo en cuenta si hay datos, tenemos que regresar la informacion.
-            return information;
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que enlaza en sus casillas las banderas de paises restaurados que siguen en
+     * el cache, para que sus filas las dibujen sin pedirlas de nuevo. Solo consulta el cache para
+     * las casillas vacias; las que siguen enlazadas desde antes de eliminar el pais no cambian.
+     * </body>
+     *
+     * @param restoredCountries Paises restaurados, todos del catalogo actual
+     */
+    private void linkingCachedFlagsOfCountriesHelper(List<CountryInformation> restoredCountries) {
+        //? values() crea un arreglo en cada llamada, se leen una vez para todos los paises
+        FlagSizeBucket[] sizeBuckets = FlagSizeBucket.values();
+        FlagBitmapConfigPolicy[] policies = FlagBitmapConfigPolicy.values();
+        for (CountryInformation restoredCountry : restoredCountries) {
+            int countryId = restoredCountry.getCountryId();
+            for (FlagSizeBucket sizeBucket : sizeBuckets) {
+                for (FlagBitmapConfigPolicy policy : policies) {
+                    if (this.countryFlagSlots.get(countryId, sizeBucket, policy) != null) {
+                        continue;
+                    }
+                    String cacheKey = policy.cacheKeyFor(
+                            sizeBucket, restoredCountry.getCountryImageAssetPath());
+                    Bitmap cachedFlag = this.countryFlagCache.get(cacheKey);
+                    if (cachedFlag != null) {
+                        this.countryFlagSlots.put(countryId, sizeBucket, policy, cacheKey,
+                                                  cachedFlag);
+                    }
+                }
+            }
         }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que pide la bandera de un pais a un tamano especifico. Si la bandera esta en el cache
+     * se entrega de inmediato, si no, se decodifica al tamano del bucket en el
+     * {@link FlagDecodingExecutor} y se entrega en el hilo principal cuando este lista. Varias
+     * peticiones de la misma bandera y bucket comparten una sola decodificacion.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Busca la bandera en el cache con la llave (asset, bucket) y la entrega si existe</li>
+     *   <li>Si ya hay una decodificacion en curso, encola el callback</li>
+     *   <li>Si no, lanza la decodificacion reducida en segundo plano</li>
+     *   <li>Al terminar, guarda la bandera en el cache y notifica a todos los callbacks</li>
+     * </ol>
+     * </body>
+     *
+     * @param information  Informacion del pais cuya bandera se requiere
+     * @param sizeBucket   Bucket de tamano con el que la vista dibuja la bandera
+     * @param onFlagReady  Callback que recibe la bandera en el hilo principal (o null si fallo)
+     */
+    public void requestCountryFlag(CountryInformation information,
+                                   FlagSizeBucket sizeBucket,
+                                   Consumer<Bitmap> onFlagReady) {
+        this.requestCountryFlag(information, sizeBucket, false, onFlagReady);
+    }
 
-        return new CountryInformation();
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Variante de {@link #requestCountryFlag(CountryInformation, FlagSizeBucket, Consumer)} para
+     * las filas de la lista de paises. La posicion de la fila permite que el ejecutor decodifique
+     * primero las filas visibles del continente seleccionado.
+     * </body>
+     *
+     * @param information Informacion del pais cuya bandera se requiere
+     * @param sizeBucket  Bucket de tamano con el que la fila dibuja la bandera
+     * @param rowPosition Posicion de la fila dentro de la lista
+     * @param onFlagReady Callback que recibe la bandera en el hilo principal (o null si fallo)
+     */
+    @Override
+    public void requestCountryFlagForRow(CountryInformation information,
+                                         FlagSizeBucket sizeBucket,
+                                         int rowPosition,
+                                         Consumer<Bitmap> onFlagReady) {
+        this.requestingCountryFlagHelper(information, sizeBucket, false, rowPosition, onFlagReady);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Variante de {@link #requestCountryFlag(CountryInformation, FlagSizeBucket, Consumer)} para
+     * consumidores que necesitan leer los pixeles de la bandera. Con la politica HARDWARE estos
+     * consumidores reciben un Bitmap en software (ARGB_8888), las demas politicas ya lo son.
+     * </body>
+     *
+     * @param information            Informacion del pais cuya bandera se requiere
+     * @param sizeBucket             Bucket de tamano con el que la vista dibuja la bandera
+     * @param requiresSoftwarePixels Verdadero si el consumidor necesita un Bitmap en software
+     * @param onFlagReady            Callback que recibe la bandera en el hilo principal
+     */
+    public void requestCountryFlag(CountryInformation information,
+                                   FlagSizeBucket sizeBucket,
+                                   boolean requiresSoftwarePixels,
+                                   Consumer<Bitmap> onFlagReady) {
+        this.requestingCountryFlagHelper(information, sizeBucket, requiresSoftwarePixels,
+                                         FlagDecodingExecutor.NO_ROW_POSITION, onFlagReady);
+    }
+
+    private void requestingCountryFlagHelper(CountryInformation information,
+                                             FlagSizeBucket sizeBucket,
+                                             boolean requiresSoftwarePixels,
+                                             int rowPosition,
+                                             Consumer<Bitmap> onFlagReady) {
+        FlagBitmapConfigPolicy effectivePolicy =
+                this.flagBitmapConfigPolicy.resolveFor(requiresSoftwarePixels);
+        //? 1. Revisamos primero la casilla del pais y luego el cache, solo los paises del
+        // catalogo actual tienen casilla
+        boolean hasFlagSlot = this.countryCatalogTable.contains(information);
+        int countryId = information.getCountryId();
+        Bitmap slotFlag = hasFlagSlot
+                          ? this.countryFlagSlots.get(countryId, sizeBucket, effectivePolicy)
+                          : null;
+        if (slotFlag != null) {
+            onFlagReady.accept(slotFlag);
+            return;
+        }
+        String countryImageAssetPath = information.getCountryImageAssetPath();
+        String cacheKey = effectivePolicy.cacheKeyFor(sizeBucket, countryImageAssetPath);
+        Bitmap cachedFlag = this.countryFlagCache.get(cacheKey);
+        if (cachedFlag != null) {
+            if (hasFlagSlot) {
+                this.countryFlagSlots.put(countryId, sizeBucket, effectivePolicy, cacheKey,
+                                          cachedFlag);
+            }
+            onFlagReady.accept(cachedFlag);
+            return;
+        }
+
+        //? 2. Si ya se esta decodificando, solo esperamos el resultado
+        List<Consumer<Bitmap>> waitingCallbacks = this.pendingCountryFlagRequests.get(cacheKey);
+        if (waitingCallbacks != null) {
+            waitingCallbacks.add(onFlagReady);
+            return;
+        }
+        this.markingFirstFlagScreenRequestHelper();
+        waitingCallbacks = new ArrayList<>();
+        waitingCallbacks.add(onFlagReady);
+        this.pendingCountryFlagRequests.put(cacheKey, waitingCallbacks);
+
+        //? 3. Decodificamos en el ejecutor compartido, solo al tamano del bucket; la prioridad
+        // depende del continente seleccionado y de la distancia de la fila a la ventana visible
+        AssetManager managerRequiredForImageExtraction = this.applicationContext.getAssets();
+        this.flagDecodingExecutor.executeForRow(information.getCountryContinent(), rowPosition,
+                                                cacheKey, () -> {
+            Bitmap imageForCountryBitmap = null;
+            try {
+                imageForCountryBitmap = loadingFlagThroughDiskCache(
+                        managerRequiredForImageExtraction, countryImageAssetPath, sizeBucket,
+                        effectivePolicy);
+            } catch (Exception e) {
+                Log.e("[ApplicationDataPOJO]", "Error Code 0x001 - [Raised] - ApplicationDataPOJO" +
+                        " - requestCountryFlag - IOException - " + e.getMessage());
+                e.printStackTrace();
+            }
+
+            //? 4. Entregamos el resultado en el hilo principal
+            final Bitmap decodedFlag = imageForCountryBitmap;
+            this.postingToMainThreadHelper(() -> {
+                if (decodedFlag != null) {
+                    this.countryFlagCache.put(cacheKey, decodedFlag);
+                    //? Si hubo una recarga mientras se decodificaba el pais ya no es parte del
+                    // catalogo actual y su identificador podria ser de otro pais
+                    if (this.countryCatalogTable.contains(information)) {
+                        this.countryFlagSlots.put(information.getCountryId(), sizeBucket,
+                                                  effectivePolicy, cacheKey, decodedFlag);
+                    }
+                }
+                List<Consumer<Bitmap>> callbacks = this.pendingCountryFlagRequests.remove(cacheKey);
+                if (callbacks != null) {
+                    for (Consumer<Bitmap> callback : callbacks) {
+                        callback.accept(decodedFlag);
+                    }
+                }
+                reportStartupFlagLoadIfFirstScreenIsReady();
+            });
+        });
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que obtiene una miniatura primero desde el cache en disco y, solo si no
+     * existe, decodifica el PNG al tamano del bucket y guarda el resultado en disco para el
+     * siguiente inicio. En disco solo hay pixeles en software, por lo que con la politica HARDWARE
+     * la miniatura leida se sube a la memoria grafica.
+     * </body>
+     *
+     * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los assets
+     * @param assetPath                         Ruta del asset dentro de la carpeta assets
+     * @param sizeBucket                        Bucket al que se debe decodificar la imagen
+     * @param configPolicy                      Politica efectiva de configuracion del Bitmap
+     * @return Bitmap La miniatura al tamano del bucket
+     * @throws IOException Si el asset no existe o no se puede decodificar
+     */
+    private Bitmap loadingFlagThroughDiskCache(AssetManager managerRequiredForImageExtraction,
+                                               String assetPath,
+                                               FlagSizeBucket sizeBucket,
+                                               FlagBitmapConfigPolicy configPolicy)
+            throws IOException {
+        String diskCacheKey = configPolicy.diskCacheKeyFor(sizeBucket, assetPath);
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("readFlagFromDiskCache");
+        Bitmap flagFromDisk;
+        try {
+            flagFromDisk = this.flagDiskCache.read(diskCacheKey);
+        } finally {
+            StartupTraceRecorder.endPhase("readFlagFromDiskCache", phaseStartNanos);
+        }
+        if (flagFromDisk != null) {
+            return configPolicy.adaptSoftwareBitmap(flagFromDisk);
+        }
+        Bitmap decodedFlag = FlagBitmapDecoder.decodeAssetToBucket(
+                managerRequiredForImageExtraction, assetPath, sizeBucket, configPolicy);
+        if (decodedFlag != null) {
+            this.flagDiskCache.write(diskCacheKey, decodedFlag);
+        }
+        return decodedFlag;
+    }
+
+    /**
+     * @description: guarda el instante de la primera peticion de la sesion que tuvo que decodificar
+     * una bandera o cargar un atlas, desde el que se mide la primera pantalla de banderas
+     */
+    private void markingFirstFlagScreenRequestHelper() {
+        if (!this.hasRequestedFirstFlagScreen) {
+            this.hasRequestedFirstFlagScreen = true;
+            this.firstFlagScreenRequestNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que reporta en logcat, una sola vez por sesion, cuanto tardo la primera
+     * pantalla de banderas desde la primera peticion hasta que se entrego el primer lote completo,
+     * es decir hasta que no queda ninguna bandera ni atlas pendiente. Indica si el cache en disco
+     * estaba caliente (todo se leyo de disco), frio (todo se decodifico) o parcial, y cuantos
+     * atlas se cargaron; si la pantalla se dibujo solo con atlas el cache en disco no se uso.
+     * </body>
+     */
+    private void reportStartupFlagLoadIfFirstScreenIsReady() {
+        if (this.hasReportedStartupFlagLoad || !this.hasRequestedFirstFlagScreen
+                || !this.pendingCountryFlagRequests.isEmpty()
+                || !this.pendingFlagAtlasRequests.isEmpty()) {
+            return;
+        }
+        this.hasReportedStartupFlagLoad = true;
+        //? La primera pantalla de banderas ya se entrego, la carga queda caliente una vez que
+        // los iconos tambien esten listos
+        synchronized (this) {
+            this.hasDeliveredFirstFlagScreen = true;
+            if (this.currentLoadState.hasReached(LoadState.ICONS_READY)) {
+                advanceLoadState(LoadState.FLAGS_WARM);
+            }
+        }
+        long elapsedMillis =
+                (System.nanoTime() - this.firstFlagScreenRequestNanos) / 1_000_000L;
+        int diskHits = this.flagDiskCache.getDiskHits();
+        int diskMisses = this.flagDiskCache.getDiskMisses();
+        String diskCacheState = diskHits + diskMisses == 0 ? "sin usar"
+                                : diskMisses == 0 ? "caliente"
+                                : diskHits == 0 ? "frio" : "parcial";
+        Log.i("[ApplicationDataPOJO]", "Primera pantalla de banderas lista en " + elapsedMillis +
+                " ms desde la primera peticion - atlas cargados " +
+                this.loadedFlagAtlases.size() + " - cache en disco " + diskCacheState + " - " +
+                this.flagDiskCache.describeStatistics());
+    }
+
+    /*? Metodos de trabajo planeados para los FlagAtlas*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que indica si la compilacion genero un atlas para el continente cuyo bucket cubre el
+     * bucket pedido. Un atlas de un bucket mayor sirve para filas mas pequenas (el Drawable lo
+     * reduce al dibujar), pero nunca se usa para escalar hacia arriba.
+     * </body>
+     *
+     * @param continentName Nombre del continente
+     * @param sizeBucket    Bucket de tamano con el que la vista dibuja la bandera
+     * @return boolean Verdadero si existe un atlas utilizable
+     */
+    @Override
+    public boolean hasFlagAtlasCovering(String continentName, FlagSizeBucket sizeBucket) {
+        if (this.assetCatalog == null || continentName == null) {
+            return false;
+        }
+        AssetCatalog.AtlasEntry atlasEntry = this.assetCatalog.findAtlasFor(continentName);
+        if (atlasEntry == null) {
+            return false;
+        }
+        try {
+            return FlagSizeBucket.valueOf(atlasEntry.getSizeBucket()).compareTo(sizeBucket) >= 0;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public FlagAtlas getLoadedFlagAtlas(String continentName) {
+        if (continentName == null) {
+            return null;
+        }
+        return this.loadedFlagAtlases.get(continentName);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que pide el atlas de banderas de un continente. El atlas se decodifica una sola vez en
+     * el {@link FlagDecodingExecutor} y se entrega en el hilo principal, varias peticiones del
+     * mismo continente comparten la misma carga.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Si el atlas ya esta cargado lo entrega de inmediato</li>
+     *   <li>Si ya hay una carga en curso, encola el callback</li>
+     *   <li>Si no, carga el atlas en segundo plano y notifica a todos los callbacks</li>
+     * </ol>
+     * </body>
+     *
+     * @param continentName Nombre del continente
+     * @param onAtlasReady  Callback que recibe el atlas en el hilo principal (o null si no existe)
+     */
+    @Override
+    public void requestFlagAtlas(String continentName, Consumer<FlagAtlas> onAtlasReady) {
+        //? 1. Revisamos los atlas ya cargados
+        FlagAtlas loadedAtlas = this.getLoadedFlagAtlas(continentName);
+        if (loadedAtlas != null) {
+            onAtlasReady.accept(loadedAtlas);
+            return;
+        }
+        AssetCatalog.AtlasEntry atlasEntry =
+                this.assetCatalog != null ? this.assetCatalog.findAtlasFor(continentName) : null;
+        if (atlasEntry == null) {
+            onAtlasReady.accept(null);
+            return;
+        }
+
+        //? 2. Si ya se esta cargando, solo esperamos el resultado
+        List<Consumer<FlagAtlas>> waitingCallbacks =
+                this.pendingFlagAtlasRequests.get(continentName);
+        if (waitingCallbacks != null) {
+            waitingCallbacks.add(onAtlasReady);
+            return;
+        }
+        this.markingFirstFlagScreenRequestHelper();
+        waitingCallbacks = new ArrayList<>();
+        waitingCallbacks.add(onAtlasReady);
+        this.pendingFlagAtlasRequests.put(continentName, waitingCallbacks);
+
+        //? 3. Cargamos el atlas en el ejecutor compartido
+        AssetManager managerRequiredForImageExtraction = this.applicationContext.getAssets();
+        FlagBitmapConfigPolicy atlasConfigPolicy = this.flagBitmapConfigPolicy.resolveFor(false);
+        this.flagDecodingExecutor.executeForRow(continentName, 0, continentName, () -> {
+            FlagAtlas decodedAtlas = FlagAtlas.loadFromAssets(managerRequiredForImageExtraction,
+                                                              atlasEntry, atlasConfigPolicy);
+            this.postingToMainThreadHelper(() -> {
+                if (decodedAtlas != null) {
+                    this.loadedFlagAtlases.put(continentName, decodedAtlas);
+                }
+                List<Consumer<FlagAtlas>> callbacks =
+                        this.pendingFlagAtlasRequests.remove(continentName);
+                if (callbacks != null) {
+                    for (Consumer<FlagAtlas> callback : callbacks) {
+                        callback.accept(decodedAtlas);
+                    }
+                }
+                //? Con atlas las filas no piden banderas individuales, la carga del atlas tambien
+                // es parte de la primera pantalla
+                reportStartupFlagLoadIfFirstScreenIsReady();
+            });
+        });
+    }
+
+    public String describeCountryFlagCacheStatistics() {
+        return this.countryFlagCache.describeStatistics();
+    }
+
+    /*? Metodos de trabajo planeados para el FlagBitmapConfigPolicy*/
+    public FlagBitmapConfigPolicy getFlagBitmapConfigPolicy() {
+        return this.flagBitmapConfigPolicy;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que cambia la politica de configuracion de las banderas. Las banderas ya cargadas con
+     * otra politica no se descartan, tienen otra llave y el LruCache las expulsa cuando necesite
+     * espacio; los atlas si se descartan para volver a decodificarlos con la nueva politica.
+     * </body>
+     *
+     * @param flagBitmapConfigPolicy Nueva politica de configuracion
+     */
+    public void setFlagBitmapConfigPolicy(FlagBitmapConfigPolicy flagBitmapConfigPolicy) {
+        if (flagBitmapConfigPolicy == null || flagBitmapConfigPolicy == this.flagBitmapConfigPolicy) {
+            return;
+        }
+        this.flagBitmapConfigPolicy = flagBitmapConfigPolicy;
+        this.loadedFlagAtlases.evictAll();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo de depuracion que resume los bytes de las banderas residentes en el cache por cada
+     * politica de configuracion, junto con los bytes de los atlas cargados. Los Bitmaps HARDWARE
+     * reportan su tamano pero viven en la memoria grafica, no en el heap.
+     * </body>
+     *
+     * @return String Resumen legible de los bytes por politica
+     */
+    public String describeFlagBitmapBytesPerConfigPolicy() {
+        //? 1. Agrupamos las entradas del cache por el sufijo de la politica en su llave
+        long[] bytesPerPolicy = new long[FlagBitmapConfigPolicy.values().length];
+        int[] entriesPerPolicy = new int[FlagBitmapConfigPolicy.values().length];
+        for (Map.Entry<String, Bitmap> cachedFlag : this.countryFlagCache.snapshot().entrySet()) {
+            String cachedKey = cachedFlag.getKey();
+            try {
+                FlagBitmapConfigPolicy policy = FlagBitmapConfigPolicy.valueOf(
+                        cachedKey.substring(cachedKey.lastIndexOf('#') + 1));
+                bytesPerPolicy[policy.ordinal()] += cachedFlag.getValue().getAllocationByteCount();
+                entriesPerPolicy[policy.ordinal()]++;
+            } catch (IllegalArgumentException e) {
+                //? Llave sin politica, no deberia ocurrir
+            }
+        }
+
+        //? 2. Armamos el resumen, marcando la politica activa
+        StringBuilder readout = new StringBuilder();
+        for (FlagBitmapConfigPolicy policy : FlagBitmapConfigPolicy.values()) {
+            readout.append(policy == this.flagBitmapConfigPolicy ? "> " : "  ")
+                    .append(policy.name()).append(": ")
+                    .append(bytesPerPolicy[policy.ordinal()] / 1024).append(" KB en ")
+                    .append(entriesPerPolicy[policy.ordinal()]).append(" banderas\n");
+        }
+        long atlasBytes = 0;
+        for (FlagAtlas atlas : this.loadedFlagAtlases.snapshot().values()) {
+            atlasBytes += atlas.getAtlasByteCount();
+        }
+        readout.append("  Atlas: ").append(atlasBytes / 1024).append(" KB");
+        return readout.toString();
     }
 
     /*? Metodos de trabajo planeados para el SelectedContinent*/
     public void setSelectedContinentIntoMutableData(String selectedContinent) {
         this.mutableSelectedContinent.setValue(selectedContinent);
+        //? 1. Al elegir un continente sus banderas pasan al frente de la cola y el trabajo de
+        // los demas continentes se cancela
+        this.reschedulingFlagDecodesHelper(selectedContinent != null && !selectedContinent.isEmpty());
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que recibe el rango de filas visibles de la lista de paises y reordena la cola de
+     * decodificacion para que esas filas, y luego las mas cercanas, se decodifiquen primero.
+     * </body>
+     *
+     * @param firstVisibleRow Primera fila visible
+     * @param lastVisibleRow  Ultima fila visible
+     */
+    public void updateVisibleCountryRows(int firstVisibleRow, int lastVisibleRow) {
+        if (firstVisibleRow < 0 || lastVisibleRow < firstVisibleRow
+                || (firstVisibleRow == this.firstVisibleCountryRow
+                && lastVisibleRow == this.lastVisibleCountryRow)) {
+            return;
+        }
+        this.firstVisibleCountryRow = firstVisibleRow;
+        this.lastVisibleCountryRow = lastVisibleRow;
+        this.reschedulingFlagDecodesHelper(false);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que reordena la cola del ejecutor con el continente seleccionado y las filas
+     * visibles. Si se cancelan tareas, sus peticiones pendientes se descartan para que una nueva
+     * peticion de la misma bandera vuelva a encolarla.
+     * </body>
+     *
+     * @param cancelOtherContinents Verdadero para cancelar las tareas de otros continentes
+     */
+    private void reschedulingFlagDecodesHelper(boolean cancelOtherContinents) {
+        if (cancelOtherContinents) {
+            //? Un continente nuevo empieza desde arriba de la lista
+            this.firstVisibleCountryRow = 0;
+            this.lastVisibleCountryRow = Integer.MAX_VALUE;
+        }
+        List<String> cancelledRequestKeys = this.flagDecodingExecutor.updatePriorities(
+                this.mutableSelectedContinent.getValue(), this.firstVisibleCountryRow,
+                this.lastVisibleCountryRow, cancelOtherContinents);
+        for (String cancelledRequestKey : cancelledRequestKeys) {
+            this.pendingCountryFlagRequests.remove(cancelledRequestKey);
+            this.pendingFlagAtlasRequests.remove(cancelledRequestKey);
+        }
     }
 
     public MutableLiveData<String> getMutableSelectedContinent() {
@@ -935,4 +2376,48 @@ public class ApplicationDataPOJO extends AndroidViewModel {
         this.dropContinentSelection();
     }
 
+    /*? Metodos de trabajo planeados para el FlagDecodingExecutor*/
+    public int getMaximumConcurrentFlagDecodes() {
+        return this.flagDecodingExecutor.getMaximumConcurrentDecodes();
+    }
+
+    public int getPeakConcurrentFlagDecodes() {
+        return this.flagDecodingExecutor.getPeakConcurrentDecodes();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo llamado por Android cuando el ViewModel deja de usarse definitivamente. Aqui cerramos
+     * el ejecutor de decodificacion de banderas para que ningun hilo quede vivo despues de que la
+     * actividad se destruye.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Registra las metricas de concurrencia observadas durante la sesion</li>
+     *   <li>Cancela las decodificaciones pendientes y cierra el ejecutor</li>
+     *   <li>Libera las banderas y los atlas que siguen en memoria</li>
+     * </ol>
+     * </body>
+     */
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        //? Marcamos primero, lo que ya este encolado en el hilo principal o termine en el
+        // ejecutor despues de shutdownNow se descarta al revisar la marca
+        this.hasBeenCleared = true;
+        Log.d("[ApplicationDataPOJO]", "FlagDecodingExecutor - pico de decodificaciones " +
+                "concurrentes: " + this.flagDecodingExecutor.getPeakConcurrentDecodes() + "/" +
+                this.flagDecodingExecutor.getMaximumConcurrentDecodes() + " - completadas: " +
+                this.flagDecodingExecutor.getCompletedDecodes());
+        Log.d("[ApplicationDataPOJO]", this.countryFlagCache.describeStatistics());
+        Log.d("[ApplicationDataPOJO]", this.flagDiskCache.describeStatistics());
+        this.flagDecodingExecutor.shutdownNow();
+        this.mainThreadHandler.removeCallbacksAndMessages(null);
+        this.pendingCountryFlagRequests.clear();
+        this.pendingFlagAtlasRequests.clear();
+        this.countryFlagCache.evictAll();
+        this.loadedFlagAtlases.evictAll();
+    }
+
 }
@@ -0,0 +1,154 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.content.res.AssetManager;
+import android.util.Log;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define el catalogo de assets que se genera en tiempo de
+ * compilacion con la tarea {@code generateAssetCatalog} del modulo app. Antes, al iniciar, se
+ * llamaba a {@code AssetManager.list()} por cada carpeta de continente y se extraia el nombre del
+ * pais del nombre del archivo. Ahora la tarea de Gradle hace ese trabajo una sola vez y escribe un
+ * JSON que Gson lee de forma secuencial al iniciar la aplicacion.
+ */
+public class AssetCatalog {
+
+    /**
+     * @description: nombre del archivo generado dentro de la carpeta assets
+     */
+    public static final String CATALOG_ASSET_NAME = "asset_catalog.json";
+    /**
+     * @description: version del formato del catalogo, si la tarea de Gradle cambia el formato
+     * tambien debe cambiar este valor
+     */
+    public static final int SUPPORTED_CATALOG_VERSION = 1;
+
+    /*! Parametros internos, leidos directamente por Gson*/
+    private int version;
+    private List<String> continents = new ArrayList<>();
+    private List<Entry> countries = new ArrayList<>();
+    private List<Entry> icons = new ArrayList<>();
+    private List<AtlasEntry> atlases = new ArrayList<>();
+
+    /**
+     * @description: entrada individual del catalogo, describe un archivo de imagen dentro de los
+     * assets con sus dimensiones y tamano en bytes
+     */
+    public static class Entry {
+        private String continent;
+        private String displayName;
+        private String assetPath;
+        private int width;
+        private int height;
+        private long byteSize;
+
+        public String getContinent() {return this.continent;}
+
+        public String getDisplayName() {return this.displayName;}
+
+        public String getAssetPath() {return this.assetPath;}
+
+        public int getWidth() {return this.width;}
+
+        public int getHeight() {return this.height;}
+
+        public long getByteSize() {return this.byteSize;}
+    }
+
+    /**
+     * @description: entrada de un atlas de banderas, solo existe si la compilacion genero los
+     * atlas con la propiedad {@code countryViewer.flagAtlasBucket}
+     */
+    public static class AtlasEntry {
+        private String continent;
+        private String atlasPath;
+        private String offsetTablePath;
+        private String sizeBucket;
+
+        public String getContinent() {return this.continent;}
+
+        public String getAtlasPath() {return this.atlasPath;}
+
+        public String getOffsetTablePath() {return this.offsetTablePath;}
+
+        public String getSizeBucket() {return this.sizeBucket;}
+    }
+
+    /*! Getters*/
+    public int getVersion() {return this.version;}
+
+    public List<String> getContinents() {return this.continents;}
+
+    public List<Entry> getCountries() {return this.countries;}
+
+    public List<Entry> getIcons() {return this.icons;}
+
+    public List<AtlasEntry> getAtlases() {
+        return this.atlases != null ? this.atlases : new ArrayList<>();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que busca el atlas de banderas de un continente, si la compilacion lo genero.
+     * </body>
+     *
+     * @param continentName Nombre del continente
+     * @return AtlasEntry La entrada del atlas, o null si el continente no tiene atlas
+     */
+    public AtlasEntry findAtlasFor(String continentName) {
+        for (AtlasEntry atlasEntry : this.getAtlases()) {
+            if (atlasEntry.getContinent().equalsIgnoreCase(continentName)) {
+                return atlasEntry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que lee el catalogo generado desde los assets. Si el archivo no existe (por ejemplo,
+     * en una compilacion que no corrio la tarea de Gradle) o tiene una version distinta, se retorna
+     * null para que el llamador use el escaneo de carpetas como respaldo.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Abre el archivo del catalogo desde el AssetManager</li>
+     *   <li>Lo deserializa con Gson en una sola lectura secuencial</li>
+     *   <li>Verifica la version del formato</li>
+     * </ol>
+     * </body>
+     *
+     * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los assets
+     * @return AssetCatalog El catalogo leido, o null si no esta disponible
+     */
+    public static AssetCatalog loadFromAssets(AssetManager managerRequiredForImageExtraction) {
+        try (Reader catalogReader = new BufferedReader(new InputStreamReader(
+                managerRequiredForImageExtraction.open(CATALOG_ASSET_NAME),
+                StandardCharsets.UTF_8))) {
+            AssetCatalog catalog = new Gson().fromJson(catalogReader, AssetCatalog.class);
+            if (catalog == null || catalog.getVersion() != SUPPORTED_CATALOG_VERSION) {
+                Log.w("[AssetCatalog]", "Error Code 0x002 - [Raised] - AssetCatalog - " +
+                        "loadFromAssets - version del catalogo no soportada");
+                return null;
+            }
+            return catalog;
+        } catch (IOException | JsonParseException e) {
+            Log.w("[AssetCatalog]", "Error Code 0x001 - [Raised] - AssetCatalog - " +
+                    "loadFromAssets - " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define la transaccion de eliminaciones del view model, al
+ * estilo de {@code SharedPreferences.edit()}. Antes cada pais o continente eliminado publicaba sus
+ * propios setValue (uno por lista afectada) y escribia las preferencias por separado; con esta
+ * transaccion se acumulan las eliminaciones y {@link #apply()} las aplica juntas: cada LiveData
+ * afectado se publica una sola vez y el filtro de eliminados se escribe una sola vez, en segundo
+ * plano. Se crea con {@link ApplicationDataPOJO#edit()} y se usa solo desde el hilo principal.
+ */
+public final class CatalogRemovalEditor {
+
+    /*! Parametros internos*/
+    private final ApplicationDataPOJO applicationDataPOJO;
+    private final Set<String> removedCountryNames = new LinkedHashSet<>();
+    private final Set<String> removedContinentNames = new LinkedHashSet<>();
+    private boolean hasBeenApplied = false;
+
+    CatalogRemovalEditor(ApplicationDataPOJO applicationDataPOJO) {
+        this.applicationDataPOJO = applicationDataPOJO;
+    }
+
+    /*! Eliminaciones acumuladas*/
+    public CatalogRemovalEditor removeCountry(String countryName) {
+        this.removedCountryNames.add(countryName);
+        return this;
+    }
+
+    public CatalogRemovalEditor removeCountries(Collection<String> countryNames) {
+        this.removedCountryNames.addAll(countryNames);
+        return this;
+    }
+
+    public CatalogRemovalEditor removeContinent(String continentName) {
+        this.removedContinentNames.add(continentName);
+        return this;
+    }
+
+    public CatalogRemovalEditor removeContinents(Collection<String> continentNames) {
+        this.removedContinentNames.addAll(continentNames);
+        return this;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que aplica todas las eliminaciones acumuladas en una sola transaccion. Los nombres que
+     * no corresponden a un pais o continente visible se ignoran. Una transaccion solo se puede
+     * aplicar una vez.
+     * </body>
+     *
+     * @return boolean Verdadero si se elimino al menos un pais o continente
+     * @throws IllegalStateException Si la transaccion ya se aplico
+     */
+    public boolean apply() {
+        if (this.hasBeenApplied) {
+            throw new IllegalStateException("La transaccion de eliminaciones ya se aplico");
+        }
+        this.hasBeenApplied = true;
+        if (this.removedCountryNames.isEmpty() && this.removedContinentNames.isEmpty()) {
+            return false;
+        }
+        return this.applicationDataPOJO.applyingRemovalTransaction(
+                Collections.unmodifiableSet(this.removedCountryNames),
+                Collections.unmodifiableSet(this.removedContinentNames));
+    }
+}
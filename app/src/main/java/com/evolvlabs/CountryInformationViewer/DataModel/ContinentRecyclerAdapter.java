@@ -4,7 +4,6 @@ import android.content.Context;
 import android.content.DialogInterface;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -16,13 +15,14 @@ import androidx.annotation.ReturnThis;
 import androidx.appcompat.app.AlertDialog;
 import androidx.core.content.res.ResourcesCompat;
 import androidx.drawerlayout.widget.DrawerLayout;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import com.evolvlabs.CountryInformationViewer.Utilities.ConfirmationDialogBuilder;
 import com.evolvlabs.countryinformationviewer.R;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.InputStream;
 
 
 /**
@@ -31,10 +31,30 @@ import java.io.InputStream;
  * @description: El presente archivo implementa un adaptador complejo para el manejo de un Recycler
  * View en lugar de un list View, este es un gusto que teniamos porque habiamos usado siempre
  * ListViews y por tanto trabajar con Recycler view seria nuevo y atractivo dado su metodologia de
- * trabajo
+ * trabajo. Las filas son {@link ContinentRowItem} ya resueltas con identificador estable, y el diff
+ * contra la lista anterior se calcula en segundo plano, de forma que eliminar, restaurar o recargar
+ * un continente solo toca sus filas.
  */
 public class ContinentRecyclerAdapter
-        extends RecyclerView.Adapter<ContinentRecyclerAdapter.ContinentViewHolder> {
+        extends ListAdapter<ContinentRowItem, ContinentRecyclerAdapter.ContinentViewHolder> {
+
+    /**
+     * @description: identidad de una fila en el diff: el ordinal del continente en el catalogo
+     */
+    private static final DiffUtil.ItemCallback<ContinentRowItem> CONTINENT_DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<ContinentRowItem>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull ContinentRowItem oldRow,
+                                               @NonNull ContinentRowItem newRow) {
+                    return oldRow.getStableId() == newRow.getStableId();
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull ContinentRowItem oldRow,
+                                                  @NonNull ContinentRowItem newRow) {
+                    return oldRow.hasSameContentAs(newRow);
+                }
+            };
 
     /*! Parametros Internos*/
     private final ApplicationDataPOJO viewModelPassedFromOutside;
@@ -43,10 +63,30 @@ public class ContinentRecyclerAdapter
     /*Constructor de la clase general*/
     public ContinentRecyclerAdapter(ApplicationDataPOJO applicationDataPOJOFromTheOutside,
                                     Context contextPassedFromTheOutside) {
+        super(CONTINENT_DIFF_CALLBACK);
         //? 1. Guardamos la conexion directamente en el adapter, para tener conexion, mientras el
         // adapter siga vivo con los datos de la app
         this.viewModelPassedFromOutside = applicationDataPOJOFromTheOutside;
         this.contextPassedFromTheOutside = contextPassedFromTheOutside;
+        //? 2. Cada fila conserva su identificador, RecyclerView reutiliza su vista y su animacion
+        this.setHasStableIds(true);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que entrega al adaptador las filas de los continentes visibles. El view model
+     * entrega la misma lista mientras no cambien los continentes ni los iconos, en ese caso no se
+     * calcula ningun diff.
+     * </body>
+     */
+    public void refreshVisibleContinents() {
+        this.submitList(viewModelPassedFromOutside.getVisibleContinentRows());
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return this.getItem(position).getStableId();
     }
 
 
@@ -101,38 +141,17 @@ public class ContinentRecyclerAdapter
 
     @Override
     public void onBindViewHolder(@NonNull @NotNull ContinentViewHolder s, int i) {
-        //? Para cargar los datos, tenemos que revisar la lista y obtener la posicion de la lista
-        // que tenemos internamente
-        if (viewModelPassedFromOutside.constantContinentList.getValue() != null) {
-            String continentName =
-                    viewModelPassedFromOutside.constantContinentList.getValue().get(i);
-            Bitmap continentIconBitmap = null;
-            if (viewModelPassedFromOutside.constantContinentIconMap.getValue() != null) {
-                continentIconBitmap =
-                        viewModelPassedFromOutside.constantContinentIconMap.getValue().get(continentName);
-            }
-            else {
-                try (InputStream stream =
-                             contextPassedFromTheOutside.getAssets().open("Icons/"+ continentName)){
-                    continentIconBitmap =
-                            BitmapFactory.decodeStream(stream);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }
-
-            s.bind(continentName, continentIconBitmap);
+        //? Para cargar los datos, tomamos la fila ya resuelta de la lista entregada al adaptador.
+        // Los iconos se publican en segundo plano despues de la lista, mientras no esten listos
+        // la fila se dibuja sin icono y el diff solo la vuelve a enlazar cuando llegan
+        if (i < this.getItemCount()) {
+            ContinentRowItem continentRow = this.getItem(i);
+            s.bind(continentRow.getContinentName(), continentRow.getContinentIcon());
             s.bindOnClickListener(new OnContinentClickListener());
             s.bindOnLongClickListener(new OnContinentLongClickListener());
         }
     }
 
-    @Override
-    public int getItemCount() {
-        return ((viewModelPassedFromOutside.constantContinentList.getValue() != null) ?
-                viewModelPassedFromOutside.constantContinentList.getValue().size() : 0);
-    }
-
 
     private class OnContinentClickListener implements View.OnClickListener {
 
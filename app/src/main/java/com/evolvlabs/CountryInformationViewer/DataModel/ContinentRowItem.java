@@ -0,0 +1,54 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.graphics.Bitmap;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define una fila ya resuelta de la lista de continentes: su
+ * identificador estable, su nombre y la referencia a su icono. Antes cada enlace leia la lista de
+ * continentes y el mapa de iconos del view model; ahora el adaptador recibe estas filas inmutables
+ * y el diff compara referencias, de forma que solo cambian las filas cuyo continente o icono
+ * cambio.
+ */
+public final class ContinentRowItem {
+
+    /*! Parametros internos*/
+    private final long stableId;
+    private final String continentName;
+    private final Bitmap continentIcon;
+
+    public ContinentRowItem(long stableId, String continentName, Bitmap continentIcon) {
+        this.stableId = stableId;
+        this.continentName = continentName;
+        this.continentIcon = continentIcon;
+    }
+
+    /**
+     * @description: ordinal del continente en el catalogo, no cambia al eliminar o restaurar
+     * otros continentes
+     */
+    public long getStableId() {
+        return stableId;
+    }
+
+    public String getContinentName() {
+        return continentName;
+    }
+
+    /**
+     * @description: icono del continente, o null si los iconos aun no se publican
+     */
+    public Bitmap getContinentIcon() {
+        return continentIcon;
+    }
+
+    /**
+     * @description: verdadero si la fila se dibuja igual, el icono se compara por referencia dado
+     * que cada icono se decodifica una sola vez
+     */
+    public boolean hasSameContentAs(ContinentRowItem otherRow) {
+        return this.continentName.equals(otherRow.continentName)
+               && this.continentIcon == otherRow.continentIcon;
+    }
+}
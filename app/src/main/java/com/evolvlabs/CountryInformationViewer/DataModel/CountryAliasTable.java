@@ -0,0 +1,77 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.content.res.AssetManager;
+import android.util.Log;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define la tabla de alias de nombres de paises. Los nombres
+ * salen de los archivos de las banderas y algunos estan abreviados ("Dem. Rep. of the Congo",
+ * "Eq. Guinea"), la tabla agrega los nombres con los que un usuario los buscaria ("DRC",
+ * "Equatorial Guinea"). Se escribe a mano en {@code country_aliases.json} dentro de assets y se
+ * lee con Gson al cargar el catalogo.
+ */
+public class CountryAliasTable {
+
+    /**
+     * @description: nombre del archivo de alias dentro de la carpeta assets
+     */
+    public static final String ALIASES_ASSET_NAME = "country_aliases.json";
+    public static final int SUPPORTED_ALIASES_VERSION = 1;
+
+    /*! Parametros internos, leidos directamente por Gson*/
+    private int version;
+    private Map<String, List<String>> aliases;
+
+    /*! Getters*/
+    public int getVersion() {return this.version;}
+
+    /**
+     * @description: alias por nombre de pais, tal como aparece el nombre en el catalogo
+     */
+    public Map<String, List<String>> getAliases() {
+        return this.aliases != null ? this.aliases : Collections.emptyMap();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que lee la tabla de alias desde los assets. Si el archivo no existe o tiene una
+     * version distinta se retorna una tabla vacia: la busqueda sigue funcionando solo con los
+     * nombres del catalogo.
+     * </body>
+     *
+     * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los assets
+     * @return Map Alias por nombre de pais, vacio si la tabla no esta disponible
+     */
+    public static Map<String, List<String>> loadFromAssets(
+            AssetManager managerRequiredForImageExtraction) {
+        try (Reader aliasesReader = new BufferedReader(new InputStreamReader(
+                managerRequiredForImageExtraction.open(ALIASES_ASSET_NAME),
+                StandardCharsets.UTF_8))) {
+            CountryAliasTable table = new Gson().fromJson(aliasesReader, CountryAliasTable.class);
+            if (table == null || table.getVersion() != SUPPORTED_ALIASES_VERSION) {
+                Log.w("[CountryAliasTable]", "Error Code 0x002 - [Raised] - CountryAliasTable - " +
+                        "loadFromAssets - version de la tabla de alias no soportada");
+                return Collections.emptyMap();
+            }
+            return table.getAliases();
+        } catch (IOException | JsonParseException e) {
+            Log.w("[CountryAliasTable]", "Error Code 0x001 - [Raised] - CountryAliasTable - " +
+                    "loadFromAssets - " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define la tabla del catalogo de paises cargado. Al cargar el
+ * catalogo cada pais recibe un identificador entero denso (su posicion en el catalogo) y sus datos
+ * se copian a arreglos paralelos indexados por ese identificador: nombre, ruta de la bandera y
+ * ordinal del continente. Las rutas calientes (enlazar una fila, verificar que una bandera sigue
+ * en pantalla, eliminar las banderas de un continente) leen un arreglo en lugar de calcular hashes
+ * o comparar Strings. La tabla es inmutable; una recarga del catalogo conserva la tabla si el
+ * catalogo leido tiene los mismos paises (ver {@link #hasSameEntriesAs(List)}) y si no construye
+ * una tabla nueva que reutiliza los paises que no cambiaron (ver {@link #reconcile(List)}).
+ * La huella de la tabla resume nombres y continentes en orden, los datos guardados por
+ * identificador (ver {@link CountryRemovalFilter}) solo se restauran tal cual sobre una tabla con
+ * la misma huella; con otra huella se reubican por nombre.
+ */
+public class CountryCatalogTable {
+
+    /*! Parametros internos*/
+    private final CountryInformation[] countries;
+    private final String[] countryNames;
+    private final String[] countryImageAssetPaths;
+    private final int[] continentOrdinals;
+    private final String[] continentNames;
+    private final int fingerprint;
+
+    private CountryCatalogTable(CountryInformation[] countries, String[] countryNames,
+                                String[] countryImageAssetPaths, int[] continentOrdinals,
+                                String[] continentNames, int fingerprint) {
+        this.countries = countries;
+        this.countryNames = countryNames;
+        this.countryImageAssetPaths = countryImageAssetPaths;
+        this.continentOrdinals = continentOrdinals;
+        this.continentNames = continentNames;
+        this.fingerprint = fingerprint;
+    }
+
+    public static CountryCatalogTable empty() {
+        return new CountryCatalogTable(new CountryInformation[0], new String[0], new String[0],
+                                       new int[0], new String[0], 0);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que asigna los identificadores del catalogo y arma los arreglos paralelos. Se llama
+     * una sola vez por carga, en el hilo de carga y antes de publicar los paises.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Asigna a cada pais su posicion en el catalogo como identificador</li>
+     *   <li>Copia nombre y ruta de la bandera a sus arreglos</li>
+     *   <li>Resuelve el ordinal del continente dentro del listado de continentes</li>
+     *   <li>Acumula la huella con el nombre y el ordinal de cada pais</li>
+     * </ol>
+     * </body>
+     *
+     * @param countries      Catalogo de paises en el orden en que se cargo
+     * @param continentNames Continentes del catalogo, su posicion es el ordinal
+     * @return CountryCatalogTable Tabla del catalogo
+     */
+    public static CountryCatalogTable of(List<CountryInformation> countries,
+                                         List<String> continentNames) {
+        CountryInformation[] catalogCountries = countries.toArray(new CountryInformation[0]);
+        for (int countryId = 0; countryId < catalogCountries.length; countryId++) {
+            catalogCountries[countryId].setCountryId(countryId);
+        }
+        return fromCountriesHelper(catalogCountries, continentNames.toArray(new String[0]));
+    }
+
+    /**
+     * @description: arma los arreglos paralelos y la huella de paises ya ordenados por
+     * identificador, sin leer ni asignar sus identificadores
+     */
+    private static CountryCatalogTable fromCountriesHelper(CountryInformation[] catalogCountries,
+                                                           String[] catalogContinentNames) {
+        int countryCount = catalogCountries.length;
+        String[] countryNames = new String[countryCount];
+        String[] countryImageAssetPaths = new String[countryCount];
+        int[] continentOrdinals = new int[countryCount];
+        //? String.hashCode esta definido por la especificacion, la huella es la misma entre
+        // ejecuciones y versiones de Android
+        int fingerprint = countryCount;
+        for (int countryId = 0; countryId < countryCount; countryId++) {
+            CountryInformation country = catalogCountries[countryId];
+            countryNames[countryId] = country.getCountryName();
+            countryImageAssetPaths[countryId] = country.getCountryImageAssetPath();
+            continentOrdinals[countryId] =
+                    continentOrdinalOf(catalogContinentNames, country.getCountryContinent());
+            fingerprint = 31 * (31 * fingerprint + countryNames[countryId].hashCode())
+                          + continentOrdinals[countryId];
+        }
+        return new CountryCatalogTable(catalogCountries, countryNames, countryImageAssetPaths,
+                                       continentOrdinals, catalogContinentNames, fingerprint);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que compara un catalogo recien leido con esta tabla, sin asignarle identificadores.
+     * Es verdadero si tiene los mismos paises en el mismo orden, con el mismo nombre, continente y
+     * bandera; en ese caso una recarga puede conservar esta tabla, sus paises y sus banderas.
+     * </body>
+     *
+     * @param countries Catalogo recien leido, en el orden en que se cargo
+     * @return boolean Verdadero si el catalogo no cambio
+     */
+    public boolean hasSameEntriesAs(List<CountryInformation> countries) {
+        if (countries.size() != this.countries.length) {
+            return false;
+        }
+        for (int countryId = 0; countryId < this.countries.length; countryId++) {
+            CountryInformation country = countries.get(countryId);
+            if (!this.countryNames[countryId].equals(country.getCountryName())
+                    || !this.countryImageAssetPaths[countryId]
+                            .equals(country.getCountryImageAssetPath())
+                    || this.continentOrdinals[countryId] != continentOrdinalOf(
+                            this.continentNames, country.getCountryContinent())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que compara un catalogo recien leido que si cambio con esta tabla y arma la tabla
+     * nueva reutilizando los paises que siguen iguales. Un pais sigue igual si el catalogo nuevo
+     * tiene una entrada con su misma bandera, nombre y continente; esa entrada se reemplaza por el
+     * objeto de esta tabla, de forma que las banderas, los indices y las filas que lo referencian
+     * siguen siendo validos. Se llama en el hilo de carga: los identificadores de los paises
+     * reutilizados no se tocan aqui, se asignan en el hilo principal con
+     * {@link CatalogChanges#applyCountryIds()}.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Indexa las rutas de bandera de esta tabla</li>
+     *   <li>Recorre el catalogo nuevo reutilizando los paises iguales, los demas son nuevos y
+     *   reciben su identificador</li>
+     *   <li>Los paises de esta tabla que no se reutilizaron salen del catalogo</li>
+     * </ol>
+     * </body>
+     *
+     * @param countries Catalogo recien leido, en el orden en que se cargo
+     * @return CatalogChanges Tabla nueva y cambios respecto a esta tabla
+     */
+    public CatalogChanges reconcile(List<CountryInformation> countries) {
+        //? 1. Ruta de bandera de cada identificador anterior, las rutas no se repiten
+        Map<String, Integer> previousIdPerAssetPath = new HashMap<>(this.countries.length * 2);
+        for (int previousId = 0; previousId < this.countries.length; previousId++) {
+            previousIdPerAssetPath.put(this.countryImageAssetPaths[previousId], previousId);
+        }
+
+        //? 2. Reutilizamos los paises iguales, en la posicion que tienen en el catalogo nuevo
+        int countryCount = countries.size();
+        CountryInformation[] reconciledCountries = new CountryInformation[countryCount];
+        int[] previousIdPerCountryId = new int[countryCount];
+        int[] countryIdPerPreviousId = new int[this.countries.length];
+        Arrays.fill(countryIdPerPreviousId, CountryInformation.NO_COUNTRY_ID);
+        List<CountryInformation> addedCountries = new ArrayList<>();
+        for (int countryId = 0; countryId < countryCount; countryId++) {
+            CountryInformation country = countries.get(countryId);
+            Integer previousId = previousIdPerAssetPath.get(country.getCountryImageAssetPath());
+            if (previousId != null
+                    && countryIdPerPreviousId[previousId] == CountryInformation.NO_COUNTRY_ID
+                    && this.countryNames[previousId].equals(country.getCountryName())
+                    && this.continentOrdinals[previousId] == continentOrdinalOf(
+                            this.continentNames, country.getCountryContinent())) {
+                reconciledCountries[countryId] = this.countries[previousId];
+                previousIdPerCountryId[countryId] = previousId;
+                countryIdPerPreviousId[previousId] = countryId;
+            } else {
+                //> 2.1 Un pais nuevo todavia no es visible para el hilo principal
+                country.setCountryId(countryId);
+                reconciledCountries[countryId] = country;
+                previousIdPerCountryId[countryId] = CountryInformation.NO_COUNTRY_ID;
+                addedCountries.add(country);
+            }
+        }
+
+        //? 3. Paises que salen del catalogo
+        List<CountryInformation> droppedCountries = new ArrayList<>();
+        for (int previousId = 0; previousId < this.countries.length; previousId++) {
+            if (countryIdPerPreviousId[previousId] == CountryInformation.NO_COUNTRY_ID) {
+                droppedCountries.add(this.countries[previousId]);
+            }
+        }
+        return new CatalogChanges(fromCountriesHelper(reconciledCountries, this.continentNames),
+                                  previousIdPerCountryId, countryIdPerPreviousId,
+                                  Collections.unmodifiableList(addedCountries),
+                                  Collections.unmodifiableList(droppedCountries));
+    }
+
+    /**
+     * @description: resultado de {@link #reconcile(List)}: la tabla nueva, la correspondencia de
+     * identificadores entre ambas tablas, los paises nuevos y los que salieron del catalogo
+     */
+    public static final class CatalogChanges {
+        private final CountryCatalogTable catalogTable;
+        private final int[] previousIdPerCountryId;
+        private final int[] countryIdPerPreviousId;
+        private final List<CountryInformation> addedCountries;
+        private final List<CountryInformation> droppedCountries;
+
+        private CatalogChanges(CountryCatalogTable catalogTable, int[] previousIdPerCountryId,
+                               int[] countryIdPerPreviousId,
+                               List<CountryInformation> addedCountries,
+                               List<CountryInformation> droppedCountries) {
+            this.catalogTable = catalogTable;
+            this.previousIdPerCountryId = previousIdPerCountryId;
+            this.countryIdPerPreviousId = countryIdPerPreviousId;
+            this.addedCountries = addedCountries;
+            this.droppedCountries = droppedCountries;
+        }
+
+        public CountryCatalogTable getCatalogTable() {return this.catalogTable;}
+
+        public List<CountryInformation> getAddedCountries() {return this.addedCountries;}
+
+        public List<CountryInformation> getDroppedCountries() {return this.droppedCountries;}
+
+        /**
+         * @description: identificador anterior del pais, o {@link CountryInformation#NO_COUNTRY_ID}
+         * si el pais es nuevo
+         */
+        public int previousIdOf(int countryId) {
+            return this.previousIdPerCountryId[countryId];
+        }
+
+        /**
+         * @description: identificador nuevo de cada identificador anterior, o
+         * {@link CountryInformation#NO_COUNTRY_ID} si el pais salio del catalogo
+         */
+        int[] countryIdPerPreviousId() {
+            return this.countryIdPerPreviousId;
+        }
+
+        /**
+         * @description: verdadero si ningun pais reutilizado cambia de identificador, las
+         * estructuras ordenadas por identificador se pueden actualizar solo con los cambios
+         */
+        public boolean keepsCountryIds() {
+            for (int previousId = 0; previousId < this.countryIdPerPreviousId.length;
+                 previousId++) {
+                int countryId = this.countryIdPerPreviousId[previousId];
+                if (countryId != CountryInformation.NO_COUNTRY_ID && countryId != previousId) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @description: asigna su identificador nuevo a los paises reutilizados. Se llama una
+         * sola vez, en el hilo principal, que es el que lee esos identificadores
+         */
+        public void applyCountryIds() {
+            for (int countryId = 0; countryId < this.previousIdPerCountryId.length; countryId++) {
+                if (this.previousIdPerCountryId[countryId] != CountryInformation.NO_COUNTRY_ID) {
+                    this.catalogTable.countries[countryId].setCountryId(countryId);
+                }
+            }
+        }
+    }
+
+    /*! Getters por identificador*/
+    public int size() {
+        return this.countries.length;
+    }
+
+    public int getFingerprint() {
+        return this.fingerprint;
+    }
+
+    public int continentCount() {
+        return this.continentNames.length;
+    }
+
+    /**
+     * @description: verdadero si el identificador pertenece a esta tabla, un pais de una carga
+     * anterior o el pais vacio no lo estan
+     */
+    public boolean contains(CountryInformation country) {
+        int countryId = country.getCountryId();
+        return countryId >= 0 && countryId < this.countries.length
+               && this.countries[countryId] == country;
+    }
+
+    /**
+     * @description: vista inmutable de los paises en orden de identificador, sin copiarlos
+     */
+    public List<CountryInformation> asList() {
+        return Collections.unmodifiableList(Arrays.asList(this.countries));
+    }
+
+    public CountryInformation countryOf(int countryId) {
+        return this.countries[countryId];
+    }
+
+    public String countryNameOf(int countryId) {
+        return this.countryNames[countryId];
+    }
+
+    public String countryImageAssetPathOf(int countryId) {
+        return this.countryImageAssetPaths[countryId];
+    }
+
+    public int continentOrdinalOf(int countryId) {
+        return this.continentOrdinals[countryId];
+    }
+
+    /**
+     * @description: ordinal de un continente sin distinguir mayusculas, o -1 si no es parte del
+     * catalogo. Son pocos continentes, por lo que basta con recorrerlos
+     */
+    public int continentOrdinalOf(String continentName) {
+        return continentOrdinalOf(this.continentNames, continentName);
+    }
+
+    private static int continentOrdinalOf(String[] continentNames, String continentName) {
+        for (int ordinal = 0; ordinal < continentNames.length; ordinal++) {
+            if (continentNames[ordinal].equalsIgnoreCase(continentName)) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,131 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.graphics.Bitmap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define las casillas de banderas por identificador de pais.
+ * El {@link FlagBitmapCache} sigue siendo el dueno de la memoria (decide que banderas quedan
+ * residentes por bytes), pero su llave es una String que habia que armar y comparar en cada
+ * enlace de fila. Estas casillas reflejan las entradas residentes del cache en un arreglo indexado
+ * por (identificador, bucket, politica): leer la bandera de una fila es una lectura de arreglo.
+ * Cuando el cache expulsa o elimina una entrada, su casilla se vacia. Solo se accede desde el hilo
+ * principal.
+ */
+public class CountryFlagSlots {
+
+    /**
+     * @description: values() crea un arreglo en cada llamada, por eso los tamanos se guardan aqui
+     */
+    private static final int POLICY_COUNT = FlagBitmapConfigPolicy.values().length;
+    private static final int SLOTS_PER_COUNTRY = FlagSizeBucket.values().length * POLICY_COUNT;
+
+    /*! Parametros internos*/
+    /**
+     * @description: casillas de cada pais, el arreglo interno se crea con la primera bandera del
+     * pais para no reservar casillas de paises que nunca se muestran
+     */
+    private final Bitmap[][] flagsPerCountry;
+    /**
+     * @description: casilla de cada llave residente, solo se usa cuando el cache expulsa una
+     * entrada, nunca al leer
+     */
+    private final Map<String, Integer> slotPerCacheKey = new HashMap<>();
+
+    public CountryFlagSlots(int countryCount) {
+        this.flagsPerCountry = new Bitmap[countryCount][];
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que mueve las casillas a los identificadores de un catalogo recargado. Las banderas
+     * de los paises que siguen en el catalogo pasan a su identificador nuevo sin consultar el
+     * cache; las de los paises que salieron se sueltan, sus entradas salen solas del cache.
+     * </body>
+     *
+     * @param countryIdPerPreviousId Identificador nuevo de cada identificador anterior, o
+     *                               {@link CountryInformation#NO_COUNTRY_ID} si el pais salio
+     * @param countryCount           Cantidad de paises del catalogo nuevo
+     * @return CountryFlagSlots Casillas con los identificadores nuevos
+     */
+    public CountryFlagSlots remapped(int[] countryIdPerPreviousId, int countryCount) {
+        CountryFlagSlots remappedSlots = new CountryFlagSlots(countryCount);
+        for (int previousId = 0; previousId < countryIdPerPreviousId.length
+                && previousId < this.flagsPerCountry.length; previousId++) {
+            int countryId = countryIdPerPreviousId[previousId];
+            if (countryId != CountryInformation.NO_COUNTRY_ID) {
+                remappedSlots.flagsPerCountry[countryId] = this.flagsPerCountry[previousId];
+            }
+        }
+        for (Map.Entry<String, Integer> cacheKeySlot : this.slotPerCacheKey.entrySet()) {
+            int previousId = cacheKeySlot.getValue() / SLOTS_PER_COUNTRY;
+            int countryId = previousId < countryIdPerPreviousId.length
+                            ? countryIdPerPreviousId[previousId]
+                            : CountryInformation.NO_COUNTRY_ID;
+            if (countryId != CountryInformation.NO_COUNTRY_ID) {
+                remappedSlots.slotPerCacheKey.put(
+                        cacheKeySlot.getKey(),
+                        countryId * SLOTS_PER_COUNTRY
+                        + cacheKeySlot.getValue() % SLOTS_PER_COUNTRY);
+            }
+        }
+        return remappedSlots;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que lee la bandera residente de un pais, sin calcular hashes ni armar llaves.
+     * </body>
+     *
+     * @param countryId  Identificador del pais
+     * @param sizeBucket Bucket de tamano
+     * @param policy     Politica efectiva de configuracion
+     * @return Bitmap La bandera si esta residente, o null
+     */
+    public Bitmap get(int countryId, FlagSizeBucket sizeBucket, FlagBitmapConfigPolicy policy) {
+        if (countryId < 0 || countryId >= this.flagsPerCountry.length) {
+            return null;
+        }
+        Bitmap[] countryFlags = this.flagsPerCountry[countryId];
+        return countryFlags != null ? countryFlags[slotOf(sizeBucket, policy)] : null;
+    }
+
+    /**
+     * @description: registra una bandera que se acaba de guardar en el cache con la llave dada
+     */
+    public void put(int countryId, FlagSizeBucket sizeBucket, FlagBitmapConfigPolicy policy,
+                    String cacheKey, Bitmap flag) {
+        if (countryId < 0 || countryId >= this.flagsPerCountry.length) {
+            return;
+        }
+        if (this.flagsPerCountry[countryId] == null) {
+            this.flagsPerCountry[countryId] = new Bitmap[SLOTS_PER_COUNTRY];
+        }
+        int slot = slotOf(sizeBucket, policy);
+        this.flagsPerCountry[countryId][slot] = flag;
+        this.slotPerCacheKey.put(cacheKey, countryId * SLOTS_PER_COUNTRY + slot);
+    }
+
+    /**
+     * @description: vacia la casilla de una llave que el cache expulso o elimino
+     */
+    public void clearCacheKey(String cacheKey) {
+        Integer globalSlot = this.slotPerCacheKey.remove(cacheKey);
+        if (globalSlot == null) {
+            return;
+        }
+        int countryId = globalSlot / SLOTS_PER_COUNTRY;
+        int slot = globalSlot % SLOTS_PER_COUNTRY;
+        this.flagsPerCountry[countryId][slot] = null;
+    }
+
+    private static int slotOf(FlagSizeBucket sizeBucket, FlagBitmapConfigPolicy policy) {
+        return sizeBucket.ordinal() * POLICY_COUNT + policy.ordinal();
+    }
+}
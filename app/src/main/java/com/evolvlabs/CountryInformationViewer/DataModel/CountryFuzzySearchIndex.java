@@ -0,0 +1,586 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa la busqueda tolerante a errores de los nombres de
+ * paises. Cada nombre (y cada alias del nombre, como "DRC" para "Dem. Rep. of the Congo") se
+ * normaliza y se parte en trigramas; el indice guarda para cada trigrama la lista ordenada de
+ * terminos que lo contienen. Una busqueda cuenta los trigramas compartidos con cada termino y los
+ * ordena por similitud (trigramas compartidos sobre trigramas de la union, como pg_trgm). Para
+ * que la latencia quede acotada en catalogos grandes se recorren primero los trigramas menos
+ * comunes y, superado un presupuesto de entradas, los demas solo se verifican sobre los candidatos
+ * que ya se encontraron. El indice reutiliza sus arreglos de trabajo, por lo que solo se debe
+ * buscar desde un hilo a la vez.
+ */
+public class CountryFuzzySearchIndex {
+
+    /**
+     * @description: similitud minima para que un termino se considere una coincidencia
+     */
+    public static final float MINIMUM_SIMILARITY = 0.3f;
+    /**
+     * @description: cantidad de entradas de las listas de trigramas que se recorren completas en
+     * una busqueda antes de pasar a verificar solo los candidatos ya encontrados
+     */
+    static final int POSTINGS_BUDGET = 4096;
+    /**
+     * @description: largo maximo de la consulta, lo demas se ignora
+     */
+    static final int MAXIMUM_QUERY_LENGTH = 48;
+
+    /*! Parametros internos*/
+    /**
+     * @description: trigramas distintos ordenados, cada uno empaqueta tres caracteres en un long
+     */
+    private final long[] trigramKeys;
+    /**
+     * @description: inicio de la lista de cada trigrama dentro de {@link #postings}, la lista del
+     * trigrama i ocupa [postingStarts[i], postingStarts[i + 1])
+     */
+    private final int[] postingStarts;
+    /**
+     * @description: identificadores de termino de todas las listas, ordenados dentro de cada lista
+     */
+    private final int[] postings;
+    private final int[] trigramCountPerTerm;
+    private final int[] countryPerTerm;
+    private final String[] termText;
+    private final CountryInformation[] countries;
+
+    /*! Arreglos de trabajo reutilizados entre busquedas*/
+    private final int[] sharedTrigramsPerTerm;
+    private final int[] touchedTerms;
+    private final float[] bestSimilarityPerCountry;
+    private final int[] bestTermPerCountry;
+    private final int[] touchedCountries;
+
+    private CountryFuzzySearchIndex(long[] trigramKeys, int[] postingStarts, int[] postings,
+                                    int[] trigramCountPerTerm, int[] countryPerTerm,
+                                    String[] termText, CountryInformation[] countries) {
+        this.trigramKeys = trigramKeys;
+        this.postingStarts = postingStarts;
+        this.postings = postings;
+        this.trigramCountPerTerm = trigramCountPerTerm;
+        this.countryPerTerm = countryPerTerm;
+        this.termText = termText;
+        this.countries = countries;
+        this.sharedTrigramsPerTerm = new int[termText.length];
+        this.touchedTerms = new int[termText.length];
+        this.bestSimilarityPerCountry = new float[countries.length];
+        this.bestTermPerCountry = new int[countries.length];
+        this.touchedCountries = new int[countries.length];
+    }
+
+    /**
+     * @description: una coincidencia de la busqueda: el pais, su similitud en [0, 1] y el termino
+     * (nombre o alias) que coincidio
+     */
+    public static final class Match {
+        private final CountryInformation country;
+        private final float similarity;
+        private final String matchedTerm;
+
+        private Match(CountryInformation country, float similarity, String matchedTerm) {
+            this.country = country;
+            this.similarity = similarity;
+            this.matchedTerm = matchedTerm;
+        }
+
+        public CountryInformation getCountry() {return this.country;}
+
+        public float getSimilarity() {return this.similarity;}
+
+        public String getMatchedTerm() {return this.matchedTerm;}
+    }
+
+    public static CountryFuzzySearchIndex empty() {
+        return of(Collections.emptyList(), Collections.emptyMap());
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que construye el indice de trigramas de un listado de paises y de sus alias. Se debe
+     * llamar fuera del hilo principal.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Arma los terminos: el nombre de cada pais y sus alias</li>
+     *   <li>Calcula los trigramas distintos de cada termino y agrupa los terminos por trigrama</li>
+     *   <li>Aplana los grupos en un arreglo ordenado de trigramas y un arreglo de listas</li>
+     * </ol>
+     * </body>
+     *
+     * @param countries             Listado de paises
+     * @param aliasesPerCountryName Alias por nombre de pais, los nombres se comparan sin
+     *                              distinguir mayusculas
+     * @return CountryFuzzySearchIndex Indice del listado
+     */
+    public static CountryFuzzySearchIndex of(List<CountryInformation> countries,
+                                             Map<String, List<String>> aliasesPerCountryName) {
+        //? 1. Terminos del indice, el nombre de cada pais seguido de sus alias
+        Map<String, List<String>> foldedAliases = foldingAliasesHelper(aliasesPerCountryName);
+        List<String> terms = new ArrayList<>(countries.size());
+        List<Integer> termCountries = new ArrayList<>(countries.size());
+        for (int country = 0; country < countries.size(); country++) {
+            appendingTermsOfCountryHelper(countries.get(country), country, foldedAliases, terms,
+                                          termCountries);
+        }
+
+        //? 2. Trigramas distintos de cada termino, agrupados por trigrama
+        int termCount = terms.size();
+        int[] trigramCountPerTerm = new int[termCount];
+        int[] countryPerTerm = new int[termCount];
+        Map<Long, List<Integer>> termsPerTrigram = new HashMap<>();
+        for (int term = 0; term < termCount; term++) {
+            long[] termTrigrams = distinctTrigramsOf(terms.get(term));
+            trigramCountPerTerm[term] = termTrigrams.length;
+            countryPerTerm[term] = termCountries.get(term);
+            for (long trigram : termTrigrams) {
+                List<Integer> trigramTerms = termsPerTrigram.get(trigram);
+                if (trigramTerms == null) {
+                    trigramTerms = new ArrayList<>();
+                    termsPerTrigram.put(trigram, trigramTerms);
+                }
+                //? Los terminos se recorren en orden, por lo que cada lista queda ordenada
+                trigramTerms.add(term);
+            }
+        }
+
+        //? 3. Aplanamos los grupos
+        long[] trigramKeys = new long[termsPerTrigram.size()];
+        int keyPosition = 0;
+        int postingCount = 0;
+        for (Map.Entry<Long, List<Integer>> trigram : termsPerTrigram.entrySet()) {
+            trigramKeys[keyPosition++] = trigram.getKey();
+            postingCount += trigram.getValue().size();
+        }
+        Arrays.sort(trigramKeys);
+        int[] postingStarts = new int[trigramKeys.length + 1];
+        int[] postings = new int[postingCount];
+        int postingPosition = 0;
+        for (int key = 0; key < trigramKeys.length; key++) {
+            postingStarts[key] = postingPosition;
+            for (int term : termsPerTrigram.get(trigramKeys[key])) {
+                postings[postingPosition++] = term;
+            }
+        }
+        postingStarts[trigramKeys.length] = postingPosition;
+        return new CountryFuzzySearchIndex(trigramKeys, postingStarts, postings,
+                                           trigramCountPerTerm, countryPerTerm,
+                                           terms.toArray(new String[0]),
+                                           countries.toArray(new CountryInformation[0]));
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna un indice con los cambios de un catalogo recargado. Solo se calculan los
+     * trigramas de los terminos de los paises nuevos; los terminos conservados mantienen sus
+     * trigramas y su orden, por lo que cada lista se copia quitando los terminos que salieron y
+     * agregando al final los nuevos, que tienen identificadores mayores. Se debe llamar fuera del
+     * hilo principal.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Renumera los paises y terminos conservados, los nuevos van al final</li>
+     *   <li>Calcula los trigramas de los terminos nuevos y los agrupa por trigrama</li>
+     *   <li>Mezcla los trigramas ordenados de ambos lados copiando sus listas</li>
+     * </ol>
+     * </body>
+     *
+     * @param droppedCountries      Paises que salieron del catalogo, se comparan por identidad
+     * @param addedCountries        Paises nuevos del catalogo
+     * @param aliasesPerCountryName Alias por nombre de pais, solo se leen los de paises nuevos
+     * @return CountryFuzzySearchIndex Indice con los cambios, o este mismo si no hay ninguno
+     */
+    public CountryFuzzySearchIndex withChanges(List<CountryInformation> droppedCountries,
+                                               List<CountryInformation> addedCountries,
+                                               Map<String, List<String>> aliasesPerCountryName) {
+        if (droppedCountries.isEmpty() && addedCountries.isEmpty()) {
+            return this;
+        }
+        //? 1. Posicion nueva de cada pais y termino conservado
+        Set<CountryInformation> droppedSet =
+                Collections.newSetFromMap(new IdentityHashMap<>(droppedCountries.size() * 2));
+        droppedSet.addAll(droppedCountries);
+        List<CountryInformation> countries =
+                new ArrayList<>(this.countries.length + addedCountries.size());
+        int[] countryPerPreviousCountry = new int[this.countries.length];
+        for (int country = 0; country < this.countries.length; country++) {
+            if (droppedSet.contains(this.countries[country])) {
+                countryPerPreviousCountry[country] = -1;
+            } else {
+                countryPerPreviousCountry[country] = countries.size();
+                countries.add(this.countries[country]);
+            }
+        }
+        List<String> terms = new ArrayList<>(this.termText.length);
+        List<Integer> termCountries = new ArrayList<>(this.termText.length);
+        List<Integer> termTrigramCounts = new ArrayList<>(this.termText.length);
+        int[] termPerPreviousTerm = new int[this.termText.length];
+        for (int term = 0; term < this.termText.length; term++) {
+            int country = countryPerPreviousCountry[this.countryPerTerm[term]];
+            if (country < 0) {
+                termPerPreviousTerm[term] = -1;
+                continue;
+            }
+            termPerPreviousTerm[term] = terms.size();
+            terms.add(this.termText[term]);
+            termCountries.add(country);
+            termTrigramCounts.add(this.trigramCountPerTerm[term]);
+        }
+
+        //? 2. Terminos de los paises nuevos, sus identificadores son mayores que los conservados
+        int keptTermCount = terms.size();
+        Map<String, List<String>> foldedAliases = addedCountries.isEmpty()
+                                                  ? Collections.emptyMap()
+                                                  : foldingAliasesHelper(aliasesPerCountryName);
+        for (CountryInformation addedCountry : addedCountries) {
+            appendingTermsOfCountryHelper(addedCountry, countries.size(), foldedAliases, terms,
+                                          termCountries);
+            countries.add(addedCountry);
+        }
+        Map<Long, List<Integer>> addedTermsPerTrigram = new HashMap<>();
+        int addedPostingCount = 0;
+        for (int term = keptTermCount; term < terms.size(); term++) {
+            long[] termTrigrams = distinctTrigramsOf(terms.get(term));
+            termTrigramCounts.add(termTrigrams.length);
+            addedPostingCount += termTrigrams.length;
+            for (long trigram : termTrigrams) {
+                List<Integer> trigramTerms = addedTermsPerTrigram.get(trigram);
+                if (trigramTerms == null) {
+                    trigramTerms = new ArrayList<>();
+                    addedTermsPerTrigram.put(trigram, trigramTerms);
+                }
+                trigramTerms.add(term);
+            }
+        }
+        long[] addedKeys = new long[addedTermsPerTrigram.size()];
+        int addedKeyPosition = 0;
+        for (long trigram : addedTermsPerTrigram.keySet()) {
+            addedKeys[addedKeyPosition++] = trigram;
+        }
+        Arrays.sort(addedKeys);
+
+        //? 3. Mezclamos ambos arreglos de trigramas; un trigrama cuya lista queda vacia se quita
+        long[] trigramKeys = new long[this.trigramKeys.length + addedKeys.length];
+        int[] postingStarts = new int[trigramKeys.length + 1];
+        int[] postings = new int[this.postings.length + addedPostingCount];
+        int keyCount = 0;
+        int postingPosition = 0;
+        int previousKey = 0;
+        int addedKey = 0;
+        while (previousKey < this.trigramKeys.length || addedKey < addedKeys.length) {
+            long trigram = addedKey == addedKeys.length
+                           || (previousKey < this.trigramKeys.length
+                               && this.trigramKeys[previousKey] <= addedKeys[addedKey])
+                           ? this.trigramKeys[previousKey] : addedKeys[addedKey];
+            int keyStart = postingPosition;
+            if (previousKey < this.trigramKeys.length && this.trigramKeys[previousKey] == trigram) {
+                for (int posting = this.postingStarts[previousKey];
+                     posting < this.postingStarts[previousKey + 1]; posting++) {
+                    int term = termPerPreviousTerm[this.postings[posting]];
+                    if (term >= 0) {
+                        postings[postingPosition++] = term;
+                    }
+                }
+                previousKey++;
+            }
+            if (addedKey < addedKeys.length && addedKeys[addedKey] == trigram) {
+                for (int term : addedTermsPerTrigram.get(trigram)) {
+                    postings[postingPosition++] = term;
+                }
+                addedKey++;
+            }
+            if (postingPosition > keyStart) {
+                trigramKeys[keyCount] = trigram;
+                postingStarts[keyCount++] = keyStart;
+            }
+        }
+        postingStarts[keyCount] = postingPosition;
+
+        int[] trigramCountPerTerm = new int[terms.size()];
+        int[] countryPerTerm = new int[terms.size()];
+        for (int term = 0; term < terms.size(); term++) {
+            trigramCountPerTerm[term] = termTrigramCounts.get(term);
+            countryPerTerm[term] = termCountries.get(term);
+        }
+        return new CountryFuzzySearchIndex(Arrays.copyOf(trigramKeys, keyCount),
+                                           Arrays.copyOf(postingStarts, keyCount + 1),
+                                           Arrays.copyOf(postings, postingPosition),
+                                           trigramCountPerTerm, countryPerTerm,
+                                           terms.toArray(new String[0]),
+                                           countries.toArray(new CountryInformation[0]));
+    }
+
+    public int termCount() {
+        return this.termText.length;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que busca los paises cuyo nombre o alias se parece al texto, ordenados de mayor a
+     * menor similitud. Cada pais aparece una sola vez, con su termino mas parecido.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Calcula los trigramas del texto y los ordena de menos a mas comun</li>
+     *   <li>Recorre las listas completas mientras no se supere el presupuesto, contando los
+     *   trigramas compartidos de cada termino</li>
+     *   <li>Para los trigramas restantes solo busca (binariamente) los candidatos ya
+     *   encontrados</li>
+     *   <li>Calcula la similitud, conserva el mejor termino por pais y ordena</li>
+     * </ol>
+     * </body>
+     *
+     * @param query      Texto escrito por el usuario
+     * @param maxResults Cantidad maxima de resultados
+     * @return List Coincidencias ordenadas por similitud, vacia si no hay ninguna
+     */
+    public List<Match> search(String query, int maxResults) {
+        String boundedQuery = query.length() > MAXIMUM_QUERY_LENGTH
+                              ? query.substring(0, MAXIMUM_QUERY_LENGTH) : query;
+        long[] queryTrigrams = distinctTrigramsOf(boundedQuery);
+        if (queryTrigrams.length == 0 || maxResults <= 0) {
+            return Collections.emptyList();
+        }
+
+        //? 1. Posicion de cada trigrama del texto en el indice, de menos a mas comun
+        int[] queryKeyPositions = new int[queryTrigrams.length];
+        int knownTrigramCount = 0;
+        for (long trigram : queryTrigrams) {
+            int keyPosition = Arrays.binarySearch(this.trigramKeys, trigram);
+            if (keyPosition >= 0) {
+                queryKeyPositions[knownTrigramCount++] = keyPosition;
+            }
+        }
+        this.sortingByPostingLengthHelper(queryKeyPositions, knownTrigramCount);
+
+        //? 2. Recorremos las listas completas mientras alcance el presupuesto
+        int touchedTermCount = 0;
+        int visitedPostings = 0;
+        int queryKey = 0;
+        for (; queryKey < knownTrigramCount; queryKey++) {
+            int keyPosition = queryKeyPositions[queryKey];
+            int postingLength = this.postingStarts[keyPosition + 1]
+                                - this.postingStarts[keyPosition];
+            if (queryKey > 0 && visitedPostings + postingLength > POSTINGS_BUDGET) {
+                break;
+            }
+            visitedPostings += postingLength;
+            for (int posting = this.postingStarts[keyPosition];
+                 posting < this.postingStarts[keyPosition + 1]; posting++) {
+                int term = this.postings[posting];
+                if (this.sharedTrigramsPerTerm[term]++ == 0) {
+                    this.touchedTerms[touchedTermCount++] = term;
+                }
+            }
+        }
+        //? 3. Los trigramas restantes solo suman sobre los candidatos ya encontrados. Con los
+        // candidatos ordenados cada lista se recorre una sola vez hacia adelante, saltando en
+        // pasos que se duplican en lugar de una busqueda binaria completa por candidato
+        if (queryKey < knownTrigramCount) {
+            Arrays.sort(this.touchedTerms, 0, touchedTermCount);
+        }
+        for (; queryKey < knownTrigramCount; queryKey++) {
+            int keyPosition = queryKeyPositions[queryKey];
+            int cursor = this.postingStarts[keyPosition];
+            int postingEnd = this.postingStarts[keyPosition + 1];
+            for (int touched = 0; touched < touchedTermCount && cursor < postingEnd; touched++) {
+                int term = this.touchedTerms[touched];
+                cursor = this.gallopingToTermHelper(term, cursor, postingEnd);
+                if (cursor < postingEnd && this.postings[cursor] == term) {
+                    this.sharedTrigramsPerTerm[term]++;
+                }
+            }
+        }
+
+        //? 4. Similitud de cada termino, conservando el mejor por pais
+        int touchedCountryCount = 0;
+        for (int touched = 0; touched < touchedTermCount; touched++) {
+            int term = this.touchedTerms[touched];
+            int shared = this.sharedTrigramsPerTerm[term];
+            this.sharedTrigramsPerTerm[term] = 0;
+            float similarity = shared / (float) (queryTrigrams.length
+                                                 + this.trigramCountPerTerm[term] - shared);
+            if (similarity < MINIMUM_SIMILARITY) {
+                continue;
+            }
+            int country = this.countryPerTerm[term];
+            if (this.bestSimilarityPerCountry[country] == 0f) {
+                this.touchedCountries[touchedCountryCount++] = country;
+            }
+            if (similarity > this.bestSimilarityPerCountry[country]) {
+                this.bestSimilarityPerCountry[country] = similarity;
+                this.bestTermPerCountry[country] = term;
+            }
+        }
+
+        //? 5. Seleccionamos los mejores por insercion en un arreglo de tamano maxResults, sin
+        // ordenar ni crear objetos para todos los candidatos
+        int resultCount = Math.min(maxResults, touchedCountryCount);
+        int[] bestCountries = new int[resultCount];
+        int selectedCount = 0;
+        for (int touched = 0; touched < touchedCountryCount; touched++) {
+            int country = this.touchedCountries[touched];
+            if (selectedCount == resultCount
+                    && !this.isRankedBeforeHelper(country, bestCountries[resultCount - 1])) {
+                continue;
+            }
+            int position = selectedCount < resultCount ? selectedCount++ : resultCount - 1;
+            while (position > 0 && this.isRankedBeforeHelper(country, bestCountries[position - 1])) {
+                bestCountries[position] = bestCountries[position - 1];
+                position--;
+            }
+            bestCountries[position] = country;
+        }
+        List<Match> matches = new ArrayList<>(resultCount);
+        for (int country : bestCountries) {
+            matches.add(new Match(this.countries[country],
+                                  this.bestSimilarityPerCountry[country],
+                                  this.termText[this.bestTermPerCountry[country]]));
+        }
+        for (int touched = 0; touched < touchedCountryCount; touched++) {
+            this.bestSimilarityPerCountry[this.touchedCountries[touched]] = 0f;
+        }
+        return matches;
+    }
+
+    /*! Metodos auxiliares*/
+    /**
+     * @description: alias por nombre plegado, para encontrarlos sin distinguir mayusculas
+     */
+    private static Map<String, List<String>> foldingAliasesHelper(
+            Map<String, List<String>> aliasesPerCountryName) {
+        Map<String, List<String>> foldedAliases = new HashMap<>();
+        for (Map.Entry<String, List<String>> alias : aliasesPerCountryName.entrySet()) {
+            foldedAliases.put(CountryPrefixIndex.fold(alias.getKey()), alias.getValue());
+        }
+        return foldedAliases;
+    }
+
+    /**
+     * @description: agrega el nombre del pais y sus alias como terminos de la posicion dada
+     */
+    private static void appendingTermsOfCountryHelper(CountryInformation country, int position,
+                                                      Map<String, List<String>> foldedAliases,
+                                                      List<String> terms,
+                                                      List<Integer> termCountries) {
+        String countryName = country.getCountryName();
+        terms.add(countryName);
+        termCountries.add(position);
+        List<String> aliases = foldedAliases.get(CountryPrefixIndex.fold(countryName));
+        if (aliases != null) {
+            for (String alias : aliases) {
+                terms.add(alias);
+                termCountries.add(position);
+            }
+        }
+    }
+
+    private boolean isRankedBeforeHelper(int country, int otherCountry) {
+        int bySimilarity = Float.compare(this.bestSimilarityPerCountry[otherCountry],
+                                         this.bestSimilarityPerCountry[country]);
+        return bySimilarity != 0
+               ? bySimilarity < 0
+               : this.countries[country].getCountryName().compareToIgnoreCase(
+                       this.countries[otherCountry].getCountryName()) < 0;
+    }
+
+    private void sortingByPostingLengthHelper(int[] keyPositions, int count) {
+        //? Son pocos trigramas (a lo sumo el largo maximo de la consulta), basta con insercion
+        for (int sorted = 1; sorted < count; sorted++) {
+            int keyPosition = keyPositions[sorted];
+            int postingLength = this.postingLengthOf(keyPosition);
+            int position = sorted - 1;
+            while (position >= 0 && this.postingLengthOf(keyPositions[position]) > postingLength) {
+                keyPositions[position + 1] = keyPositions[position];
+                position--;
+            }
+            keyPositions[position + 1] = keyPosition;
+        }
+    }
+
+    /**
+     * @description: primera posicion en [from, to) cuya entrada es mayor o igual al termino,
+     * saltando 1, 2, 4... posiciones y terminando con una busqueda binaria en el ultimo salto
+     */
+    private int gallopingToTermHelper(int term, int from, int to) {
+        int low = from;
+        int step = 1;
+        while (low + step < to && this.postings[low + step] < term) {
+            low += step;
+            step <<= 1;
+        }
+        if (this.postings[low] >= term) {
+            return low;
+        }
+        int found = Arrays.binarySearch(this.postings, low + 1, Math.min(low + step, to), term);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private int postingLengthOf(int keyPosition) {
+        return this.postingStarts[keyPosition + 1] - this.postingStarts[keyPosition];
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que calcula los trigramas distintos de un texto. El texto se pliega a minusculas y
+     * todo lo que no es letra o digito se trata como separador, de forma que "Eq. Guinea" y
+     * "eq guinea" tienen los mismos trigramas. Cada palabra se rellena con dos espacios al inicio
+     * y uno al final, asi las palabras cortas y los inicios de palabra pesan mas.
+     * </body>
+     *
+     * @param text Texto a partir
+     * @return long[] Trigramas distintos ordenados
+     */
+    static long[] distinctTrigramsOf(String text) {
+        long[] trigrams = new long[text.length() * 3 + 3];
+        int trigramCount = 0;
+        char first = ' ';
+        char second = ' ';
+        boolean insideWord = false;
+        for (int position = 0; position <= text.length(); position++) {
+            char character = position < text.length() ? text.charAt(position) : ' ';
+            boolean isWordCharacter = Character.isLetterOrDigit(character);
+            if (isWordCharacter) {
+                char folded = Character.toLowerCase(Character.toUpperCase(character));
+                trigrams[trigramCount++] = packingTrigramHelper(first, second, folded);
+                first = second;
+                second = folded;
+                insideWord = true;
+            } else if (insideWord) {
+                //? Fin de palabra: trigrama con el espacio final y reinicio del relleno
+                trigrams[trigramCount++] = packingTrigramHelper(first, second, ' ');
+                first = ' ';
+                second = ' ';
+                insideWord = false;
+            }
+        }
+        Arrays.sort(trigrams, 0, trigramCount);
+        int distinctCount = 0;
+        for (int trigram = 0; trigram < trigramCount; trigram++) {
+            if (distinctCount == 0 || trigrams[distinctCount - 1] != trigrams[trigram]) {
+                trigrams[distinctCount++] = trigrams[trigram];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    private static long packingTrigramHelper(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+}
@@ -1,6 +1,5 @@
 package com.evolvlabs.CountryInformationViewer.DataModel;
 
-import android.graphics.Bitmap;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +19,13 @@ public class CountryInformation implements Comparable<CountryInformation> {
     private String countryContinent;
     private String countryName;
     private String countryImageAssetPath;
+    /**
+     * @description: identificador denso que se asigna al cargar el catalogo, ver
+     * {@link CountryCatalogTable}. Es {@link #NO_COUNTRY_ID} en paises fuera del catalogo, como el
+     * pais vacio que representa la falta de seleccion
+     */
+    public static final int NO_COUNTRY_ID = -1;
+    private int countryId = NO_COUNTRY_ID;
 
     /*! Constructores*/
     public CountryInformation(String countryContinent, String countryName,
@@ -78,6 +84,12 @@ public class CountryInformation implements Comparable<CountryInformation> {
 
     public String getCountryImageAssetPath(){return this.countryImageAssetPath;}
 
+    void setCountryId(int countryId){
+        this.countryId = countryId;
+    }
+
+    public int getCountryId(){return this.countryId;}
+
 
 
     /*! Overrides y Comparable*/
@@ -0,0 +1,216 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.List;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el indice de paises por nombre sin distinguir
+ * mayusculas. Antes cada busqueda recorria toda la lista con un stream y equalsIgnoreCase; aqui se
+ * usa una tabla hash de direccionamiento abierto cuyo hash se calcula plegando cada caracter al
+ * vuelo, de forma que una busqueda es O(1) y no crea ningun objeto (no se llama a toLowerCase). Dos
+ * nombres caen en la misma llave exactamente cuando {@link String#equalsIgnoreCase} los considera
+ * iguales.
+ */
+public class CountryNameIndex {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /*! Parametros internos*/
+    /**
+     * @description: tabla de paises con sondeo lineal, su tamano siempre es potencia de dos y se
+     * mantiene como maximo medio llena
+     */
+    private CountryInformation[] countrySlots;
+    /**
+     * @description: hash plegado del nombre de cada casilla, evita recalcularlo al sondear y al
+     * reacomodar las casillas en una eliminacion
+     */
+    private int[] foldedHashSlots;
+    private int size;
+
+    /*! Constructores*/
+    public CountryNameIndex() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    public CountryNameIndex(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.countrySlots = new CountryInformation[capacity];
+        this.foldedHashSlots = new int[capacity];
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que construye el indice de un listado de paises. Si dos paises comparten nombre se
+     * conserva el primero, igual que la busqueda lineal con findFirst.
+     * </body>
+     *
+     * @param countries Listado de paises a indexar
+     * @return CountryNameIndex Indice con todos los paises del listado
+     */
+    public static CountryNameIndex of(List<CountryInformation> countries) {
+        CountryNameIndex index = new CountryNameIndex(countries.size());
+        for (CountryInformation country : countries) {
+            index.putIfAbsent(country);
+        }
+        return index;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que busca un pais por nombre sin distinguir mayusculas. No crea objetos.
+     * </body>
+     *
+     * @param countryName Nombre del pais
+     * @return CountryInformation El pais, o null si no esta en el indice
+     */
+    public CountryInformation get(String countryName) {
+        int slot = this.findSlot(countryName);
+        return slot >= 0 ? this.countrySlots[slot] : null;
+    }
+
+    public boolean contains(String countryName) {
+        return this.findSlot(countryName) >= 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que agrega un pais si su nombre aun no esta en el indice.
+     * </body>
+     *
+     * @param country Pais a agregar
+     * @return boolean Verdadero si se agrego, falso si ya existia un pais con ese nombre
+     */
+    public boolean putIfAbsent(CountryInformation country) {
+        String countryName = country.getCountryName();
+        if (countryName == null || this.findSlot(countryName) >= 0) {
+            return false;
+        }
+        if ((this.size + 1) * 2 > this.countrySlots.length) {
+            this.resizingTableHelper(this.countrySlots.length << 1);
+        }
+        int foldedHash = foldedHashOf(countryName);
+        this.insertingIntoFreeSlotHelper(country, foldedHash);
+        this.size++;
+        return true;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que elimina un pais por nombre. Con sondeo lineal no se pueden dejar huecos en una
+     * cadena de colisiones, por lo que las casillas siguientes se desplazan hacia atras hasta
+     * encontrar una casilla vacia (eliminacion por desplazamiento, sin lapidas).
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Busca la casilla del nombre y la vacia</li>
+     *   <li>Recorre la cadena siguiente y mueve al hueco cada pais cuya casilla ideal no quede
+     *   entre el hueco y su posicion actual</li>
+     * </ol>
+     * </body>
+     *
+     * @param countryName Nombre del pais a eliminar
+     * @return CountryInformation El pais eliminado, o null si no estaba en el indice
+     */
+    public CountryInformation remove(String countryName) {
+        int emptySlot = this.findSlot(countryName);
+        if (emptySlot < 0) {
+            return null;
+        }
+        CountryInformation removedCountry = this.countrySlots[emptySlot];
+        this.countrySlots[emptySlot] = null;
+        this.size--;
+
+        //? 2. Desplazamos hacia atras la cadena de colisiones
+        int mask = this.countrySlots.length - 1;
+        int currentSlot = (emptySlot + 1) & mask;
+        while (this.countrySlots[currentSlot] != null) {
+            int idealSlot = this.foldedHashSlots[currentSlot] & mask;
+            boolean idealIsBetweenHoleAndCurrent = emptySlot <= currentSlot
+                                                   ? emptySlot < idealSlot && idealSlot <= currentSlot
+                                                   : emptySlot < idealSlot || idealSlot <= currentSlot;
+            if (!idealIsBetweenHoleAndCurrent) {
+                this.countrySlots[emptySlot] = this.countrySlots[currentSlot];
+                this.foldedHashSlots[emptySlot] = this.foldedHashSlots[currentSlot];
+                this.countrySlots[currentSlot] = null;
+                emptySlot = currentSlot;
+            }
+            currentSlot = (currentSlot + 1) & mask;
+        }
+        return removedCountry;
+    }
+
+    /*! Metodos auxiliares*/
+    private int findSlot(String countryName) {
+        if (countryName == null) {
+            return -1;
+        }
+        int foldedHash = foldedHashOf(countryName);
+        int mask = this.countrySlots.length - 1;
+        int slot = foldedHash & mask;
+        CountryInformation candidate;
+        while ((candidate = this.countrySlots[slot]) != null) {
+            if (this.foldedHashSlots[slot] == foldedHash
+                    && candidate.getCountryName().equalsIgnoreCase(countryName)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertingIntoFreeSlotHelper(CountryInformation country, int foldedHash) {
+        int mask = this.countrySlots.length - 1;
+        int slot = foldedHash & mask;
+        while (this.countrySlots[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        this.countrySlots[slot] = country;
+        this.foldedHashSlots[slot] = foldedHash;
+    }
+
+    private void resizingTableHelper(int newCapacity) {
+        CountryInformation[] previousCountrySlots = this.countrySlots;
+        int[] previousFoldedHashSlots = this.foldedHashSlots;
+        this.countrySlots = new CountryInformation[newCapacity];
+        this.foldedHashSlots = new int[newCapacity];
+        for (int slot = 0; slot < previousCountrySlots.length; slot++) {
+            if (previousCountrySlots[slot] != null) {
+                this.insertingIntoFreeSlotHelper(previousCountrySlots[slot],
+                                                 previousFoldedHashSlots[slot]);
+            }
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que calcula el hash de un nombre plegando cada caracter con la misma regla que
+     * {@link String#equalsIgnoreCase}: dos caracteres son iguales si lo son sus mayusculas o las
+     * minusculas de sus mayusculas. El resultado se mezcla para que el sondeo lineal use los bits
+     * altos.
+     * </body>
+     *
+     * @param name Nombre a plegar
+     * @return int Hash plegado del nombre
+     */
+    static int foldedHashOf(String name) {
+        int hash = 0;
+        for (int position = 0; position < name.length(); position++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(position)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
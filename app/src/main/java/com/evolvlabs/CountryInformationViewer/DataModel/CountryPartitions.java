@@ -0,0 +1,223 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa las particiones por continente del listado de
+ * paises. Antes el adaptador de paises filtraba y copiaba todo el listado en un arreglo nuevo en
+ * cada getItemCount y en cada onBindViewHolder; aqui cada continente tiene su lista inmutable ya
+ * armada, de forma que leer una fila es O(1) y no crea objetos. Las particiones son inmutables:
+ * una eliminacion o una restauracion produce unas particiones nuevas que solo copian la lista del
+ * continente afectado.
+ */
+public class CountryPartitions {
+
+    /**
+     * @description: listas por continente, sin distinguir mayusculas igual que el filtro original
+     * con equalsIgnoreCase
+     */
+    private final TreeMap<String, List<CountryInformation>> countriesPerContinent;
+
+    private CountryPartitions(TreeMap<String, List<CountryInformation>> countriesPerContinent) {
+        this.countriesPerContinent = countriesPerContinent;
+    }
+
+    public static CountryPartitions empty() {
+        return new CountryPartitions(new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que parte un listado de paises por continente, conservando el orden del listado
+     * dentro de cada continente.
+     * </body>
+     *
+     * @param countries Listado de paises
+     * @return CountryPartitions Particiones del listado
+     */
+    public static CountryPartitions of(List<CountryInformation> countries) {
+        //? 1. Agrupamos en listas mutables
+        TreeMap<String, List<CountryInformation>> groupedCountries =
+                new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (CountryInformation country : countries) {
+            List<CountryInformation> continentCountries =
+                    groupedCountries.get(country.getCountryContinent());
+            if (continentCountries == null) {
+                continentCountries = new ArrayList<>();
+                groupedCountries.put(country.getCountryContinent(), continentCountries);
+            }
+            continentCountries.add(country);
+        }
+        //? 2. Sellamos cada lista para que nadie pueda modificar una particion compartida
+        for (Map.Entry<String, List<CountryInformation>> continent : groupedCountries.entrySet()) {
+            continent.setValue(Collections.unmodifiableList(continent.getValue()));
+        }
+        return new CountryPartitions(groupedCountries);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que parte un listado nuevo por continente conservando las listas de estas
+     * particiones que no cambiaron: si un continente tiene los mismos paises (los mismos objetos)
+     * en el mismo orden se comparte su lista, de forma que la vista de ese continente recibe la
+     * misma lista y no calcula ningun cambio.
+     * </body>
+     *
+     * @param countries Listado de paises
+     * @return CountryPartitions Particiones del listado
+     */
+    public CountryPartitions reconciledWith(List<CountryInformation> countries) {
+        CountryPartitions groupedPartitions = of(countries);
+        for (Map.Entry<String, List<CountryInformation>> continent
+                : groupedPartitions.countriesPerContinent.entrySet()) {
+            List<CountryInformation> previousCountries = this.countriesOf(continent.getKey());
+            if (isSameCountriesHelper(previousCountries, continent.getValue())) {
+                continent.setValue(previousCountries);
+            }
+        }
+        return groupedPartitions;
+    }
+
+    private static boolean isSameCountriesHelper(List<CountryInformation> previousCountries,
+                                                 List<CountryInformation> countries) {
+        if (previousCountries.size() != countries.size()) {
+            return false;
+        }
+        for (int position = 0; position < countries.size(); position++) {
+            if (previousCountries.get(position) != countries.get(position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna la lista inmutable de paises de un continente, sin copiarla.
+     * </body>
+     *
+     * @param continentName Nombre del continente
+     * @return List Paises del continente, o una lista vacia si no tiene paises
+     */
+    public List<CountryInformation> countriesOf(String continentName) {
+        if (continentName == null) {
+            return Collections.emptyList();
+        }
+        List<CountryInformation> continentCountries = this.countriesPerContinent.get(continentName);
+        return continentCountries != null ? continentCountries : Collections.emptyList();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna unas particiones sin el pais indicado. Solo se copia la lista de su
+     * continente, las demas listas se comparten.
+     * </body>
+     *
+     * @param removedCountry Pais a quitar
+     * @return CountryPartitions Particiones sin el pais
+     */
+    public CountryPartitions withoutCountry(CountryInformation removedCountry) {
+        List<CountryInformation> continentCountries =
+                this.countriesOf(removedCountry.getCountryContinent());
+        if (!continentCountries.contains(removedCountry)) {
+            return this;
+        }
+        List<CountryInformation> updatedContinentCountries = new ArrayList<>(continentCountries);
+        updatedContinentCountries.remove(removedCountry);
+        //? El constructor con un SortedMap conserva el comparador sin distinguir mayusculas
+        TreeMap<String, List<CountryInformation>> updatedPartitions =
+                new TreeMap<>(this.countriesPerContinent);
+        updatedPartitions.put(removedCountry.getCountryContinent(),
+                              Collections.unmodifiableList(updatedContinentCountries));
+        return new CountryPartitions(updatedPartitions);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna unas particiones con un pais restaurado. Solo se copia la lista de su
+     * continente; el pais entra en la posicion de su identificador, por lo que la lista debe
+     * estar ordenada por identificador como la arma {@link #of(List)} desde el listado publicado.
+     * </body>
+     *
+     * @param restoredCountry Pais a agregar
+     * @return CountryPartitions Particiones con el pais
+     */
+    public CountryPartitions withCountry(CountryInformation restoredCountry) {
+        List<CountryInformation> continentCountries =
+                this.countriesOf(restoredCountry.getCountryContinent());
+        int low = 0;
+        int high = continentCountries.size() - 1;
+        //? Busqueda binaria del punto de insercion por identificador
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleCountryId = continentCountries.get(middle).getCountryId();
+            if (middleCountryId == restoredCountry.getCountryId()) {
+                return this;
+            }
+            if (middleCountryId < restoredCountry.getCountryId()) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        List<CountryInformation> updatedContinentCountries =
+                new ArrayList<>(continentCountries.size() + 1);
+        updatedContinentCountries.addAll(continentCountries);
+        updatedContinentCountries.add(low, restoredCountry);
+        TreeMap<String, List<CountryInformation>> updatedPartitions =
+                new TreeMap<>(this.countriesPerContinent);
+        updatedPartitions.put(restoredCountry.getCountryContinent(),
+                              Collections.unmodifiableList(updatedContinentCountries));
+        return new CountryPartitions(updatedPartitions);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna unas particiones con un continente restaurado y sus paises. Las demas
+     * listas se comparten.
+     * </body>
+     *
+     * @param continentName      Continente a agregar
+     * @param continentCountries Paises del continente, ordenados por identificador
+     * @return CountryPartitions Particiones con el continente
+     */
+    public CountryPartitions withContinent(String continentName,
+                                           List<CountryInformation> continentCountries) {
+        TreeMap<String, List<CountryInformation>> updatedPartitions =
+                new TreeMap<>(this.countriesPerContinent);
+        updatedPartitions.put(continentName,
+                              Collections.unmodifiableList(new ArrayList<>(continentCountries)));
+        return new CountryPartitions(updatedPartitions);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna unas particiones sin el continente indicado.
+     * </body>
+     *
+     * @param continentName Continente a quitar
+     * @return CountryPartitions Particiones sin el continente
+     */
+    public CountryPartitions withoutContinent(String continentName) {
+        if (!this.countriesPerContinent.containsKey(continentName)) {
+            return this;
+        }
+        TreeMap<String, List<CountryInformation>> updatedPartitions =
+                new TreeMap<>(this.countriesPerContinent);
+        updatedPartitions.remove(continentName);
+        return new CountryPartitions(updatedPartitions);
+    }
+}
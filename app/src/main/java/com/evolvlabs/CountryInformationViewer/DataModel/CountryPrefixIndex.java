@@ -0,0 +1,230 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el indice de busqueda por prefijo de los nombres
+ * de paises. Los nombres se pliegan a minusculas y se ordenan una sola vez en un arreglo; todos los
+ * nombres que empiezan con un prefijo quedan contiguos, por lo que una busqueda son dos busquedas
+ * binarias que delimitan un rango. Al escribir, cada tecla extiende el prefijo anterior y el nuevo
+ * rango se busca solo dentro del rango anterior, de forma que la busqueda se refina en lugar de
+ * empezar de cero. Se prefirio un arreglo ordenado a un trie porque ocupa un solo arreglo de
+ * Strings y otro de paises en lugar de un nodo por caracter.
+ */
+public class CountryPrefixIndex {
+
+    /*! Parametros internos*/
+    private final String[] foldedNamesInOrder;
+    private final CountryInformation[] countriesInOrder;
+
+    private CountryPrefixIndex(String[] foldedNamesInOrder, CountryInformation[] countriesInOrder) {
+        this.foldedNamesInOrder = foldedNamesInOrder;
+        this.countriesInOrder = countriesInOrder;
+    }
+
+    /**
+     * @description: rango [start, end) del arreglo ordenado cuyos nombres empiezan con el prefijo
+     * plegado. Es inmutable y se puede pasar a {@link #refine(Range, String)} en la siguiente tecla
+     */
+    public static final class Range {
+        private final String foldedPrefix;
+        private final int start;
+        private final int end;
+
+        private Range(String foldedPrefix, int start, int end) {
+            this.foldedPrefix = foldedPrefix;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {return this.start;}
+
+        public int getEnd() {return this.end;}
+
+        public int size() {return this.end - this.start;}
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que construye el indice de un listado de paises. Hace una sola ordenacion, por lo
+     * que debe llamarse fuera del hilo principal.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Pliega cada nombre una sola vez</li>
+     *   <li>Ordena las posiciones por nombre plegado</li>
+     *   <li>Copia nombres y paises a dos arreglos en ese orden</li>
+     * </ol>
+     * </body>
+     *
+     * @param countries Listado de paises
+     * @return CountryPrefixIndex Indice ordenado del listado
+     */
+    public static CountryPrefixIndex of(List<CountryInformation> countries) {
+        int countryCount = countries.size();
+        String[] foldedNames = new String[countryCount];
+        Integer[] positionsInOrder = new Integer[countryCount];
+        for (int position = 0; position < countryCount; position++) {
+            foldedNames[position] = fold(countries.get(position).getCountryName());
+            positionsInOrder[position] = position;
+        }
+        Arrays.sort(positionsInOrder, Comparator.comparing(position -> foldedNames[position]));
+
+        String[] foldedNamesInOrder = new String[countryCount];
+        CountryInformation[] countriesInOrder = new CountryInformation[countryCount];
+        for (int order = 0; order < countryCount; order++) {
+            foldedNamesInOrder[order] = foldedNames[positionsInOrder[order]];
+            countriesInOrder[order] = countries.get(positionsInOrder[order]);
+        }
+        return new CountryPrefixIndex(foldedNamesInOrder, countriesInOrder);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna un indice con los cambios de un catalogo recargado. Solo se pliegan y
+     * ordenan los nombres de los paises nuevos; los demas conservan su nombre plegado y su orden,
+     * y ambos arreglos ordenados se mezclan en una pasada. Se debe llamar fuera del hilo
+     * principal.
+     * </body>
+     *
+     * @param droppedCountries Paises que salieron del catalogo, se comparan por identidad
+     * @param addedCountries   Paises nuevos del catalogo
+     * @return CountryPrefixIndex Indice con los cambios, o este mismo si no hay ninguno
+     */
+    public CountryPrefixIndex withChanges(List<CountryInformation> droppedCountries,
+                                          List<CountryInformation> addedCountries) {
+        if (droppedCountries.isEmpty() && addedCountries.isEmpty()) {
+            return this;
+        }
+        //? 1. Los paises nuevos se indexan solos, con la misma ordenacion que of
+        CountryPrefixIndex addedIndex = of(addedCountries);
+        Set<CountryInformation> droppedSet =
+                Collections.newSetFromMap(new IdentityHashMap<>(droppedCountries.size() * 2));
+        droppedSet.addAll(droppedCountries);
+
+        //? 2. Mezclamos los conservados con los nuevos; con nombres iguales el conservado va
+        // primero, igual que la ordenacion estable de of con los nuevos al final del catalogo
+        int maximumCount = this.countriesInOrder.length + addedIndex.countriesInOrder.length;
+        String[] foldedNamesInOrder = new String[maximumCount];
+        CountryInformation[] countriesInOrder = new CountryInformation[maximumCount];
+        int mergedCount = 0;
+        int addedOrder = 0;
+        for (int order = 0; order <= this.countriesInOrder.length; order++) {
+            boolean isLast = order == this.countriesInOrder.length;
+            if (!isLast && droppedSet.contains(this.countriesInOrder[order])) {
+                continue;
+            }
+            while (addedOrder < addedIndex.countriesInOrder.length
+                    && (isLast || addedIndex.foldedNamesInOrder[addedOrder]
+                            .compareTo(this.foldedNamesInOrder[order]) < 0)) {
+                foldedNamesInOrder[mergedCount] = addedIndex.foldedNamesInOrder[addedOrder];
+                countriesInOrder[mergedCount++] = addedIndex.countriesInOrder[addedOrder++];
+            }
+            if (!isLast) {
+                foldedNamesInOrder[mergedCount] = this.foldedNamesInOrder[order];
+                countriesInOrder[mergedCount++] = this.countriesInOrder[order];
+            }
+        }
+        return new CountryPrefixIndex(Arrays.copyOf(foldedNamesInOrder, mergedCount),
+                                      Arrays.copyOf(countriesInOrder, mergedCount));
+    }
+
+    public static CountryPrefixIndex empty() {
+        return new CountryPrefixIndex(new String[0], new CountryInformation[0]);
+    }
+
+    /**
+     * @description: pliega un texto con la misma regla que {@link String#equalsIgnoreCase}
+     */
+    public static String fold(String text) {
+        char[] foldedCharacters = new char[text.length()];
+        for (int position = 0; position < foldedCharacters.length; position++) {
+            foldedCharacters[position] =
+                    Character.toLowerCase(Character.toUpperCase(text.charAt(position)));
+        }
+        return new String(foldedCharacters);
+    }
+
+    public int size() {
+        return this.countriesInOrder.length;
+    }
+
+    public CountryInformation countryAt(int order) {
+        return this.countriesInOrder[order];
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que busca el rango de nombres que empiezan con el texto, sobre todo el indice.
+     * </body>
+     *
+     * @param query Texto escrito por el usuario, sin plegar
+     * @return Range Rango de coincidencias, vacio si no hay ninguna
+     */
+    public Range search(String query) {
+        String foldedPrefix = fold(query);
+        return this.searchingWithinHelper(foldedPrefix, 0, this.countriesInOrder.length);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que refina una busqueda anterior. Si el texto nuevo extiende el prefijo anterior (el
+     * caso normal al escribir) solo se busca dentro del rango anterior; si no, se busca sobre todo
+     * el indice.
+     * </body>
+     *
+     * @param previousRange Rango de la busqueda anterior, puede ser null
+     * @param query         Texto escrito por el usuario, sin plegar
+     * @return Range Rango de coincidencias, vacio si no hay ninguna
+     */
+    public Range refine(Range previousRange, String query) {
+        String foldedPrefix = fold(query);
+        if (previousRange != null && foldedPrefix.startsWith(previousRange.foldedPrefix)) {
+            return this.searchingWithinHelper(foldedPrefix, previousRange.start, previousRange.end);
+        }
+        return this.searchingWithinHelper(foldedPrefix, 0, this.countriesInOrder.length);
+    }
+
+    /*! Metodos auxiliares*/
+    private Range searchingWithinHelper(String foldedPrefix, int fromOrder, int toOrder) {
+        //? 1. Primer nombre mayor o igual al prefijo
+        int start = this.lowerBound(foldedPrefix, fromOrder, toOrder);
+        //? 2. Primer nombre que ya no empieza con el prefijo, todo lo anterior coincide
+        int low = start;
+        int high = toOrder;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.foldedNamesInOrder[middle].startsWith(foldedPrefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return new Range(foldedPrefix, start, low);
+    }
+
+    private int lowerBound(String foldedPrefix, int fromOrder, int toOrder) {
+        int low = fromOrder;
+        int high = toOrder;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.foldedNamesInOrder[middle].compareTo(foldedPrefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -1,10 +1,8 @@
 package com.evolvlabs.CountryInformationViewer.DataModel;
 
 import android.content.Context;
-import android.content.res.AssetManager;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.util.LruCache;
+import android.graphics.drawable.Drawable;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -12,43 +10,128 @@ import android.widget.ImageView;
 import android.widget.ListView;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import com.evolvlabs.CountryInformationViewer.Controllers.ChooseAContinentController;
 import com.evolvlabs.CountryInformationViewer.Controllers.ChooseACountryController;
-import com.evolvlabs.CountryInformationViewer.Utilities.ConfirmationDialogBuilder;
 import com.evolvlabs.countryinformationviewer.R;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.function.IntConsumer;
 
-public class CountryRecyclerAdapter extends RecyclerView.Adapter<CountryRecyclerAdapter.CountryViewHolder> {
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el adaptador de la lista de paises sobre un
+ * {@link ListAdapter}. La lista recibe la particion ya armada del continente seleccionado con
+ * {@link #refreshVisibleCountries()} y el diff contra la lista anterior se calcula en segundo plano,
+ * de forma que una eliminacion, una restauracion o un cambio de continente solo despachan
+ * inserciones, eliminaciones y movimientos puntuales en lugar de volver a enlazar todas las filas.
+ * Los listeners de cada fila se crean una sola vez junto con su ViewHolder y resuelven el pais con
+ * la posicion de la fila, de forma que enlazar una fila ya vista al desplazarse no crea objetos.
+ */
+public class CountryRecyclerAdapter extends ListAdapter<CountryInformation, CountryRecyclerAdapter.CountryViewHolder> {
+
+    /**
+     * @description: payload de las filas cuyo unico cambio es la seleccion, se vuelve a pintar el
+     * fondo sin volver a enlazar nombre ni bandera
+     */
+    private static final Object SELECTION_CHANGED_PAYLOAD = new Object();
+
+    /**
+     * @description: identidad de un pais en el diff: su identificador del catalogo y su bandera,
+     * un pais de otro catalogo con el mismo identificador no es el mismo elemento
+     */
+    private static final DiffUtil.ItemCallback<CountryInformation> COUNTRY_DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<CountryInformation>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull CountryInformation oldCountry,
+                                               @NonNull CountryInformation newCountry) {
+                    return oldCountry == newCountry
+                           || (oldCountry.getCountryId() == newCountry.getCountryId()
+                               && oldCountry.getCountryImageAssetPath()
+                                       .equals(newCountry.getCountryImageAssetPath()));
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull CountryInformation oldCountry,
+                                                  @NonNull CountryInformation newCountry) {
+                    return oldCountry == newCountry
+                           || oldCountry.getCountryName().equals(newCountry.getCountryName());
+                }
+            };
 
     private final ApplicationDataPOJO viewModelPassedFromOutside;
-    private CountryInformation[] countriesFiltered;
-    private AssetManager assetManagerToDownloadImagesFrom;
+    /**
+     * @description: fuente de las banderas de las filas, en la aplicacion es el mismo view model
+     */
+    private final CountryRowFlagSource rowFlagSource;
+    /**
+     * @description: bucket de tamano con el que se decodifican las banderas de las filas, se
+     * calcula una sola vez con el tamano del ImageView de la fila
+     */
+    private final FlagSizeBucket rowFlagSizeBucket;
+
+    /**
+     * @description: paises seleccionados en el modo de seleccion multiple. El modo inicia con un
+     * toque largo y termina cuando no queda ningun pais seleccionado; mientras esta activo un toque
+     * agrega o quita el pais de la seleccion en lugar de abrir su informacion
+     */
+    private final Set<String> selectedCountryNames = new LinkedHashSet<>();
+    private IntConsumer onSelectionChangedListener;
 
     public CountryRecyclerAdapter(ApplicationDataPOJO applicationDataPOJOFromTheOutside,
                                   Context contextFromTheOutside) {
-        this.viewModelPassedFromOutside = applicationDataPOJOFromTheOutside;
-
-        this.assetManagerToDownloadImagesFrom = contextFromTheOutside.getAssets();
+        this(applicationDataPOJOFromTheOutside, applicationDataPOJOFromTheOutside,
+             FlagSizeBucket.forTargetSize(
+                     contextFromTheOutside.getResources()
+                             .getDimensionPixelSize(R.dimen.country_row_flag_size)));
+    }
 
+    /**
+     * @description: constructor de las pruebas locales, recibe la fuente de banderas y el bucket de
+     * las filas en lugar de leerlos de los recursos
+     */
+    CountryRecyclerAdapter(ApplicationDataPOJO applicationDataPOJOFromTheOutside,
+                           CountryRowFlagSource rowFlagSource,
+                           FlagSizeBucket rowFlagSizeBucket) {
+        super(COUNTRY_DIFF_CALLBACK);
+        this.viewModelPassedFromOutside = applicationDataPOJOFromTheOutside;
+        this.rowFlagSource = rowFlagSource;
+        this.rowFlagSizeBucket = rowFlagSizeBucket;
     }
 
     public static class CountryViewHolder extends RecyclerView.ViewHolder {
 
         private ImageView inHereIsYourInfo_ImageViewForFlag;
         private TextView inHereIsYourInfo_TextViewForCountryName;
+        /**
+         * @description: identificador del pais que esta fila muestra actualmente, nos permite
+         * descartar banderas que llegan tarde cuando la fila ya se reciclo para otro pais
+         */
+        private int boundCountryId = CountryInformation.NO_COUNTRY_ID;
 
         public CountryViewHolder(@NonNull @NotNull View itemView) {
+            this(itemView,
+                 itemView.findViewById(R.id.inHereIsYourInfo_ImageViewForFlag),
+                 itemView.findViewById(R.id.inHereIsYourInfo_TextViewForCountryName));
+        }
+
+        /**
+         * @description: constructor de las pruebas locales, recibe las vistas de la fila en lugar
+         * de buscarlas en el layout inflado
+         */
+        CountryViewHolder(@NonNull @NotNull View itemView,
+                          ImageView flagImageView,
+                          TextView countryNameTextView) {
             super(itemView);
-            this.inHereIsYourInfo_ImageViewForFlag =
-                    itemView.findViewById(R.id.inHereIsYourInfo_ImageViewForFlag);
-            this.inHereIsYourInfo_TextViewForCountryName =
-                    itemView.findViewById(R.id.inHereIsYourInfo_TextViewForCountryName);
+            this.inHereIsYourInfo_ImageViewForFlag = flagImageView;
+            this.inHereIsYourInfo_TextViewForCountryName = countryNameTextView;
         }
 
         public void bind(String continent,
@@ -57,6 +140,18 @@ public class CountryRecyclerAdapter extends RecyclerView.Adapter<CountryRecycler
             this.inHereIsYourInfo_TextViewForCountryName.setText(continent);
         }
 
+        public void bindFlagIfStillShowing(int countryId, Bitmap countryFlagBitmap) {
+            if (countryId == this.boundCountryId) {
+                this.inHereIsYourInfo_ImageViewForFlag.setImageBitmap(countryFlagBitmap);
+            }
+        }
+
+        public void bindFlagDrawableIfStillShowing(int countryId, Drawable countryFlagDrawable) {
+            if (countryId == this.boundCountryId) {
+                this.inHereIsYourInfo_ImageViewForFlag.setImageDrawable(countryFlagDrawable);
+            }
+        }
+
         public void bindOnClickListener(View.OnClickListener listener) {
             if (listener != null) {
                 this.inHereIsYourInfo_TextViewForCountryName.setOnClickListener(listener);
@@ -65,6 +160,10 @@ public class CountryRecyclerAdapter extends RecyclerView.Adapter<CountryRecycler
             }
         }
 
+        public void bindSelectionState(boolean isSelected) {
+            this.itemView.setActivated(isSelected);
+        }
+
         public void bindOnLongClickListenr(View.OnLongClickListener listener) {
             if (listener != null) {
                 this.inHereIsYourInfo_TextViewForCountryName.setOnLongClickListener(listener);
@@ -100,7 +199,25 @@ public class CountryRecyclerAdapter extends RecyclerView.Adapter<CountryRecycler
                 LayoutInflater.from(parent.getContext())
                         .inflate(R.layout.custom_recycler_view_layout,
                                  parent, false);
-        return new CountryViewHolder(inflatedViewForLayout);
+        return this.attachingRowListenersHelper(new CountryViewHolder(inflatedViewForLayout));
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que asigna los listeners de una fila recien creada. Se llama una sola vez por
+     * ViewHolder: los listeners no guardan el pais de la fila sino que lo resuelven con
+     * {@link RecyclerView.ViewHolder#getBindingAdapterPosition()} al momento del toque, por lo que
+     * siguen siendo validos cuando la fila se recicla para otro pais.
+     * </body>
+     *
+     * @param holder ViewHolder recien creado
+     * @return CountryViewHolder El mismo ViewHolder, ya con sus listeners
+     */
+    CountryViewHolder attachingRowListenersHelper(CountryViewHolder holder) {
+        holder.bindOnClickListener(new OnCountryClickHandler(holder));
+        holder.bindOnLongClickListenr(new OnCountryLongClickListener(holder));
+        return holder;
     }
 
     /**
@@ -124,87 +241,210 @@ public class CountryRecyclerAdapter extends RecyclerView.Adapter<CountryRecycler
      */
     @Override
     public void onBindViewHolder(@NonNull @NotNull CountryRecyclerAdapter.CountryViewHolder holder, int position) {
-        this.countriesFiltered = this.getFilteredCountriesBasedOnContinentSelection();
-        if (viewModelPassedFromOutside.constantCountryList.getValue() != null) {
-            String countryName = countriesFiltered[position].getCountryName();
-            //? 2. Tenemos que ahora cargar la imagen desde el sistema
-            String countryAssetPath = countriesFiltered[position].getCountryImageAssetPath();
-            Bitmap countryIconBitmap = null;
-            if (viewModelPassedFromOutside.constantCountryFlagMap.getValue() != null){
-                 countryIconBitmap =
-                         viewModelPassedFromOutside.constantCountryFlagMap.getValue().get(countryAssetPath);
+        //? 1. Leemos la fila de la lista entregada al adaptador, la misma con la que se calculo
+        // el ultimo diff
+        if (position < this.getItemCount()) {
+            CountryInformation countryToBind = this.getItem(position);
+            String countryName = countryToBind.getCountryName();
+            //? 2. Tenemos que ahora cargar la imagen desde el cache del view model, si no esta
+            // cargada, mostramos la fila sin bandera y la pedimos en segundo plano. La fila
+            // recuerda el identificador del pais, no su ruta, para comparar con un entero
+            int countryId = countryToBind.getCountryId();
+            String countryContinent = countryToBind.getCountryContinent();
+            holder.boundCountryId = countryId;
+            if (rowFlagSource.hasFlagAtlasCovering(countryContinent, rowFlagSizeBucket)) {
+                //? 2.1 Si la compilacion genero el atlas del continente, todas las filas dibujan
+                // su bandera desde una sola decodificacion
+                holder.bind(countryName, null);
+                FlagAtlas loadedAtlas = rowFlagSource.getLoadedFlagAtlas(countryContinent);
+                if (loadedAtlas != null) {
+                    this.bindFlagFromAtlasOrDecode(holder, countryToBind, position, loadedAtlas);
+                } else {
+                    rowFlagSource.requestFlagAtlas(
+                            countryContinent,
+                            atlas -> this.bindFlagFromAtlasOrDecode(holder, countryToBind,
+                                                                    position, atlas));
+                }
             } else {
-                try {
-                    InputStream countryIconStream =
-                            assetManagerToDownloadImagesFrom.open(countryAssetPath);
-                    countryIconBitmap = BitmapFactory.decodeStream(countryIconStream);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
+                Bitmap countryIconBitmap =
+                        rowFlagSource.getCachedCountryFlag(countryId, rowFlagSizeBucket);
+                holder.bind(countryName, countryIconBitmap);
+                if (countryIconBitmap == null) {
+                    rowFlagSource.requestCountryFlagForRow(
+                            countryToBind, rowFlagSizeBucket, position,
+                            flagBitmap -> holder.bindFlagIfStillShowing(countryId, flagBitmap));
                 }
             }
-
-            holder.bind(countryName, countryIconBitmap);
-            holder.bindOnClickListener(new OnCountryClickHandler());
-            holder.bindOnLongClickListenr(new OnCountryLongClickListener());
+            //? 3. Los listeners ya se asignaron al crear la fila, solo falta la seleccion
+            holder.bindSelectionState(this.selectedCountryNames.contains(countryName));
         }
     }
 
-    private CountryInformation[] getFilteredCountriesBasedOnContinentSelection() {
-        return (countriesFiltered =
-                viewModelPassedFromOutside.constantCountryList
-                        .getValue()
-                        .stream()
-                        .filter(new Predicate<CountryInformation>() {
-                            @Override
-                            public boolean test(CountryInformation countryInformation) {
-                                return countryInformation
-                                        .getCountryContinent()
-                                        .equalsIgnoreCase(
-                                                viewModelPassedFromOutside
-                                                        .constantSelectedContinent
-                                                        .getValue());
-                            }
-                        }).toArray(CountryInformation[]::new));
+    @Override
+    public void onBindViewHolder(@NonNull @NotNull CountryRecyclerAdapter.CountryViewHolder holder,
+                                 int position,
+                                 @NonNull @NotNull List<Object> payloads) {
+        //? Si solo cambio la seleccion repintamos el fondo, el nombre y la bandera siguen igual
+        boolean onlySelectionChanged = !payloads.isEmpty();
+        for (Object payload : payloads) {
+            onlySelectionChanged &= payload == SELECTION_CHANGED_PAYLOAD;
+        }
+        if (onlySelectionChanged) {
+            holder.bindSelectionState(
+                    this.selectedCountryNames.contains(this.getItem(position).getCountryName()));
+            return;
+        }
+        this.onBindViewHolder(holder, position);
+    }
 
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que entrega al adaptador los paises que se deben mostrar: la particion del
+     * continente seleccionado, o sus coincidencias si hay texto de busqueda. Las particiones son
+     * inmutables y solo cambian de instancia cuando cambia su contenido, por lo que entregar la
+     * misma lista no calcula ningun diff.
+     * </body>
+     */
+    public void refreshVisibleCountries() {
+        this.submitList(viewModelPassedFromOutside.getVisibleCountriesOfSelectedContinent());
     }
 
     /**
-     * Returns the total number of items in the data set held by the adapter.
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que dibuja la bandera de una fila como un rectangulo del atlas de su
+     * continente. El atlas reutiliza el Drawable de cada bandera, por lo que volver a enlazar la
+     * fila no crea objetos. Si el atlas no se pudo cargar o no contiene la bandera, se decodifica
+     * la bandera de forma individual como si no existiera atlas.
+     * </body>
      *
-     * @return The total number of items in this adapter.
+     * @param holder        ViewHolder de la fila
+     * @param countryToBind Pais que la fila mostraba al pedir el atlas
+     * @param position      Posicion de la fila, define la prioridad si hay que decodificar
+     * @param atlas         Atlas del continente, o null si no se pudo cargar
      */
-    @Override
-    public int getItemCount() {
-        return this.getFilteredCountriesBasedOnContinentSelection().length;
+    private void bindFlagFromAtlasOrDecode(CountryViewHolder holder,
+                                           CountryInformation countryToBind,
+                                           int position,
+                                           FlagAtlas atlas) {
+        int countryId = countryToBind.getCountryId();
+        if (countryId != holder.boundCountryId) {
+            return;
+        }
+        Drawable flagFromAtlas = atlas != null
+                                 ? atlas.getFlagDrawable(countryToBind.getCountryImageAssetPath())
+                                 : null;
+        if (flagFromAtlas != null) {
+            holder.bindFlagDrawableIfStillShowing(countryId, flagFromAtlas);
+            return;
+        }
+        rowFlagSource.requestCountryFlagForRow(
+                countryToBind, rowFlagSizeBucket, position,
+                flagBitmap -> holder.bindFlagIfStillShowing(countryId, flagBitmap));
+    }
+
+
+    /*! Modo de seleccion multiple*/
+    public void setOnSelectionChangedListener(IntConsumer onSelectionChangedListener) {
+        this.onSelectionChangedListener = onSelectionChangedListener;
+    }
+
+    public boolean isInSelectionMode() {
+        return !this.selectedCountryNames.isEmpty();
+    }
+
+    public int getSelectedCountryCount() {
+        return this.selectedCountryNames.size();
+    }
+
+    /**
+     * @description: termina el modo de seleccion multiple sin eliminar nada
+     */
+    public void clearSelection() {
+        if (this.selectedCountryNames.isEmpty()) {
+            return;
+        }
+        this.selectedCountryNames.clear();
+        this.notifyItemRangeChanged(0, this.getItemCount(), SELECTION_CHANGED_PAYLOAD);
+        this.notifySelectionChangedHelper();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que elimina todos los paises seleccionados en una sola transaccion del view model, de
+     * forma que la lista se actualiza y las preferencias se escriben una sola vez sin importar
+     * cuantos paises se eliminen. Termina el modo de seleccion multiple.
+     * </body>
+     */
+    public void removeSelectedCountries() {
+        List<String> countriesToRemove = new ArrayList<>(this.selectedCountryNames);
+        this.selectedCountryNames.clear();
+        this.notifySelectionChangedHelper();
+        viewModelPassedFromOutside.edit().removeCountries(countriesToRemove).apply();
     }
 
+    /**
+     * @description: pais de la posicion dada en la lista actual del adaptador, o null si la fila ya
+     * no tiene posicion (por ejemplo, mientras se anima su eliminacion)
+     */
+    private CountryInformation gettingCountryAtPositionHelper(int position) {
+        if (position == RecyclerView.NO_POSITION || position >= this.getItemCount()) {
+            return null;
+        }
+        return this.getItem(position);
+    }
 
+    private void togglingSelectionHelper(int position, String countryName) {
+        if (!this.selectedCountryNames.remove(countryName)) {
+            this.selectedCountryNames.add(countryName);
+        }
+        this.notifyItemChanged(position, SELECTION_CHANGED_PAYLOAD);
+        this.notifySelectionChangedHelper();
+    }
+
+    private void notifySelectionChangedHelper() {
+        if (this.onSelectionChangedListener != null) {
+            this.onSelectionChangedListener.accept(this.selectedCountryNames.size());
+        }
+    }
 
     private class OnCountryClickHandler implements View.OnClickListener {
 
+        private final CountryViewHolder holder;
+
+        OnCountryClickHandler(CountryViewHolder holder) {
+            this.holder = holder;
+        }
+
         @Override
         public void onClick(View v) {
-            //? 1. Para cargar el listener, debemos de cargar la informacion de la vista, es
-            // decir la informacion asociada con el nombre del texto para buscar en base de este
-            // nombre el CountryInformation y luego el resto de cargas
-            if (v.findViewById(R.id.inHereIsYourInfo_TextViewForCountryName) != null) {
-                String textFromView = ((TextView) v.findViewById(
-                        R.id.inHereIsYourInfo_TextViewForCountryName)).getText().toString();
-                CountryInformation informationFromView =
-                        viewModelPassedFromOutside
-                                .getConstantCountryFromCountryListPerName(textFromView);
-                System.out.println(informationFromView);
-                if (!informationFromView.getCountryName().isEmpty()
-                        && !informationFromView.getCountryImageAssetPath().isEmpty()) {
-                    viewModelPassedFromOutside.setSelectedCountryIntoMutableData(informationFromView);
-                }
+            //? 1. El listener vive lo mismo que la fila, por lo que el pais se resuelve con la
+            // posicion actual de la fila dentro de la lista entregada al adaptador, sin leer el
+            // texto de la vista ni buscar el nombre en el view model
+            int position = this.holder.getBindingAdapterPosition();
+            CountryInformation countryFromRow = gettingCountryAtPositionHelper(position);
+            if (countryFromRow == null) {
+                return;
             }
-
+            //? 2. En el modo de seleccion multiple el toque solo cambia la seleccion
+            if (isInSelectionMode()) {
+                togglingSelectionHelper(position, countryFromRow.getCountryName());
+                return;
+            }
+            viewModelPassedFromOutside.setSelectedCountryIntoMutableData(countryFromRow);
         }
     }
 
     private class OnCountryLongClickListener implements View.OnLongClickListener {
 
+        private final CountryViewHolder holder;
+
+        OnCountryLongClickListener(CountryViewHolder holder) {
+            this.holder = holder;
+        }
+
         /**
          * Called when a view has been clicked and held.
          *
@@ -213,27 +453,18 @@ public class CountryRecyclerAdapter extends RecyclerView.Adapter<CountryRecycler
          */
         @Override
         public boolean onLongClick(View v) {
-            //? 1. Aqui debemos manejar la seleccion de datos de la vista para poder eliminar el
-            // valor directamente del view model interno. Para hacer esto debemos de tomar el
-            // valor de la vista, y si este existe tenemos que eliminarlo de la lista.
-            if (v.findViewById(R.id.inHereIsYourInfo_TextViewForCountryName) != null) {
-                String textFromView = ((TextView) v.findViewById(
-                        R.id.inHereIsYourInfo_TextViewForCountryName)).getText().toString();
-
-                //? 2. Conectamos con el view model para eliminar los datos directamente
-                if (viewModelPassedFromOutside.constantCountryList.getValue() != null) {
-                    if (!textFromView.isEmpty()) {
-                        ConfirmationDialogBuilder.showConfirmationDialog(
-                                v.getResources().getString(R.string.removing_country_dialog_header, textFromView),
-                                v.getResources().getString(R.string.removing_country_confirmation_message),
-                                () -> {
-                                    viewModelPassedFromOutside.removeConstantCountryFromCountryList(textFromView);
-                                }, v.getContext(), v.getResources());
-                    }
-                    return true;
-                }
+            //? 1. El toque largo inicia el modo de seleccion multiple con el pais de la fila, la
+            // eliminacion se confirma con el boton de la vista para todos los paises seleccionados
+            // a la vez. El pais se resuelve con la posicion actual de la fila
+            int position = this.holder.getBindingAdapterPosition();
+            CountryInformation countryFromRow = gettingCountryAtPositionHelper(position);
+            if (countryFromRow == null) {
+                return false;
             }
-            return false;
+
+            //? 2. Agregamos o quitamos el pais de la seleccion
+            togglingSelectionHelper(position, countryFromRow.getCountryName());
+            return true;
         }
     }
 }
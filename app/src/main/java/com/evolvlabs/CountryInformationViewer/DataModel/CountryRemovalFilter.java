@@ -0,0 +1,246 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define el filtro de paises y continentes eliminados. Antes se
+ * mantenian dos listas de objetos que se recorrian con equalsIgnoreCase y se guardaban con
+ * {@code List.toString()}. Aqui los paises eliminados son bits de un {@link BitSet} indexado por
+ * el identificador del pais (ver {@link CountryCatalogTable}) y los continentes eliminados son bits
+ * de una mascara indexada por su ordinal, de forma que saber si un pais se muestra son dos pruebas
+ * de bit. El filtro se guarda como unos pocos bytes en Base64, junto con la huella del catalogo
+ * con el que se crearon los identificadores y el nombre de cada pais eliminado, para volver a
+ * encontrarlos si una actualizacion cambia el catalogo. Solo se modifica desde el hilo principal.
+ */
+public class CountryRemovalFilter {
+
+    /**
+     * @description: version del formato binario, si el formato cambia tambien debe cambiar este
+     * valor y los filtros guardados con una version desconocida se ignoran
+     */
+    static final byte FORMAT_VERSION = 2;
+    /**
+     * @description: version anterior, sin los nombres de los paises eliminados. Se sigue leyendo;
+     * si el catalogo cambio solo se puede conservar la mascara de continentes
+     */
+    static final byte NAMELESS_FORMAT_VERSION = 1;
+    /**
+     * @description: version, huella del catalogo y mascara de continentes
+     */
+    private static final int HEADER_BYTES = 1 + Integer.BYTES + Integer.BYTES;
+
+    /*! Parametros internos*/
+    private final BitSet removedCountryIds;
+    private int removedContinentMask;
+
+    private CountryRemovalFilter(BitSet removedCountryIds, int removedContinentMask) {
+        this.removedCountryIds = removedCountryIds;
+        this.removedContinentMask = removedContinentMask;
+    }
+
+    public static CountryRemovalFilter empty() {
+        return new CountryRemovalFilter(new BitSet(), 0);
+    }
+
+    /*! Pruebas de bit*/
+    public boolean isCountryRemoved(int countryId) {
+        return this.removedCountryIds.get(countryId);
+    }
+
+    public boolean isContinentRemoved(int continentOrdinal) {
+        return continentOrdinal >= 0 && (this.removedContinentMask & (1 << continentOrdinal)) != 0;
+    }
+
+    /**
+     * @description: verdadero si el pais se muestra: ni el pais ni su continente estan eliminados
+     */
+    public boolean isCountryVisible(int countryId, int continentOrdinal) {
+        return !this.isContinentRemoved(continentOrdinal) && !this.isCountryRemoved(countryId);
+    }
+
+    public boolean isEmpty() {
+        return this.removedContinentMask == 0 && this.removedCountryIds.isEmpty();
+    }
+
+    /*! Eliminaciones*/
+    public void removeCountry(int countryId) {
+        this.removedCountryIds.set(countryId);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que marca un continente como eliminado. Los bits de sus paises se limpian, el bit
+     * del continente ya los oculta y asi el filtro guardado se mantiene pequeno.
+     * </body>
+     *
+     * @param continentOrdinal Ordinal del continente en el catalogo
+     * @param catalogTable     Tabla del catalogo, para encontrar los paises del continente
+     */
+    public void removeContinent(int continentOrdinal, CountryCatalogTable catalogTable) {
+        if (continentOrdinal < 0 || continentOrdinal >= Integer.SIZE) {
+            return;
+        }
+        this.removedContinentMask |= 1 << continentOrdinal;
+        for (int countryId = this.removedCountryIds.nextSetBit(0); countryId >= 0;
+             countryId = this.removedCountryIds.nextSetBit(countryId + 1)) {
+            if (countryId < catalogTable.size()
+                    && catalogTable.continentOrdinalOf(countryId) == continentOrdinal) {
+                this.removedCountryIds.clear(countryId);
+            }
+        }
+    }
+
+    /*! Restauraciones*/
+    public void restoreCountry(int countryId) {
+        this.removedCountryIds.clear(countryId);
+    }
+
+    /**
+     * @description: limpia el bit del continente, como {@link #removeContinent} ya limpio los bits
+     * de sus paises todos vuelven a mostrarse
+     */
+    public void restoreContinent(int continentOrdinal) {
+        if (continentOrdinal < 0 || continentOrdinal >= Integer.SIZE) {
+            return;
+        }
+        this.removedContinentMask &= ~(1 << continentOrdinal);
+    }
+
+    /**
+     * @description: primer identificador eliminado a partir de fromCountryId, o -1 si no hay mas,
+     * para recorrer los paises eliminados sin copiar el BitSet
+     */
+    public int nextRemovedCountryId(int fromCountryId) {
+        return this.removedCountryIds.nextSetBit(fromCountryId);
+    }
+
+    /*! Persistencia*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que codifica el filtro en Base64: un byte de version, la huella del catalogo, la
+     * mascara de continentes, los bytes del BitSet y el nombre de cada pais eliminado. Sin
+     * eliminaciones son 20 caracteres. Los nombres solo se leen si el catalogo cambio, para
+     * volver a encontrar los paises eliminados con sus identificadores nuevos.
+     * </body>
+     *
+     * @param catalogTable Tabla del catalogo que asigno los identificadores
+     * @return String Filtro codificado
+     */
+    public String encode(CountryCatalogTable catalogTable) {
+        //? 1. Los nombres se codifican primero para conocer el tamano del buffer
+        byte[] countryBytes = this.removedCountryIds.toByteArray();
+        List<byte[]> removedCountryNames = new ArrayList<>();
+        int namesLength = 0;
+        for (int countryId = this.removedCountryIds.nextSetBit(0);
+             countryId >= 0 && countryId < catalogTable.size();
+             countryId = this.removedCountryIds.nextSetBit(countryId + 1)) {
+            byte[] countryName =
+                    catalogTable.countryNameOf(countryId).getBytes(StandardCharsets.UTF_8);
+            removedCountryNames.add(countryName);
+            namesLength += Short.BYTES + countryName.length;
+        }
+
+        //? 2. Encabezado, BitSet con su longitud y nombres con la suya
+        ByteBuffer encodedFilter = ByteBuffer.allocate(
+                HEADER_BYTES + Integer.BYTES + countryBytes.length + namesLength);
+        encodedFilter.put(FORMAT_VERSION);
+        encodedFilter.putInt(catalogTable.getFingerprint());
+        encodedFilter.putInt(this.removedContinentMask);
+        encodedFilter.putInt(countryBytes.length);
+        encodedFilter.put(countryBytes);
+        for (byte[] countryName : removedCountryNames) {
+            encodedFilter.putShort((short) countryName.length);
+            encodedFilter.put(countryName);
+        }
+        return Base64.getEncoder().encodeToString(encodedFilter.array());
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que decodifica un filtro guardado sobre el catalogo cargado. La mascara de
+     * continentes siempre se conserva, los ordinales de los continentes no dependen del catalogo.
+     * Si la huella coincide los bits de paises se usan tal cual; si no, los identificadores ya no
+     * corresponden a los mismos paises y los paises eliminados se vuelven a buscar por nombre en
+     * el catalogo nuevo. Un pais que ya no existe se pierde, el resto del filtro no.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Lee el encabezado, null si el texto no es valido o tiene una version desconocida</li>
+     *   <li>Con la misma huella, restaura el BitSet guardado</li>
+     *   <li>Con otra huella, resuelve los nombres guardados en el catalogo nuevo</li>
+     * </ol>
+     * </body>
+     *
+     * @param encodedFilter Filtro codificado con {@link #encode(CountryCatalogTable)}
+     * @param catalogTable  Tabla del catalogo cargado
+     * @return CountryRemovalFilter El filtro, o null si no se puede leer
+     */
+    public static CountryRemovalFilter decode(String encodedFilter,
+                                              CountryCatalogTable catalogTable) {
+        //? 1. Encabezado
+        byte[] filterBytes;
+        try {
+            filterBytes = Base64.getDecoder().decode(encodedFilter);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (filterBytes.length < HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer decodedFilter = ByteBuffer.wrap(filterBytes);
+        byte formatVersion = decodedFilter.get();
+        if (formatVersion != FORMAT_VERSION && formatVersion != NAMELESS_FORMAT_VERSION) {
+            return null;
+        }
+        boolean hasSameCatalog = decodedFilter.getInt() == catalogTable.getFingerprint();
+        int removedContinentMask = decodedFilter.getInt();
+        try {
+            //? 2. Mismo catalogo, los identificadores guardados siguen siendo validos. La
+            // version 1 no tenia longitud, el BitSet llegaba hasta el final
+            if (formatVersion == NAMELESS_FORMAT_VERSION) {
+                return new CountryRemovalFilter(
+                        hasSameCatalog ? BitSet.valueOf(decodedFilter) : new BitSet(),
+                        removedContinentMask);
+            }
+            byte[] countryBytes = new byte[decodedFilter.getInt()];
+            decodedFilter.get(countryBytes);
+            if (hasSameCatalog) {
+                return new CountryRemovalFilter(BitSet.valueOf(countryBytes),
+                                                removedContinentMask);
+            }
+
+            //? 3. Otro catalogo, buscamos cada nombre guardado. Los paises de un continente
+            // eliminado no se marcan, igual que en removeContinent
+            CountryRemovalFilter remappedFilter =
+                    new CountryRemovalFilter(new BitSet(), removedContinentMask);
+            CountryNameIndex catalogNameIndex = null;
+            while (decodedFilter.hasRemaining()) {
+                byte[] countryName = new byte[decodedFilter.getShort() & 0xFFFF];
+                decodedFilter.get(countryName);
+                if (catalogNameIndex == null) {
+                    catalogNameIndex = CountryNameIndex.of(catalogTable.asList());
+                }
+                CountryInformation removedCountry = catalogNameIndex.get(
+                        new String(countryName, StandardCharsets.UTF_8));
+                if (removedCountry != null && !remappedFilter.isContinentRemoved(
+                        catalogTable.continentOrdinalOf(removedCountry.getCountryId()))) {
+                    remappedFilter.removeCountry(removedCountry.getCountryId());
+                }
+            }
+            return remappedFilter;
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.graphics.Bitmap;
+
+import java.util.function.Consumer;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define de donde obtiene {@link CountryRecyclerAdapter} las
+ * banderas de sus filas. La implementacion de la aplicacion es {@link ApplicationDataPOJO}; la
+ * interfaz existe para que las pruebas locales puedan enlazar filas con banderas ya residentes sin
+ * construir el view model completo.
+ */
+interface CountryRowFlagSource {
+
+    /**
+     * @description: ver {@link ApplicationDataPOJO#hasFlagAtlasCovering(String, FlagSizeBucket)}
+     */
+    boolean hasFlagAtlasCovering(String continentName, FlagSizeBucket sizeBucket);
+
+    /**
+     * @description: ver {@link ApplicationDataPOJO#getLoadedFlagAtlas(String)}
+     */
+    FlagAtlas getLoadedFlagAtlas(String continentName);
+
+    /**
+     * @description: ver {@link ApplicationDataPOJO#requestFlagAtlas(String, Consumer)}
+     */
+    void requestFlagAtlas(String continentName, Consumer<FlagAtlas> onAtlasReady);
+
+    /**
+     * @description: ver {@link ApplicationDataPOJO#getCachedCountryFlag(int, FlagSizeBucket)}
+     */
+    Bitmap getCachedCountryFlag(int countryId, FlagSizeBucket sizeBucket);
+
+    /**
+     * @description: ver
+     * {@link ApplicationDataPOJO#requestCountryFlagForRow(CountryInformation, FlagSizeBucket, int, Consumer)}
+     */
+    void requestCountryFlagForRow(CountryInformation information,
+                                  FlagSizeBucket sizeBucket,
+                                  int rowPosition,
+                                  Consumer<Bitmap> onFlagReady);
+}
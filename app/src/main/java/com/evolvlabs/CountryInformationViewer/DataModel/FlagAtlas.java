@@ -0,0 +1,237 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.ImageDecoder;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el atlas de banderas de un continente. La tarea
+ * opcional {@code generateFlagAtlases} del modulo app empaqueta todas las miniaturas de un
+ * continente en una sola imagen y escribe una tabla de desplazamientos con el rectangulo de cada
+ * bandera. En tiempo de ejecucion el atlas se decodifica una sola vez y cada fila de la lista
+ * dibuja su bandera como un rectangulo de ese unico Bitmap, en lugar de abrir y decodificar un PNG
+ * por pais.
+ */
+public class FlagAtlas {
+
+    /*! Parametros internos*/
+    private final String continentName;
+    private final FlagSizeBucket sizeBucket;
+    private final Bitmap atlasBitmap;
+    /**
+     * @description: rectangulo de cada bandera dentro del atlas, indexado por la ruta original del
+     * asset de la bandera
+     */
+    private final Map<String, Rect> regionPerCountryImageAssetPath;
+    /**
+     * @description: Drawable de cada bandera ya pedida, se crea la primera vez que una fila la
+     * muestra y se reutiliza en los siguientes enlaces. Solo se usa desde el hilo principal
+     */
+    private final Map<String, Drawable> drawablePerCountryImageAssetPath = new HashMap<>();
+
+    /**
+     * @description: la aplicacion arma el atlas con {@link #loadFromAssets}, las pruebas locales
+     * lo arman directamente con un Bitmap y sus regiones
+     */
+    FlagAtlas(String continentName, FlagSizeBucket sizeBucket, Bitmap atlasBitmap,
+              Map<String, Rect> regionPerCountryImageAssetPath) {
+        this.continentName = continentName;
+        this.sizeBucket = sizeBucket;
+        this.atlasBitmap = atlasBitmap;
+        this.regionPerCountryImageAssetPath = regionPerCountryImageAssetPath;
+    }
+
+    /**
+     * @description: tabla de desplazamientos escrita por la tarea de Gradle, leida con Gson
+     */
+    private static class OffsetTable {
+        private String continent;
+        private String sizeBucket;
+        private List<Region> regions = new ArrayList<>();
+    }
+
+    /**
+     * @description: rectangulo de una bandera dentro del atlas, en pixeles
+     */
+    private static class Region {
+        private String assetPath;
+        private int x;
+        private int y;
+        private int width;
+        private int height;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que carga el atlas de un continente desde los assets. Se lee la tabla de
+     * desplazamientos y se decodifica la imagen del atlas completa, una sola vez. Si alguno de los
+     * dos archivos falta o es invalido se retorna null para que el llamador decodifique las
+     * banderas de forma individual.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Lee la tabla de desplazamientos con Gson</li>
+     *   <li>Convierte cada region a un {@link Rect} indexado por la ruta de la bandera</li>
+     *   <li>Decodifica la imagen del atlas</li>
+     * </ol>
+     * </body>
+     *
+     * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los assets
+     * @param atlasEntry                        Entrada del catalogo que describe el atlas
+     * @param configPolicy                      Politica de configuracion del Bitmap del atlas
+     * @return FlagAtlas El atlas cargado, o null si no esta disponible
+     */
+    public static FlagAtlas loadFromAssets(AssetManager managerRequiredForImageExtraction,
+                                           AssetCatalog.AtlasEntry atlasEntry,
+                                           FlagBitmapConfigPolicy configPolicy) {
+        //? 1. Leemos la tabla de desplazamientos
+        OffsetTable offsetTable;
+        try (Reader offsetTableReader = new BufferedReader(new InputStreamReader(
+                managerRequiredForImageExtraction.open(atlasEntry.getOffsetTablePath()),
+                StandardCharsets.UTF_8))) {
+            offsetTable = new Gson().fromJson(offsetTableReader, OffsetTable.class);
+        } catch (IOException | JsonParseException e) {
+            Log.w("[FlagAtlas]", "Error Code 0x001 - [Raised] - FlagAtlas - loadFromAssets - " +
+                    e.getMessage());
+            return null;
+        }
+        if (offsetTable == null || offsetTable.regions == null) {
+            return null;
+        }
+
+        //? 2. Convertimos las regiones a rectangulos
+        Map<String, Rect> regionPerCountryImageAssetPath = new HashMap<>(offsetTable.regions.size());
+        for (Region region : offsetTable.regions) {
+            regionPerCountryImageAssetPath.put(region.assetPath,
+                                               new Rect(region.x, region.y,
+                                                        region.x + region.width,
+                                                        region.y + region.height));
+        }
+
+        //? 3. Decodificamos el atlas una sola vez, ya viene al tamano del bucket
+        try {
+            Bitmap atlasBitmap = ImageDecoder.decodeBitmap(
+                    ImageDecoder.createSource(managerRequiredForImageExtraction,
+                                              atlasEntry.getAtlasPath()),
+                    (decoder, info, source) -> configPolicy.applyTo(decoder));
+            return new FlagAtlas(offsetTable.continent,
+                                 FlagSizeBucket.valueOf(offsetTable.sizeBucket),
+                                 atlasBitmap, regionPerCountryImageAssetPath);
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w("[FlagAtlas]", "Error Code 0x002 - [Raised] - FlagAtlas - loadFromAssets - " +
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /*! Getters*/
+    public String getContinentName() {return this.continentName;}
+
+    public FlagSizeBucket getSizeBucket() {return this.sizeBucket;}
+
+    public int getAtlasByteCount() {return this.atlasBitmap.getAllocationByteCount();}
+
+    public boolean containsFlag(String countryImageAssetPath) {
+        return this.regionPerCountryImageAssetPath.containsKey(countryImageAssetPath);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna el Drawable que dibuja solo el rectangulo de una bandera dentro del
+     * atlas. El Drawable comparte el Bitmap del atlas, no se copia ningun pixel, y se crea una sola
+     * vez por bandera: como cada pais aparece en una sola fila de la lista, volver a enlazar la
+     * fila con el mismo Drawable no crea objetos nuevos al desplazarse.
+     * </body>
+     *
+     * @param countryImageAssetPath Ruta original del asset de la bandera
+     * @return Drawable El Drawable de la bandera, o null si el atlas no la contiene
+     */
+    public Drawable getFlagDrawable(String countryImageAssetPath) {
+        Drawable flagDrawable = this.drawablePerCountryImageAssetPath.get(countryImageAssetPath);
+        if (flagDrawable != null) {
+            return flagDrawable;
+        }
+        Rect region = this.regionPerCountryImageAssetPath.get(countryImageAssetPath);
+        if (region == null) {
+            return null;
+        }
+        flagDrawable = new FlagAtlasRegionDrawable(this.atlasBitmap, region);
+        this.drawablePerCountryImageAssetPath.put(countryImageAssetPath, flagDrawable);
+        return flagDrawable;
+    }
+
+    /**
+     * @description: Drawable que dibuja un rectangulo del Bitmap del atlas escalado a sus
+     * limites, su tamano intrinseco es el de la bandera para que el ImageView la escale igual que
+     * un Bitmap individual
+     */
+    private static class FlagAtlasRegionDrawable extends Drawable {
+
+        private final Bitmap atlasBitmap;
+        private final Rect sourceRegion;
+        private final Paint regionPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+        private FlagAtlasRegionDrawable(Bitmap atlasBitmap, Rect sourceRegion) {
+            this.atlasBitmap = atlasBitmap;
+            this.sourceRegion = sourceRegion;
+        }
+
+        @Override
+        public void draw(@NonNull @NotNull Canvas canvas) {
+            canvas.drawBitmap(this.atlasBitmap, this.sourceRegion, this.getBounds(),
+                              this.regionPaint);
+        }
+
+        @Override
+        public void setAlpha(int alpha) {
+            this.regionPaint.setAlpha(alpha);
+            this.invalidateSelf();
+        }
+
+        @Override
+        public void setColorFilter(ColorFilter colorFilter) {
+            this.regionPaint.setColorFilter(colorFilter);
+            this.invalidateSelf();
+        }
+
+        @Override
+        public int getOpacity() {
+            return PixelFormat.TRANSLUCENT;
+        }
+
+        @Override
+        public int getIntrinsicWidth() {
+            return this.sourceRegion.width();
+        }
+
+        @Override
+        public int getIntrinsicHeight() {
+            return this.sourceRegion.height();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.graphics.Bitmap;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el cache en memoria de las banderas de los paises.
+ * Anteriormente todas las banderas se decodificaban al construir el {@link ApplicationDataPOJO} y
+ * vivian en un {@code Map<String, Bitmap>} sin limite. Ahora las banderas se cargan bajo demanda y
+ * se guardan en un {@link LruCache} medido en bytes, de forma que la memoria usada depende de lo
+ * que el usuario tiene en pantalla y no del tamano del catalogo.
+ */
+public class FlagBitmapCache extends LruCache<String, Bitmap> {
+
+    /**
+     * @description: fraccion de la memoria maxima de la VM que se reserva para las banderas, es el
+     * valor recomendado por la documentacion de Android para caches de bitmaps
+     */
+    private static final int FRACTION_OF_MAX_MEMORY_FOR_FLAGS = 8;
+
+    /**
+     * @description: se avisa con la llave de cada entrada que sale del cache (expulsada, eliminada
+     * o reemplazada), lo usa {@link CountryFlagSlots} para vaciar su casilla
+     */
+    private Consumer<String> onEntryRemovedListener;
+
+    /*! Constructores*/
+    public FlagBitmapCache() {
+        this(defaultByteBudget());
+    }
+
+    public FlagBitmapCache(int maximumBytes) {
+        super(Math.max(1, maximumBytes));
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que calcula el presupuesto en bytes por defecto del cache, basado en la memoria
+     * maxima que la VM le permite a la aplicacion.
+     * </body>
+     *
+     * @return int Numero de bytes que el cache puede mantener residentes
+     */
+    public static int defaultByteBudget() {
+        long maximumMemoryInBytes = Runtime.getRuntime().maxMemory();
+        return (int) Math.min(Integer.MAX_VALUE,
+                              maximumMemoryInBytes / FRACTION_OF_MAX_MEMORY_FOR_FLAGS);
+    }
+
+    /*! Overrides de LruCache*/
+    @Override
+    protected int sizeOf(@NonNull @NotNull String key, @NonNull @NotNull Bitmap value) {
+        //? 1. Medimos cada entrada por los bytes reales del bitmap, no por el numero de entradas
+        return value.getAllocationByteCount();
+    }
+
+    @Override
+    protected void entryRemoved(boolean evicted, @NonNull @NotNull String key,
+                                @NonNull @NotNull Bitmap oldValue, Bitmap newValue) {
+        if (this.onEntryRemovedListener != null) {
+            this.onEntryRemovedListener.accept(key);
+        }
+    }
+
+    public void setOnEntryRemovedListener(Consumer<String> onEntryRemovedListener) {
+        this.onEntryRemovedListener = onEntryRemovedListener;
+    }
+
+    /*! Metricas*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que resume las metricas del cache (aciertos, fallos, expulsiones y bytes residentes)
+     * en una String legible para logcat.
+     * </body>
+     *
+     * @return String Resumen de las metricas del cache
+     */
+    public String describeStatistics() {
+        return String.format(Locale.ROOT,
+                             "FlagBitmapCache[bytes=%d/%d, entries=%d, hits=%d, misses=%d, " +
+                                     "evictions=%d]",
+                             this.size(), this.maxSize(), this.snapshot().size(),
+                             this.hitCount(), this.missCount(), this.evictionCount());
+    }
+}
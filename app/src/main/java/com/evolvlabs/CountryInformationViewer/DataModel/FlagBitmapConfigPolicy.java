@@ -0,0 +1,145 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.graphics.Bitmap;
+import android.graphics.ImageDecoder;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define la politica de configuracion de los Bitmaps de las
+ * banderas. Las banderas son opacas y nunca necesitan canal alfa, pero se decodificaban siempre en
+ * ARGB_8888 (4 bytes por pixel). Con esta politica la capa de carga de banderas del
+ * {@link ApplicationDataPOJO} puede decodificarlas en RGB_565 (2 bytes por pixel), como Bitmaps
+ * HARDWARE (los pixeles viven en la memoria grafica y no en el heap) o en calidad completa.
+ */
+public enum FlagBitmapConfigPolicy {
+    /**
+     * @description: decodifica en RGB_565 las imagenes opacas, las que tienen transparencia se
+     * mantienen en ARGB_8888 para no perder el alfa
+     */
+    RGB_565(Bitmap.Config.RGB_565),
+    /**
+     * @description: decodifica directamente a un Bitmap HARDWARE, no se pueden leer sus pixeles
+     */
+    HARDWARE(Bitmap.Config.ARGB_8888),
+    /**
+     * @description: decodifica en ARGB_8888 en el heap, el comportamiento original
+     */
+    FULL_QUALITY(Bitmap.Config.ARGB_8888);
+
+    /**
+     * @description: configuracion con la que se guardan los pixeles en software (por ejemplo en el
+     * cache en disco) para esta politica
+     */
+    private final Bitmap.Config softwareConfig;
+
+    FlagBitmapConfigPolicy(Bitmap.Config softwareConfig) {
+        this.softwareConfig = softwareConfig;
+    }
+
+    public Bitmap.Config getSoftwareConfig() {
+        return this.softwareConfig;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que determina la politica que realmente se aplica a un consumidor. Si el consumidor
+     * necesita leer los pixeles en software, la politica HARDWARE cae a {@link #FULL_QUALITY};
+     * las demas politicas ya producen Bitmaps en software.
+     * </body>
+     *
+     * @param requiresSoftwarePixels Verdadero si el consumidor necesita acceso a los pixeles
+     * @return FlagBitmapConfigPolicy La politica efectiva para ese consumidor
+     */
+    public FlagBitmapConfigPolicy resolveFor(boolean requiresSoftwarePixels) {
+        if (this == HARDWARE && requiresSoftwarePixels) {
+            return FULL_QUALITY;
+        }
+        return this;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que configura el ImageDecoder para esta politica, se llama desde el listener del
+     * encabezado, antes de decodificar los pixeles.
+     * </body>
+     *
+     * @param decoder ImageDecoder a configurar
+     */
+    public void applyTo(ImageDecoder decoder) {
+        switch (this) {
+            case RGB_565:
+                //? MEMORY_POLICY_LOW_RAM hace que las imagenes opacas se decodifiquen en RGB_565
+                decoder.setAllocator(ImageDecoder.ALLOCATOR_SOFTWARE);
+                decoder.setMemorySizePolicy(ImageDecoder.MEMORY_POLICY_LOW_RAM);
+                break;
+            case HARDWARE:
+                decoder.setAllocator(ImageDecoder.ALLOCATOR_HARDWARE);
+                break;
+            case FULL_QUALITY:
+            default:
+                decoder.setAllocator(ImageDecoder.ALLOCATOR_SOFTWARE);
+                decoder.setMemorySizePolicy(ImageDecoder.MEMORY_POLICY_DEFAULT);
+                break;
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que adapta un Bitmap en software (por ejemplo, leido del cache en disco) a esta
+     * politica. Para HARDWARE se sube a la memoria grafica, si no es posible se retorna el mismo
+     * Bitmap.
+     * </body>
+     *
+     * @param softwareBitmap Bitmap en software
+     * @return Bitmap El Bitmap con la configuracion de esta politica
+     */
+    public Bitmap adaptSoftwareBitmap(Bitmap softwareBitmap) {
+        if (this != HARDWARE || softwareBitmap == null) {
+            return softwareBitmap;
+        }
+        Bitmap hardwareBitmap = softwareBitmap.copy(Bitmap.Config.HARDWARE, false);
+        return hardwareBitmap != null ? hardwareBitmap : softwareBitmap;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que construye la llave del cache en memoria para un asset, bucket y politica. Dos
+     * politicas distintas producen Bitmaps distintos, por lo que no pueden compartir la llave.
+     * </body>
+     *
+     * @param sizeBucket Bucket de tamano de la imagen
+     * @param assetPath  Ruta del asset dentro de la carpeta assets
+     * @return String Llave unica para el trio (asset, bucket, politica)
+     */
+    public String cacheKeyFor(FlagSizeBucket sizeBucket, String assetPath) {
+        return sizeBucket.cacheKeyFor(assetPath) + "#" + this.name();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que construye la llave del cache en disco. En disco solo existen pixeles en software,
+     * por lo que HARDWARE y FULL_QUALITY comparten el archivo ARGB_8888.
+     * </body>
+     *
+     * @param sizeBucket Bucket de tamano de la imagen
+     * @param assetPath  Ruta del asset dentro de la carpeta assets
+     * @return String Llave del archivo en el cache en disco
+     */
+    public String diskCacheKeyFor(FlagSizeBucket sizeBucket, String assetPath) {
+        return sizeBucket.cacheKeyFor(assetPath) + "#" + this.softwareConfig.name();
+    }
+
+    /**
+     * @description: siguiente politica en orden, usada por el menu de depuracion para alternar
+     */
+    public FlagBitmapConfigPolicy next() {
+        FlagBitmapConfigPolicy[] policies = values();
+        return policies[(this.ordinal() + 1) % policies.length];
+    }
+}
@@ -0,0 +1,71 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.graphics.ImageDecoder;
+import android.util.Size;
+import com.evolvlabs.CountryInformationViewer.Utilities.StartupTraceRecorder;
+
+import java.io.IOException;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo abstrae la decodificacion de las banderas e iconos desde los
+ * assets. Antes se usaba {@code BitmapFactory.decodeStream} que siempre decodifica a la resolucion
+ * nativa del PNG, aunque la vista solo dibuje una miniatura. Aqui usamos {@link ImageDecoder}
+ * (disponible desde la API 28, nuestro minSdk) con un tamano objetivo, de forma que el decodificador
+ * solo produce los pixeles que realmente se van a mostrar.
+ */
+public class FlagBitmapDecoder {
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que decodifica un asset de imagen al tamano del bucket pedido, conservando la
+     * proporcion original. Si la imagen ya es mas pequena que el bucket se decodifica tal cual,
+     * nunca se escala hacia arriba.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Crea la fuente del ImageDecoder a partir del AssetManager y la ruta</li>
+     *   <li>Al leer el encabezado, compara el lado mas largo con el del bucket</li>
+     *   <li>Si es mas grande, fija el tamano objetivo manteniendo la proporcion</li>
+     *   <li>Aplica la politica de configuracion del Bitmap</li>
+     *   <li>Retorna el Bitmap decodificado</li>
+     * </ol>
+     * </body>
+     *
+     * @param managerRequiredForImageExtraction AssetManager requerido para acceder a los assets
+     * @param assetPath                         Ruta del asset dentro de la carpeta assets
+     * @param sizeBucket                        Bucket al que se debe decodificar la imagen
+     * @param configPolicy                      Politica de configuracion del Bitmap
+     * @return Bitmap La imagen decodificada al tamano pedido
+     * @throws IOException Si el asset no existe o no se puede decodificar
+     */
+    public static Bitmap decodeAssetToBucket(AssetManager managerRequiredForImageExtraction,
+                                             String assetPath,
+                                             FlagSizeBucket sizeBucket,
+                                             FlagBitmapConfigPolicy configPolicy)
+            throws IOException {
+        long phaseStartNanos = StartupTraceRecorder.beginPhase("decodeFlag");
+        try {
+            ImageDecoder.Source sourceForImage =
+                    ImageDecoder.createSource(managerRequiredForImageExtraction, assetPath);
+            return ImageDecoder.decodeBitmap(sourceForImage, (decoder, info, source) -> {
+                //? 1. Calculamos el tamano objetivo en base al lado mas largo de la imagen
+                Size nativeSize = info.getSize();
+                int longestNativeEdge = Math.max(nativeSize.getWidth(), nativeSize.getHeight());
+                if (longestNativeEdge > sizeBucket.getMaximumEdgeInPixels()) {
+                    float scale = (float) sizeBucket.getMaximumEdgeInPixels() / longestNativeEdge;
+                    decoder.setTargetSize(Math.max(1, Math.round(nativeSize.getWidth() * scale)),
+                                          Math.max(1, Math.round(nativeSize.getHeight() * scale)));
+                }
+                //? 2. Elegimos la configuracion del Bitmap segun la politica
+                configPolicy.applyTo(decoder);
+            });
+        } finally {
+            StartupTraceRecorder.endPhase("decodeFlag", phaseStartNanos);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.os.Process;
+import androidx.annotation.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el ejecutor compartido para la decodificacion de
+ * banderas dentro del {@link ApplicationDataPOJO}. Antes, cada bandera creaba su propio
+ * {@code Executors.newCachedThreadPool()} y nunca se cerraba, por lo que una carga en frio podia
+ * crear cientos de hilos. Aqui tenemos un unico pool acotado al numero de procesadores del
+ * dispositivo, que ademas lleva la cuenta de cuantas decodificaciones se ejecutan a la vez para
+ * poder medir el limite real de concurrencia. La cola es de prioridad: las banderas del continente
+ * seleccionado, y primero las filas visibles, se ejecutan antes que el resto, y el trabajo de los
+ * continentes que el usuario abandono se puede cancelar.
+ */
+public class FlagDecodingExecutor extends ThreadPoolExecutor {
+
+    /*! Parametros internos*/
+    /**
+     * @description: tiempo que un hilo ocioso se mantiene vivo antes de liberarse, dado que las
+     * decodificaciones ocurren en rafagas (inicio y recarga) no tiene sentido mantener hilos vivos
+     * durante toda la sesion
+     */
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 10L;
+
+    /**
+     * @description: contador de decodificaciones que se estan ejecutando en este momento
+     */
+    private final AtomicInteger activeDecodes = new AtomicInteger(0);
+    /**
+     * @description: maximo de decodificaciones concurrentes observado desde la creacion del pool,
+     * nos permite comprobar que el limite de concurrencia se respeta
+     */
+    private final AtomicInteger peakConcurrentDecodes = new AtomicInteger(0);
+    /**
+     * @description: contador de decodificaciones terminadas, exitosas o no
+     */
+    private final AtomicLong completedDecodes = new AtomicLong(0);
+
+    /**
+     * @description: posicion usada para tareas que no vienen de una fila de la lista (por ejemplo
+     * la bandera del detalle o el mantenimiento del cache), estas tareas van primero
+     */
+    public static final int NO_ROW_POSITION = -1;
+    /**
+     * @description: contador que mantiene el orden de llegada entre tareas de igual prioridad
+     */
+    private final AtomicLong submissionSequence = new AtomicLong(0);
+    /**
+     * @description: estado de la interfaz con el que se calcula la prioridad de cada tarea, se
+     * actualiza desde el hilo principal con {@link #updatePriorities}
+     */
+    private volatile String prioritizedContinent;
+    private volatile int firstVisibleRow = 0;
+    private volatile int lastVisibleRow = Integer.MAX_VALUE;
+
+    /*! Constructores*/
+    public FlagDecodingExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public FlagDecodingExecutor(int maximumConcurrentDecodes) {
+        //? 1. El pool es fijo, core y maximo son iguales, y la cola no tiene limite para que
+        // ninguna bandera se rechace; lo que limitamos es el numero de hilos, no de tareas. La
+        // cola ordena las tareas por su prioridad en lugar de por orden de llegada. La unica
+        // forma de rechazo es enviar despues de shutdownNow (una decodificacion en curso que
+        // termina tras onCleared), y esa tarea ya no tiene a quien entregar su resultado, por lo
+        // que se descarta en lugar de lanzar RejectedExecutionException
+        super(Math.max(1, maximumConcurrentDecodes),
+              Math.max(1, maximumConcurrentDecodes),
+              IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+              new PriorityBlockingQueue<>(),
+              new FlagDecodingThreadFactory(),
+              new ThreadPoolExecutor.DiscardPolicy());
+        //? 2. Permitimos liberar incluso los hilos core cuando no hay trabajo
+        this.allowCoreThreadTimeOut(true);
+    }
+
+    /*! Planificacion por prioridad*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que encola una decodificacion asociada a un continente y a una fila de la lista. La
+     * prioridad se calcula con el continente seleccionado y el rango de filas visibles actuales.
+     * </body>
+     *
+     * @param continentName     Continente al que pertenece la imagen
+     * @param rowPosition       Posicion de la fila en la lista, o {@link #NO_ROW_POSITION}
+     * @param pendingRequestKey Llave de la peticion pendiente, se retorna al cancelar la tarea
+     * @param decode            Trabajo de decodificacion
+     */
+    public void executeForRow(String continentName, int rowPosition, String pendingRequestKey,
+                              Runnable decode) {
+        this.execute(new PrioritizedDecode(continentName, rowPosition, pendingRequestKey, decode,
+                                           this.submissionSequence.getAndIncrement()));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        //? 1. Las tareas sin continente (mantenimiento) se envuelven con la prioridad mas alta,
+        // la cola de prioridad solo acepta tareas comparables
+        PrioritizedDecode prioritizedDecode = command instanceof PrioritizedDecode
+                ? (PrioritizedDecode) command
+                : new PrioritizedDecode(null, NO_ROW_POSITION, null, command,
+                                        this.submissionSequence.getAndIncrement());
+        //? 2. La prioridad se calcula y la tarea se encola con el mismo monitor que
+        // updatePriorities, de lo contrario una tarea con la prioridad de la ventana anterior
+        // podria entrar a la cola despues de que updatePriorities la recorrio
+        synchronized (this) {
+            this.assignPriority(prioritizedDecode);
+            super.execute(prioritizedDecode);
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que actualiza el continente seleccionado y las filas visibles, y reordena las tareas
+     * que siguen en cola. Opcionalmente cancela las tareas en cola de filas de otros continentes;
+     * las tareas sin fila, como la bandera del detalle, se conservan. La cola de prioridad no
+     * reordena elementos ya insertados, por lo que se vacia y se vuelve a llenar.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Guarda el nuevo estado de la interfaz</li>
+     *   <li>Vacia la cola de tareas pendientes</li>
+     *   <li>Separa las tareas canceladas y recalcula la prioridad de las demas</li>
+     *   <li>Reinserta las tareas y asegura que haya hilos para ejecutarlas</li>
+     * </ol>
+     * </body>
+     *
+     * @param selectedContinent      Continente seleccionado, o null si no hay seleccion
+     * @param firstVisibleRow        Primera fila visible de la lista
+     * @param lastVisibleRow         Ultima fila visible de la lista
+     * @param cancelOtherContinents  Verdadero para descartar las tareas de otros continentes
+     * @return List Llaves de las peticiones pendientes de las tareas canceladas
+     */
+    public synchronized List<String> updatePriorities(String selectedContinent,
+                                                      int firstVisibleRow,
+                                                      int lastVisibleRow,
+                                                      boolean cancelOtherContinents) {
+        //? 1. Guardamos el estado
+        this.prioritizedContinent = selectedContinent;
+        this.firstVisibleRow = Math.max(0, firstVisibleRow);
+        this.lastVisibleRow = Math.max(this.firstVisibleRow, lastVisibleRow);
+
+        //? 2. Vaciamos la cola
+        List<Runnable> queuedDecodes = new ArrayList<>();
+        this.getQueue().drainTo(queuedDecodes);
+
+        //? 3. Cancelamos o recalculamos la prioridad de cada tarea
+        List<String> cancelledRequestKeys = new ArrayList<>();
+        for (Runnable queued : queuedDecodes) {
+            PrioritizedDecode prioritizedDecode = (PrioritizedDecode) queued;
+            if (cancelOtherContinents && prioritizedDecode.belongsToAnotherContinent(
+                    selectedContinent)) {
+                if (prioritizedDecode.pendingRequestKey != null) {
+                    cancelledRequestKeys.add(prioritizedDecode.pendingRequestKey);
+                }
+                continue;
+            }
+            this.assignPriority(prioritizedDecode);
+            this.getQueue().offer(prioritizedDecode);
+        }
+
+        //? 4. Si un hilo se libero mientras la cola estaba vacia, lo volvemos a crear
+        if (!this.getQueue().isEmpty()) {
+            this.prestartAllCoreThreads();
+        }
+        return cancelledRequestKeys;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que calcula la prioridad de una tarea. Las clases, de mayor a menor prioridad, son:
+     * tareas sin fila (mantenimiento y detalle), filas visibles del continente seleccionado, resto
+     * del continente seleccionado ordenadas por distancia a la ventana visible y, al final, otros
+     * continentes.
+     * </body>
+     *
+     * @param prioritizedDecode Tarea a la que se asigna la prioridad
+     */
+    private void assignPriority(PrioritizedDecode prioritizedDecode) {
+        String selectedContinent = this.prioritizedContinent;
+        int firstRow = this.firstVisibleRow;
+        int lastRow = this.lastVisibleRow;
+        int row = prioritizedDecode.rowPosition;
+        if (prioritizedDecode.continentName == null || row == NO_ROW_POSITION) {
+            prioritizedDecode.priorityClass = 0;
+            prioritizedDecode.distanceToViewport = 0;
+        } else if (prioritizedDecode.continentName.equalsIgnoreCase(selectedContinent)) {
+            boolean isVisible = row >= firstRow && row <= lastRow;
+            prioritizedDecode.priorityClass = isVisible ? 1 : 2;
+            prioritizedDecode.distanceToViewport =
+                    isVisible ? 0 : Math.min(Math.abs(row - firstRow), Math.abs(row - lastRow));
+        } else {
+            prioritizedDecode.priorityClass = 3;
+            prioritizedDecode.distanceToViewport = row;
+        }
+    }
+
+    /*! Overrides de ThreadPoolExecutor*/
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        //? 1. Registramos la decodificacion activa y actualizamos el pico observado
+        int currentlyActive = this.activeDecodes.incrementAndGet();
+        this.peakConcurrentDecodes.accumulateAndGet(currentlyActive, Math::max);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        super.afterExecute(r, t);
+        this.activeDecodes.decrementAndGet();
+        this.completedDecodes.incrementAndGet();
+    }
+
+    /*! Getters de las metricas*/
+    public int getMaximumConcurrentDecodes() {
+        return this.getMaximumPoolSize();
+    }
+
+    public int getActiveDecodes() {
+        return this.activeDecodes.get();
+    }
+
+    public int getPeakConcurrentDecodes() {
+        return this.peakConcurrentDecodes.get();
+    }
+
+    public long getCompletedDecodes() {
+        return this.completedDecodes.get();
+    }
+
+    /**
+     * @description: tarea de decodificacion con prioridad, se ordena por clase de prioridad,
+     * luego por distancia a la ventana visible y por ultimo por orden de llegada
+     */
+    private static class PrioritizedDecode implements Runnable, Comparable<PrioritizedDecode> {
+
+        private final String continentName;
+        private final int rowPosition;
+        private final String pendingRequestKey;
+        private final Runnable decode;
+        private final long sequence;
+        /*! Se recalculan en updatePriorities, solo mientras la tarea esta fuera de la cola*/
+        private int priorityClass;
+        private int distanceToViewport;
+
+        private PrioritizedDecode(String continentName, int rowPosition, String pendingRequestKey,
+                                  Runnable decode, long sequence) {
+            this.continentName = continentName;
+            this.rowPosition = rowPosition;
+            this.pendingRequestKey = pendingRequestKey;
+            this.decode = decode;
+            this.sequence = sequence;
+        }
+
+        /**
+         * @description: verdadero si la tarea es de una fila de otro continente y se puede
+         * cancelar. Las tareas sin fila, como la bandera de la pantalla de detalle, nunca se
+         * cancelan: en modo tableta el detalle sigue visible aunque cambie el continente
+         */
+        private boolean belongsToAnotherContinent(String selectedContinent) {
+            return this.rowPosition != NO_ROW_POSITION
+                    && this.continentName != null && selectedContinent != null
+                    && !this.continentName.equalsIgnoreCase(selectedContinent);
+        }
+
+        @Override
+        public void run() {
+            this.decode.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedDecode other) {
+            if (this.priorityClass != other.priorityClass) {
+                return Integer.compare(this.priorityClass, other.priorityClass);
+            }
+            if (this.distanceToViewport != other.distanceToViewport) {
+                return Integer.compare(this.distanceToViewport, other.distanceToViewport);
+            }
+            return Long.compare(this.sequence, other.sequence);
+        }
+    }
+
+    /**
+     * @description: fabrica de hilos con nombre propio y prioridad de fondo, de esta forma las
+     * decodificaciones no compiten con el hilo principal al dibujar la interfaz
+     */
+    private static class FlagDecodingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCounter = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(@NonNull @NotNull Runnable r) {
+            Thread thread = new Thread(() -> {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                r.run();
+            }, "FlagDecoder-" + this.threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el cache en disco de las miniaturas de banderas.
+ * Cada miniatura ya reducida a su bucket se guarda como un buffer de pixeles crudos (RGB_565 o
+ * ARGB_8888) con un encabezado pequeno dentro de {@code cacheDir}. En los siguientes inicios la
+ * miniatura se mapea con {@link FileChannel#map} y se copia al Bitmap con
+ * {@link Bitmap#copyPixelsFromBuffer}, sin pasar por el decodificador de PNG. El cache se guarda en
+ * una carpeta por versionCode del APK, de forma que una actualizacion invalida todas las miniaturas.
+ */
+public class FlagDiskCache {
+
+    /*! Formato del archivo*/
+    /**
+     * @description: numero magico al inicio de cada archivo ("FLG1"), si no coincide el archivo se
+     * descarta
+     */
+    private static final int FILE_MAGIC = 0x464C4731;
+    /**
+     * @description: encabezado de 16 bytes: magico, ancho, alto y configuracion del Bitmap
+     */
+    private static final int HEADER_SIZE_IN_BYTES = 16;
+    private static final int CONFIG_RGB_565 = 0;
+    private static final int CONFIG_ARGB_8888 = 1;
+    private static final String CACHE_FOLDER_NAME = "flag_thumbnails";
+    private static final String FILE_EXTENSION = ".raw";
+
+    /*! Parametros internos*/
+    private final File rootFolder;
+    private final File versionFolder;
+    /**
+     * @description: metricas de uso del cache, se usan para reportar si un inicio fue en frio o en
+     * caliente
+     */
+    private final AtomicInteger diskHits = new AtomicInteger(0);
+    private final AtomicInteger diskMisses = new AtomicInteger(0);
+    private final AtomicLong totalDiskReadNanos = new AtomicLong(0);
+
+    /*! Constructores*/
+    public FlagDiskCache(Context context) {
+        this(new File(context.getCacheDir(), CACHE_FOLDER_NAME), resolveVersionCode(context));
+    }
+
+    public FlagDiskCache(File rootFolder, long versionCode) {
+        this.rootFolder = rootFolder;
+        this.versionFolder = new File(rootFolder, "v" + versionCode);
+    }
+
+    private static long resolveVersionCode(Context context) {
+        try {
+            return context.getPackageManager()
+                    .getPackageInfo(context.getPackageName(), 0)
+                    .getLongVersionCode();
+        } catch (PackageManager.NameNotFoundException e) {
+            Log.w("[FlagDiskCache]", "Error Code 0x001 - [Raised] - FlagDiskCache - " +
+                    "resolveVersionCode - " + e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que elimina las carpetas de versiones anteriores del APK y crea la carpeta de la
+     * version actual. Hace I/O de disco, por lo que debe llamarse fuera del hilo principal.
+     * </body>
+     */
+    public void removeStaleVersions() {
+        File[] versionFolders = this.rootFolder.listFiles();
+        if (versionFolders != null) {
+            for (File folder : versionFolders) {
+                if (!folder.getName().equals(this.versionFolder.getName())) {
+                    deleteRecursively(folder);
+                }
+            }
+        }
+        if (!this.versionFolder.isDirectory() && !this.versionFolder.mkdirs()) {
+            Log.w("[FlagDiskCache]", "Error Code 0x002 - [Raised] - FlagDiskCache - " +
+                    "removeStaleVersions - no se pudo crear " + this.versionFolder);
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que lee una miniatura desde el disco. El archivo se mapea en memoria y sus pixeles se
+     * copian directamente al Bitmap, sin decodificar ningun PNG.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Mapea el archivo de la llave en modo solo lectura</li>
+     *   <li>Valida el encabezado y el tamano de los pixeles</li>
+     *   <li>Crea el Bitmap y copia los pixeles desde el buffer mapeado</li>
+     * </ol>
+     * </body>
+     *
+     * @param cacheKey Llave del cache (asset y bucket)
+     * @return Bitmap La miniatura, o null si no esta en disco o el archivo es invalido
+     */
+    public Bitmap read(String cacheKey) {
+        long readStartNanos = System.nanoTime();
+        File cachedFile = this.fileFor(cacheKey);
+        if (!cachedFile.isFile()) {
+            this.diskMisses.incrementAndGet();
+            return null;
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(cachedFile, "r");
+             FileChannel fileChannel = randomAccessFile.getChannel()) {
+            //? 1. Mapeamos el archivo completo
+            MappedByteBuffer mappedFile =
+                    fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            mappedFile.order(ByteOrder.BIG_ENDIAN);
+
+            //? 2. Validamos el encabezado
+            if (mappedFile.remaining() < HEADER_SIZE_IN_BYTES
+                    || mappedFile.getInt() != FILE_MAGIC) {
+                throw new IOException("encabezado invalido");
+            }
+            int width = mappedFile.getInt();
+            int height = mappedFile.getInt();
+            Bitmap.Config config =
+                    mappedFile.getInt() == CONFIG_RGB_565 ? Bitmap.Config.RGB_565
+                                                          : Bitmap.Config.ARGB_8888;
+            if (width <= 0 || height <= 0) {
+                throw new IOException("dimensiones invalidas");
+            }
+
+            //? 3. Copiamos los pixeles al Bitmap, el archivo debe tener exactamente sus bytes
+            Bitmap cachedBitmap = Bitmap.createBitmap(width, height, config);
+            if (mappedFile.remaining() != cachedBitmap.getByteCount()) {
+                throw new IOException("tamano de pixeles invalido");
+            }
+            cachedBitmap.copyPixelsFromBuffer(mappedFile);
+            this.diskHits.incrementAndGet();
+            this.totalDiskReadNanos.addAndGet(System.nanoTime() - readStartNanos);
+            return cachedBitmap;
+        } catch (IOException | RuntimeException e) {
+            Log.w("[FlagDiskCache]", "Error Code 0x003 - [Raised] - FlagDiskCache - read - " +
+                    cacheKey + " - " + e.getMessage());
+            //noinspection ResultOfMethodCallIgnored
+            cachedFile.delete();
+            this.diskMisses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que guarda una miniatura en disco como pixeles crudos. Se escribe primero en un
+     * archivo temporal y luego se renombra, de forma que un lector nunca vea un archivo a medias.
+     * Los Bitmaps con otras configuraciones (por ejemplo HARDWARE) se copian a ARGB_8888 antes de
+     * escribirlos.
+     * </body>
+     *
+     * @param cacheKey     Llave del cache (asset y bucket)
+     * @param flagToWrite  Miniatura ya reducida a su bucket
+     */
+    public void write(String cacheKey, Bitmap flagToWrite) {
+        //? 1. Solo guardamos formatos que podemos copiar tal cual
+        Bitmap writableFlag = flagToWrite;
+        if (flagToWrite.getConfig() != Bitmap.Config.RGB_565
+                && flagToWrite.getConfig() != Bitmap.Config.ARGB_8888) {
+            writableFlag = flagToWrite.copy(Bitmap.Config.ARGB_8888, false);
+            if (writableFlag == null) {
+                return;
+            }
+        }
+        int configCode = writableFlag.getConfig() == Bitmap.Config.RGB_565 ? CONFIG_RGB_565
+                                                                           : CONFIG_ARGB_8888;
+
+        //? 2. Armamos el encabezado y los pixeles en un solo buffer
+        ByteBuffer fileContents =
+                ByteBuffer.allocate(HEADER_SIZE_IN_BYTES + writableFlag.getByteCount())
+                        .order(ByteOrder.BIG_ENDIAN);
+        fileContents.putInt(FILE_MAGIC)
+                .putInt(writableFlag.getWidth())
+                .putInt(writableFlag.getHeight())
+                .putInt(configCode);
+        writableFlag.copyPixelsToBuffer(fileContents);
+        fileContents.flip();
+
+        //? 3. Escribimos en un temporal y renombramos
+        File cachedFile = this.fileFor(cacheKey);
+        if (!this.versionFolder.isDirectory()) {
+            //noinspection ResultOfMethodCallIgnored
+            this.versionFolder.mkdirs();
+        }
+        File temporaryFile = new File(cachedFile.getPath() + "."
+                                              + Thread.currentThread().getId() + ".tmp");
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(temporaryFile, "rw");
+             FileChannel fileChannel = randomAccessFile.getChannel()) {
+            while (fileContents.hasRemaining()) {
+                fileChannel.write(fileContents);
+            }
+        } catch (IOException e) {
+            Log.w("[FlagDiskCache]", "Error Code 0x004 - [Raised] - FlagDiskCache - write - " +
+                    cacheKey + " - " + e.getMessage());
+            //noinspection ResultOfMethodCallIgnored
+            temporaryFile.delete();
+            return;
+        }
+        if (!temporaryFile.renameTo(cachedFile)) {
+            //noinspection ResultOfMethodCallIgnored
+            temporaryFile.delete();
+        }
+    }
+
+    /*! Metricas*/
+    public int getDiskHits() {return this.diskHits.get();}
+
+    public int getDiskMisses() {return this.diskMisses.get();}
+
+    public String describeStatistics() {
+        int hits = this.diskHits.get();
+        return String.format(Locale.ROOT,
+                             "FlagDiskCache[hits=%d, misses=%d, avgReadMs=%.3f]",
+                             hits, this.diskMisses.get(),
+                             hits == 0 ? 0d : this.totalDiskReadNanos.get() / (hits * 1_000_000d));
+    }
+
+    /*! Metodos auxiliares*/
+    private File fileFor(String cacheKey) {
+        //? Las llaves tienen la forma Continente/Continente-Pais.png@BUCKET
+        return new File(this.versionFolder,
+                        cacheKey.replace('/', '_').replace('@', '_') + FILE_EXTENSION);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+}
@@ -0,0 +1,63 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define los tamanos discretos (buckets) en los que se
+ * decodifican las banderas e iconos. En lugar de decodificar cada imagen a su resolucion nativa, la
+ * vista pide el tamano que realmente dibuja y la imagen se decodifica al bucket mas pequeno que lo
+ * cubre. El bucket tambien forma parte de la llave del cache, de forma que una miniatura de la
+ * lista y la bandera del panel de detalle son entradas distintas, cada una con su tamano correcto.
+ */
+public enum FlagSizeBucket {
+    SMALL(64),
+    MEDIUM(128),
+    LARGE(256),
+    EXTRA_LARGE(512),
+    FULL(1024);
+
+    /**
+     * @description: lado mas largo, en pixeles, al que se decodifica una imagen en este bucket
+     */
+    private final int maximumEdgeInPixels;
+
+    FlagSizeBucket(int maximumEdgeInPixels) {
+        this.maximumEdgeInPixels = maximumEdgeInPixels;
+    }
+
+    public int getMaximumEdgeInPixels() {
+        return this.maximumEdgeInPixels;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que determina el bucket mas pequeno cuyo lado cubre el tamano pedido por la vista. Si
+     * el tamano pedido supera el bucket mas grande se retorna {@link #FULL}.
+     * </body>
+     *
+     * @param targetEdgeInPixels Lado mas largo, en pixeles, con el que la vista dibuja la imagen
+     * @return FlagSizeBucket El bucket que se debe usar para decodificar la imagen
+     */
+    public static FlagSizeBucket forTargetSize(int targetEdgeInPixels) {
+        for (FlagSizeBucket bucket : values()) {
+            if (bucket.maximumEdgeInPixels >= targetEdgeInPixels) {
+                return bucket;
+            }
+        }
+        return FULL;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que construye la llave del cache para un asset decodificado en este bucket.
+     * </body>
+     *
+     * @param assetPath Ruta del asset dentro de la carpeta assets
+     * @return String Llave unica para el par (asset, bucket)
+     */
+    public String cacheKeyFor(String assetPath) {
+        return assetPath + "@" + this.name();
+    }
+}
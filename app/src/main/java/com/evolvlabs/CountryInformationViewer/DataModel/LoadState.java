@@ -0,0 +1,42 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define las etapas de la carga de datos del
+ * {@link ApplicationDataPOJO}. La carga corre en segundo plano y publica cada etapa con
+ * {@code postValue}, por lo que un observador puede recibir solo la ultima etapa de varias
+ * publicadas seguidas; las etapas siempre avanzan en el orden declarado, asi que los observadores
+ * deben comparar con {@link #hasReached(LoadState)} en lugar de esperar una etapa exacta.
+ */
+public enum LoadState {
+    /**
+     * @description: se esta leyendo el catalogo de assets y las preferencias guardadas
+     */
+    LOADING_CATALOG,
+    /**
+     * @description: los continentes y paises estan publicados, las listas ya se pueden mostrar
+     */
+    CATALOG_READY,
+    /**
+     * @description: los iconos de los continentes estan decodificados y publicados
+     */
+    ICONS_READY,
+    /**
+     * @description: la primera pantalla de banderas se entrego, desde disco o decodificada
+     */
+    FLAGS_WARM;
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que indica si esta etapa ya alcanzo (o supero) la etapa pedida.
+     * </body>
+     *
+     * @param requiredState Etapa que se quiere verificar
+     * @return boolean Verdadero si esta etapa es igual o posterior a la pedida
+     */
+    public boolean hasReached(LoadState requiredState) {
+        return this.ordinal() >= requiredState.ordinal();
+    }
+}
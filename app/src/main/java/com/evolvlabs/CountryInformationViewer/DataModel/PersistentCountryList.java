@@ -0,0 +1,584 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo implementa el listado de paises publicado por el view model
+ * como una lista persistente e inmutable. Antes cada eliminacion copiaba todo el listado en un
+ * ArrayList nuevo antes del setValue; aqui el listado es un arbol balanceado cuyas hojas guardan
+ * hasta {@link #LEAF_CAPACITY} paises ordenados por identificador (ver {@link CountryCatalogTable}).
+ * Quitar o restaurar un pais copia solo su hoja y el camino hasta la raiz, O(log n), y la version
+ * nueva comparte el resto del arbol con la anterior. Cada rama nueva se arma con las rotaciones de
+ * un arbol AVL, por lo que restauraciones en orden creciente no degeneran el arbol en una espina.
+ * Los observadores reciben cada version como una {@link List} inmutable y consistente.
+ */
+public final class PersistentCountryList extends AbstractList<CountryInformation> {
+
+    /**
+     * @description: maximo de paises por hoja, una eliminacion copia a lo sumo esta cantidad de
+     * referencias ademas del camino
+     */
+    static final int LEAF_CAPACITY = 32;
+    /**
+     * @description: una hoja que crece por restauraciones por encima de este tamano se parte en
+     * dos hojas llenas. Solo se restauran paises del catalogo, por lo que el arbol nunca crece
+     * mas alla del tamano del catalogo con el que se armo
+     */
+    private static final int MAXIMUM_LEAF_SIZE = 2 * LEAF_CAPACITY;
+
+    private static final PersistentCountryList EMPTY = new PersistentCountryList(null);
+
+    /*! Nodos del arbol*/
+    private abstract static class Node {
+        final int size;
+        final int lastCountryId;
+        /**
+         * @description: cantidad de ramas entre el nodo y su hoja mas lejana, una hoja tiene 0
+         */
+        final int height;
+
+        Node(int size, int lastCountryId, int height) {
+            this.size = size;
+            this.lastCountryId = lastCountryId;
+            this.height = height;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final CountryInformation[] countries;
+
+        Leaf(CountryInformation[] countries) {
+            super(countries.length, countries[countries.length - 1].getCountryId(), 0);
+            this.countries = countries;
+        }
+    }
+
+    private static final class Branch extends Node {
+        final Node left;
+        final Node right;
+
+        Branch(Node left, Node right) {
+            super(left.size + right.size, right.lastCountryId,
+                  1 + Math.max(left.height, right.height));
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /*! Parametros internos*/
+    private final Node root;
+
+    private PersistentCountryList(Node root) {
+        this.root = root;
+    }
+
+    public static PersistentCountryList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que arma la lista a partir de un listado de paises del catalogo. El listado debe
+     * estar ordenado por identificador, como lo deja la carga al recorrer la tabla del catalogo.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Verifica que los identificadores sean crecientes</li>
+     *   <li>Parte el listado en hojas llenas</li>
+     *   <li>Une las hojas en un arbol balanceado</li>
+     * </ol>
+     * </body>
+     *
+     * @param countries Paises ordenados por identificador
+     * @return PersistentCountryList Lista persistente con los paises
+     * @throws IllegalArgumentException Si los identificadores no son crecientes
+     */
+    public static PersistentCountryList of(List<CountryInformation> countries) {
+        int countryCount = countries.size();
+        if (countryCount == 0) {
+            return EMPTY;
+        }
+        //? 1. Verificamos el orden, las busquedas por identificador dependen de el
+        CountryInformation[] orderedCountries = countries.toArray(new CountryInformation[0]);
+        for (int index = 0; index < countryCount; index++) {
+            if (orderedCountries[index].getCountryId() < 0 || (index > 0
+                    && orderedCountries[index].getCountryId()
+                       <= orderedCountries[index - 1].getCountryId())) {
+                throw new IllegalArgumentException(
+                        "Los paises deben estar ordenados por identificador del catalogo");
+            }
+        }
+        //? 2. Partimos en hojas
+        int leafCount = (countryCount + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+        Node[] leaves = new Node[leafCount];
+        for (int leafIndex = 0; leafIndex < leafCount; leafIndex++) {
+            int start = leafIndex * LEAF_CAPACITY;
+            int end = Math.min(start + LEAF_CAPACITY, countryCount);
+            CountryInformation[] leafCountries = new CountryInformation[end - start];
+            System.arraycopy(orderedCountries, start, leafCountries, 0, end - start);
+            leaves[leafIndex] = new Leaf(leafCountries);
+        }
+        //? 3. Unimos las hojas en un arbol balanceado
+        return new PersistentCountryList(buildingBalancedHelper(leaves, 0, leafCount));
+    }
+
+    private static Node buildingBalancedHelper(Node[] leaves, int start, int end) {
+        if (end - start == 1) {
+            return leaves[start];
+        }
+        int middle = (start + end) >>> 1;
+        return new Branch(buildingBalancedHelper(leaves, start, middle),
+                          buildingBalancedHelper(leaves, middle, end));
+    }
+
+    /*! Lectura*/
+    @Override
+    public int size() {
+        return this.root == null ? 0 : this.root.size;
+    }
+
+    /**
+     * @description: cantidad de ramas entre la raiz y la hoja mas lejana, es lo que cuesta ubicar
+     * un pais. Se expone para verificar que el arbol se mantiene balanceado
+     */
+    int depth() {
+        return this.root == null ? 0 : this.root.height;
+    }
+
+    @Override
+    public CountryInformation get(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+        }
+        Node node = this.root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.size) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size;
+                node = branch.right;
+            }
+        }
+        return ((Leaf) node).countries[index];
+    }
+
+    /**
+     * @description: busca por identificador en O(log n) en lugar de recorrer la lista
+     */
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof CountryInformation) || this.root == null) {
+            return false;
+        }
+        CountryInformation country = (CountryInformation) object;
+        Leaf leaf = findingLeafHelper(this.root, country.getCountryId());
+        if (leaf == null) {
+            return false;
+        }
+        int position = indexInLeafHelper(leaf, country.getCountryId());
+        return position >= 0 && leaf.countries[position].equals(country);
+    }
+
+    @Override
+    public Iterator<CountryInformation> iterator() {
+        return new LeafWalkingIterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super CountryInformation> action) {
+        if (this.root != null) {
+            forEachHelper(this.root, action);
+        }
+    }
+
+    private static void forEachHelper(Node node, Consumer<? super CountryInformation> action) {
+        if (node instanceof Leaf) {
+            for (CountryInformation country : ((Leaf) node).countries) {
+                action.accept(country);
+            }
+            return;
+        }
+        forEachHelper(((Branch) node).left, action);
+        forEachHelper(((Branch) node).right, action);
+    }
+
+    /*! Versiones nuevas*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna una version de la lista sin el pais indicado. Solo se copian la hoja del
+     * pais y el camino hasta la raiz; si el pais no esta se retorna la misma lista.
+     * </body>
+     *
+     * @param removedCountry Pais a quitar
+     * @return PersistentCountryList Lista sin el pais
+     */
+    public PersistentCountryList without(CountryInformation removedCountry) {
+        if (this.root == null || removedCountry.getCountryId() < 0) {
+            return this;
+        }
+        Node updatedRoot = removingHelper(this.root, removedCountry);
+        return updatedRoot == this.root ? this : new PersistentCountryList(updatedRoot);
+    }
+
+    private static Node removingHelper(Node node, CountryInformation removedCountry) {
+        int countryId = removedCountry.getCountryId();
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int position = indexInLeafHelper(leaf, countryId);
+            if (position < 0 || leaf.countries[position] != removedCountry) {
+                return leaf;
+            }
+            return copyingLeafWithoutHelper(leaf, position);
+        }
+        Branch branch = (Branch) node;
+        if (countryId <= branch.left.lastCountryId) {
+            Node updatedLeft = removingHelper(branch.left, removedCountry);
+            if (updatedLeft == branch.left) {
+                return branch;
+            }
+            return updatedLeft == null ? branch.right
+                                       : joiningHelper(updatedLeft, branch.right);
+        }
+        Node updatedRight = removingHelper(branch.right, removedCountry);
+        if (updatedRight == branch.right) {
+            return branch;
+        }
+        return updatedRight == null ? branch.left : joiningHelper(branch.left, updatedRight);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna una version de la lista con el pais indicado en la posicion de su
+     * identificador. Solo se copian la hoja donde entra y el camino hasta la raiz; si el pais ya
+     * esta se retorna la misma lista.
+     * </body>
+     *
+     * @param restoredCountry Pais del catalogo a agregar
+     * @return PersistentCountryList Lista con el pais
+     * @throws IllegalArgumentException Si el pais no tiene identificador del catalogo
+     */
+    public PersistentCountryList with(CountryInformation restoredCountry) {
+        if (restoredCountry.getCountryId() < 0) {
+            throw new IllegalArgumentException("El pais no es parte de un catalogo cargado");
+        }
+        if (this.root == null) {
+            return new PersistentCountryList(new Leaf(new CountryInformation[]{restoredCountry}));
+        }
+        Node updatedRoot = insertingHelper(this.root, restoredCountry);
+        return updatedRoot == this.root ? this : new PersistentCountryList(updatedRoot);
+    }
+
+    private static Node insertingHelper(Node node, CountryInformation restoredCountry) {
+        int countryId = restoredCountry.getCountryId();
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int position = indexInLeafHelper(leaf, countryId);
+            if (position >= 0) {
+                return leaf;
+            }
+            //? La hoja nueva tiene el pais en su punto de insercion, si crece demasiado se parte
+            int insertionPoint = -(position + 1);
+            int leafSize = leaf.countries.length;
+            CountryInformation[] leafCountries = new CountryInformation[leafSize + 1];
+            System.arraycopy(leaf.countries, 0, leafCountries, 0, insertionPoint);
+            leafCountries[insertionPoint] = restoredCountry;
+            System.arraycopy(leaf.countries, insertionPoint, leafCountries, insertionPoint + 1,
+                             leafSize - insertionPoint);
+            if (leafCountries.length <= MAXIMUM_LEAF_SIZE) {
+                return new Leaf(leafCountries);
+            }
+            int half = leafCountries.length / 2;
+            return new Branch(new Leaf(Arrays.copyOfRange(leafCountries, 0, half)),
+                              new Leaf(Arrays.copyOfRange(leafCountries, half,
+                                                          leafCountries.length)));
+        }
+        Branch branch = (Branch) node;
+        if (countryId <= branch.left.lastCountryId) {
+            Node updatedLeft = insertingHelper(branch.left, restoredCountry);
+            return updatedLeft == branch.left ? branch
+                                              : joiningHelper(updatedLeft, branch.right);
+        }
+        Node updatedRight = insertingHelper(branch.right, restoredCountry);
+        return updatedRight == branch.right ? branch
+                                            : joiningHelper(branch.left, updatedRight);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna una version de la lista con varios paises del catalogo, por ejemplo todos
+     * los de un continente restaurado. En lugar de una insercion por pais se mezclan por
+     * identificador los paises actuales con los restaurados y el resultado se arma balanceado en
+     * una sola pasada, O(n + k). Los paises que ya estan se ignoran.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Mezcla por identificador la lista actual con los paises restaurados</li>
+     *   <li>Si no se agrego ningun pais retorna la misma lista</li>
+     *   <li>Arma la lista mezclada con {@link #of(List)}</li>
+     * </ol>
+     * </body>
+     *
+     * @param restoredCountries Paises del catalogo a agregar, ordenados por identificador
+     * @return PersistentCountryList Lista con los paises
+     * @throws IllegalArgumentException Si algun pais no tiene identificador del catalogo o los
+     *                                  paises no estan ordenados por identificador
+     */
+    public PersistentCountryList withAll(List<CountryInformation> restoredCountries) {
+        if (restoredCountries.isEmpty()) {
+            return this;
+        }
+        //? 1. Mezclamos por identificador, los paises actuales ya estan en orden
+        List<CountryInformation> mergedCountries =
+                new ArrayList<>(this.size() + restoredCountries.size());
+        Iterator<CountryInformation> currentCountries = this.iterator();
+        CountryInformation currentCountry = currentCountries.hasNext() ? currentCountries.next()
+                                                                       : null;
+        for (CountryInformation restoredCountry : restoredCountries) {
+            if (restoredCountry.getCountryId() < 0) {
+                throw new IllegalArgumentException("El pais no es parte de un catalogo cargado");
+            }
+            while (currentCountry != null
+                    && currentCountry.getCountryId() < restoredCountry.getCountryId()) {
+                mergedCountries.add(currentCountry);
+                currentCountry = currentCountries.hasNext() ? currentCountries.next() : null;
+            }
+            if (currentCountry == null
+                    || currentCountry.getCountryId() != restoredCountry.getCountryId()) {
+                mergedCountries.add(restoredCountry);
+            }
+        }
+        while (currentCountry != null) {
+            mergedCountries.add(currentCountry);
+            currentCountry = currentCountries.hasNext() ? currentCountries.next() : null;
+        }
+
+        //? 2. Si todos los paises ya estaban no hay version nueva
+        if (mergedCountries.size() == this.size()) {
+            return this;
+        }
+        //? 3. El listado mezclado esta ordenado, se arma balanceado en una pasada
+        return of(mergedCountries);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que retorna una version de la lista sin los paises que cumplen la condicion, por
+     * ejemplo todos los de un continente. Se evalua cada pais, pero solo se copian las hojas que
+     * cambian y sus caminos; los subarboles sin cambios se comparten.
+     * </body>
+     *
+     * @param removalCondition Condicion de los paises a quitar
+     * @return PersistentCountryList Lista sin esos paises
+     */
+    public PersistentCountryList withoutMatching(Predicate<CountryInformation> removalCondition) {
+        if (this.root == null) {
+            return this;
+        }
+        Node updatedRoot = removingMatchingHelper(this.root, removalCondition);
+        if (updatedRoot == this.root) {
+            return this;
+        }
+        return updatedRoot == null ? EMPTY : new PersistentCountryList(updatedRoot);
+    }
+
+    private static Node removingMatchingHelper(Node node,
+                                               Predicate<CountryInformation> removalCondition) {
+        if (node instanceof Leaf) {
+            CountryInformation[] countries = ((Leaf) node).countries;
+            CountryInformation[] keptCountries = null;
+            int keptCount = 0;
+            for (int index = 0; index < countries.length; index++) {
+                boolean isRemoved = removalCondition.test(countries[index]);
+                //? El arreglo nuevo solo se crea con la primera coincidencia
+                if (isRemoved && keptCountries == null) {
+                    keptCountries = new CountryInformation[countries.length - 1];
+                    System.arraycopy(countries, 0, keptCountries, 0, index);
+                    keptCount = index;
+                } else if (!isRemoved && keptCountries != null) {
+                    keptCountries[keptCount++] = countries[index];
+                }
+            }
+            if (keptCountries == null) {
+                return node;
+            }
+            if (keptCount == 0) {
+                return null;
+            }
+            CountryInformation[] leafCountries = new CountryInformation[keptCount];
+            System.arraycopy(keptCountries, 0, leafCountries, 0, keptCount);
+            return new Leaf(leafCountries);
+        }
+        Branch branch = (Branch) node;
+        Node updatedLeft = removingMatchingHelper(branch.left, removalCondition);
+        Node updatedRight = removingMatchingHelper(branch.right, removalCondition);
+        if (updatedLeft == branch.left && updatedRight == branch.right) {
+            return branch;
+        }
+        if (updatedLeft == null || updatedRight == null) {
+            return updatedLeft == null ? updatedRight : updatedLeft;
+        }
+        return joiningHelper(updatedLeft, updatedRight);
+    }
+
+    /*! Balanceo*/
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que une dos subarboles, todos los paises de left antes que los de right, en
+     * un arbol cuyas ramas no difieren en altura por mas de uno. Si las alturas ya son cercanas es
+     * una sola rama; si no, se desciende por el lado del subarbol mas alto hasta una altura
+     * compatible y se rota al volver, en O(diferencia de alturas).
+     * </body>
+     *
+     * @param left  Subarbol con los paises de menor identificador
+     * @param right Subarbol con los paises de mayor identificador
+     * @return Node Arbol balanceado con los paises de ambos
+     */
+    private static Node joiningHelper(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Branch leftBranch = (Branch) left;
+            return balancingHelper(leftBranch.left, joiningHelper(leftBranch.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch rightBranch = (Branch) right;
+            return balancingHelper(joiningHelper(left, rightBranch.left), rightBranch.right);
+        }
+        //? Dos hojas vecinas que caben en una sola se juntan, asi las eliminaciones no dejan
+        // arboles de hojas casi vacias
+        if (left instanceof Leaf && right instanceof Leaf
+                && left.size + right.size <= LEAF_CAPACITY) {
+            CountryInformation[] leafCountries = new CountryInformation[left.size + right.size];
+            System.arraycopy(((Leaf) left).countries, 0, leafCountries, 0, left.size);
+            System.arraycopy(((Leaf) right).countries, 0, leafCountries, left.size, right.size);
+            return new Leaf(leafCountries);
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * @description: arma una rama con dos subarboles cuyas alturas difieren a lo sumo en dos,
+     * aplicando la rotacion simple o doble de un arbol AVL si el lado alto queda desbalanceado
+     */
+    private static Node balancingHelper(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Branch leftBranch = (Branch) left;
+            if (leftBranch.left.height >= leftBranch.right.height) {
+                return new Branch(leftBranch.left, new Branch(leftBranch.right, right));
+            }
+            Branch innerBranch = (Branch) leftBranch.right;
+            return new Branch(new Branch(leftBranch.left, innerBranch.left),
+                              new Branch(innerBranch.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch rightBranch = (Branch) right;
+            if (rightBranch.right.height >= rightBranch.left.height) {
+                return new Branch(new Branch(left, rightBranch.left), rightBranch.right);
+            }
+            Branch innerBranch = (Branch) rightBranch.left;
+            return new Branch(new Branch(left, innerBranch.left),
+                              new Branch(innerBranch.right, rightBranch.right));
+        }
+        return new Branch(left, right);
+    }
+
+    /*! Auxiliares*/
+    private static Leaf findingLeafHelper(Node node, int countryId) {
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            node = countryId <= branch.left.lastCountryId ? branch.left : branch.right;
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * @description: posicion del pais en la hoja, o -(punto de insercion + 1) si no esta, igual
+     * que {@link Arrays#binarySearch(int[], int)}
+     */
+    private static int indexInLeafHelper(Leaf leaf, int countryId) {
+        int low = 0;
+        int high = leaf.countries.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = leaf.countries[middle].getCountryId();
+            if (middleId < countryId) {
+                low = middle + 1;
+            } else if (middleId > countryId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static Leaf copyingLeafWithoutHelper(Leaf leaf, int position) {
+        int leafSize = leaf.countries.length;
+        if (leafSize == 1) {
+            return null;
+        }
+        CountryInformation[] leafCountries = new CountryInformation[leafSize - 1];
+        System.arraycopy(leaf.countries, 0, leafCountries, 0, position);
+        System.arraycopy(leaf.countries, position + 1, leafCountries, position,
+                         leafSize - position - 1);
+        return new Leaf(leafCountries);
+    }
+
+    /**
+     * @description: recorre hoja por hoja, ubicar cada hoja cuesta O(log n) y recorrerla es una
+     * lectura de arreglo
+     */
+    private final class LeafWalkingIterator implements Iterator<CountryInformation> {
+        private int nextIndex = 0;
+        private CountryInformation[] currentLeaf;
+        private int currentLeafStart;
+
+        @Override
+        public boolean hasNext() {
+            return this.nextIndex < size();
+        }
+
+        @Override
+        public CountryInformation next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (this.currentLeaf == null
+                    || this.nextIndex - this.currentLeafStart >= this.currentLeaf.length) {
+                this.locatingLeafHelper();
+            }
+            return this.currentLeaf[this.nextIndex++ - this.currentLeafStart];
+        }
+
+        private void locatingLeafHelper() {
+            Node node = root;
+            int index = this.nextIndex;
+            this.currentLeafStart = this.nextIndex;
+            while (node instanceof Branch) {
+                Branch branch = (Branch) node;
+                if (index < branch.left.size) {
+                    node = branch.left;
+                } else {
+                    index -= branch.left.size;
+                    node = branch.right;
+                }
+            }
+            this.currentLeafStart -= index;
+            this.currentLeaf = ((Leaf) node).countries;
+        }
+    }
+}
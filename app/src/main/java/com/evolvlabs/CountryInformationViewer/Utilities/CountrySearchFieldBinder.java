@@ -0,0 +1,49 @@
+package com.evolvlabs.CountryInformationViewer.Utilities;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.widget.EditText;
+import androidx.lifecycle.LifecycleOwner;
+import com.evolvlabs.CountryInformationViewer.DataModel.ApplicationDataPOJO;
+
+/**
+ * @author : Paulo Cantos, Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description : El presente archivo conecta un campo de texto con la busqueda de paises del view
+ * model. La vista de continentes y la de paises comparten el mismo texto de busqueda, por lo que
+ * ambas usan este metodo para enviar cada tecla al view model y para mantener el campo sincronizado
+ * cuando el texto cambia desde la otra vista.
+ */
+public class CountrySearchFieldBinder {
+
+    public static void bindSearchFieldToViewModel(EditText searchField,
+                                                  ApplicationDataPOJO applicationDataPOJO,
+                                                  LifecycleOwner lifecycleOwner,
+                                                  Runnable onSearchResultsChanged) {
+        //? 1. Cada tecla actualiza el texto de busqueda, el view model descarta textos repetidos
+        searchField.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence text, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence text, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable editable) {
+                applicationDataPOJO.setCountrySearchQuery(editable.toString());
+            }
+        });
+
+        //? 2. Cuando cambia el texto publicado sincronizamos el campo (si viene de la otra vista)
+        // y refrescamos la lista
+        applicationDataPOJO.getConstantCountrySearchQuery().observe(lifecycleOwner, query -> {
+            if (!searchField.getText().toString().strip().equals(query)) {
+                searchField.setText(query);
+                searchField.setSelection(query.length());
+            }
+            onSearchResultsChanged.run();
+        });
+    }
+}
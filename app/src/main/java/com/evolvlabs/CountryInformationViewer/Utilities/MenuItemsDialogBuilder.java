@@ -107,7 +107,13 @@ public class MenuItemsDialogBuilder {
                 //> 3.1 Cargamos un menu de opciones para el usuario definido por el menu
                 // exterior, entonces tenemos que realizar un analisis de las posiciones de lo
                 // que se tiene en el menu, se espera que el listado de opciones y contenido sea
-                // el mismo orden de las opciones
+                // el mismo orden de las opciones. Una opcion sin titulo ni cuerpo no requiere
+                // confirmacion y ejecuta su accion directamente
+                if (dialogTitleAndBody.get(position) == null) {
+                    menuWindow.dismiss();
+                    dialogOnSucceedRunnableOption.get(position).run();
+                    return;
+                }
                 ConfirmationDialogBuilder.showConfirmationDialog(dialogTitleAndBody.get(position).first,
                                                                  dialogTitleAndBody.get(position).second,
                                                                  dialogSucceedOrNotOptions.get(position).first,
@@ -0,0 +1,83 @@
+package com.evolvlabs.CountryInformationViewer.Utilities;
+
+import android.content.Context;
+import android.content.DialogInterface;
+import android.content.res.Resources;
+import android.graphics.Typeface;
+import android.widget.Button;
+import android.widget.TextView;
+import androidx.appcompat.app.AlertDialog;
+import androidx.core.content.res.ResourcesCompat;
+import com.evolvlabs.countryinformationviewer.R;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * @author : Santiago Arellano
+ * @description : El presente archivo implementa el dialogo de elementos eliminados. Muestra un
+ * listado de los continentes y paises eliminados y al tocar uno se restaura solo ese elemento, sin
+ * recargar todos los datos. Tiene el mismo aspecto que {@link ConfirmationDialogBuilder}.
+ */
+public class RemovedEntriesDialogBuilder {
+    public static void showRemovedEntriesDialog(String title,
+                                                String emptyMessage,
+                                                String closeButtonText,
+                                                List<String> entryLabels,
+                                                IntConsumer onEntrySelected,
+                                                Context context,
+                                                Resources resources) {
+        //? 1. Creamos el builder base, con el listado de elementos o con un mensaje si no hay
+        // nada eliminado. Al tocar un elemento el dialogo se cierra y se restaura ese elemento
+        MaterialAlertDialogBuilder builder = new MaterialAlertDialogBuilder(context)
+                .setTitle(title)
+                .setNegativeButton(closeButtonText, null)
+                .setBackground(ResourcesCompat.getDrawable(resources,
+                                                           R.drawable
+                                                                   .rounded_corners_for_component_styling,
+                                                           null));
+        if (entryLabels.isEmpty()) {
+            builder.setMessage(emptyMessage);
+        } else {
+            builder.setItems(entryLabels.toArray(new CharSequence[0]),
+                             (dialog, which) -> onEntrySelected.accept(which));
+        }
+
+        //? 2. Aplicamos los colores de la App cuando el dialogo se muestra, igual que en el
+        // dialogo de confirmacion
+        AlertDialog dialogForAlert = builder.create();
+        dialogForAlert.setOnShowListener(new DialogInterface.OnShowListener() {
+            @Override
+            public void onShow(DialogInterface dialog) {
+                Typeface faceForInterBoldFont = ResourcesCompat.getFont(context, R.font.inter_bold);
+                Typeface faceForInterFont = ResourcesCompat.getFont(context, R.font.inter);
+                TextView title = dialogForAlert.findViewById(android.R.id.title);
+                if (title != null) {
+                    title.setTextColor(ResourcesCompat.getColor(resources,
+                                                                R.color.palette_Brilliant_Cobalt,
+                                                                null));
+                    title.setTextSize(18);
+                    title.setTypeface(faceForInterBoldFont);
+                }
+                TextView body = dialogForAlert.findViewById(android.R.id.message);
+                if (body != null) {
+                    body.setTextColor(ResourcesCompat.getColor(resources,
+                                                               R.color.palette_Brilliant_Cobalt,
+                                                               null));
+                    body.setTypeface(faceForInterFont);
+                    body.setTextSize(14);
+                }
+                Button negativeButton =
+                        dialogForAlert.getButton(DialogInterface.BUTTON_NEGATIVE);
+                negativeButton.setAllCaps(false);
+                negativeButton.setBackgroundColor(resources.getColor(R.color.palette_Anakiwa,
+                                                                     null));
+                negativeButton.setTextColor(resources.getColor(R.color.palette_Dodger_Blue,
+                                                               null));
+            }
+        });
+        //? 3. Mostramos el dialogo
+        dialogForAlert.show();
+    }
+}
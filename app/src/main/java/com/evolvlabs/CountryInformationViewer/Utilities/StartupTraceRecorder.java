@@ -0,0 +1,158 @@
+package com.evolvlabs.CountryInformationViewer.Utilities;
+
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * @author : Paulo Cantos, Santiago Arellano
+ * @date : 17-Oct-2026
+ * @description : El presente archivo implementa la instrumentacion del arranque de la aplicacion.
+ * Cada fase de la carga de datos abre una seccion de {@link Trace}, visible en Perfetto o
+ * systrace, y al cerrarla registra su duracion en un acumulador en proceso. Las fases que se
+ * repiten (por ejemplo cada decodificacion de bandera) se agrupan bajo el mismo nombre con su
+ * cantidad, total y maximo, de forma que el desglose se puede volcar a logcat o a un archivo y
+ * una regresion del arranque se puede atribuir a una fase especifica.
+ */
+public class StartupTraceRecorder {
+
+    /**
+     * @description : largo maximo que acepta {@link Trace#beginSection(String)}
+     */
+    private static final int MAXIMUM_TRACE_SECTION_LENGTH = 127;
+    private static final String LOG_TAG = "[StartupTraceRecorder]";
+
+    /**
+     * @description : tiempos acumulados por fase, en el orden en que cada fase se vio por primera
+     * vez. Se escribe desde el hilo principal y desde el ejecutor de banderas
+     */
+    private static final Map<String, PhaseTiming> timingPerPhase = new LinkedHashMap<>();
+
+    private StartupTraceRecorder() {
+    }
+
+    /**
+     * @description : duraciones acumuladas de una fase
+     */
+    private static class PhaseTiming {
+        private int count;
+        private long totalNanos;
+        private long maximumNanos;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que abre una fase. La seccion de Trace es por hilo, por lo que
+     * {@link #endPhase(String, long)} se debe llamar en el mismo hilo, normalmente dentro de un
+     * bloque finally.
+     * </body>
+     *
+     * @param phaseName Nombre de la fase
+     * @return long Instante de inicio, se debe pasar a {@link #endPhase(String, long)}
+     */
+    public static long beginPhase(String phaseName) {
+        Trace.beginSection(phaseName.length() > MAXIMUM_TRACE_SECTION_LENGTH
+                                   ? phaseName.substring(0, MAXIMUM_TRACE_SECTION_LENGTH)
+                                   : phaseName);
+        return SystemClock.elapsedRealtimeNanos();
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que cierra la seccion de Trace abierta por {@link #beginPhase(String)} y acumula la
+     * duracion de la fase.
+     * </body>
+     *
+     * @param phaseName  Nombre de la fase, el mismo usado al abrirla
+     * @param startNanos Instante retornado por {@link #beginPhase(String)}
+     */
+    public static void endPhase(String phaseName, long startNanos) {
+        long elapsedNanos = SystemClock.elapsedRealtimeNanos() - startNanos;
+        Trace.endSection();
+        synchronized (timingPerPhase) {
+            PhaseTiming timing = timingPerPhase.get(phaseName);
+            if (timing == null) {
+                timing = new PhaseTiming();
+                timingPerPhase.put(phaseName, timing);
+            }
+            timing.count++;
+            timing.totalNanos += elapsedNanos;
+            timing.maximumNanos = Math.max(timing.maximumNanos, elapsedNanos);
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que arma el desglose por fase: cantidad de ejecuciones, tiempo total, promedio y
+     * maximo, en milisegundos.
+     * </body>
+     *
+     * @return List Una linea por fase, en el orden en que se vio cada fase
+     */
+    public static List<String> describeBreakdown() {
+        List<String> breakdownLines = new ArrayList<>();
+        synchronized (timingPerPhase) {
+            for (Map.Entry<String, PhaseTiming> phase : timingPerPhase.entrySet()) {
+                PhaseTiming timing = phase.getValue();
+                breakdownLines.add(String.format(Locale.ROOT,
+                                                 "%s: count=%d, totalMs=%.3f, avgMs=%.3f, maxMs=%.3f",
+                                                 phase.getKey(), timing.count,
+                                                 timing.totalNanos / 1_000_000d,
+                                                 timing.totalNanos / (timing.count * 1_000_000d),
+                                                 timing.maximumNanos / 1_000_000d));
+            }
+        }
+        return breakdownLines;
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que vuelca el desglose por fase a logcat, una linea por fase.
+     * </body>
+     *
+     * @param reason Motivo del volcado, se imprime en el encabezado
+     */
+    public static void dumpToLogcat(String reason) {
+        Log.i(LOG_TAG, "Desglose del arranque - " + reason);
+        for (String breakdownLine : describeBreakdown()) {
+            Log.i(LOG_TAG, breakdownLine);
+        }
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que escribe el desglose por fase en un archivo de texto, reemplazando su contenido.
+     * Hace I/O de disco, por lo que debe llamarse fuera del hilo principal.
+     * </body>
+     *
+     * @param outputFile Archivo de salida, por ejemplo dentro de cacheDir
+     * @param reason     Motivo del volcado, se escribe en el encabezado
+     */
+    public static void dumpToFile(File outputFile, String reason) {
+        try (Writer writer = new FileWriter(outputFile, false)) {
+            writer.write("Desglose del arranque - " + reason + "\n");
+            for (String breakdownLine : describeBreakdown()) {
+                writer.write(breakdownLine);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            Log.w(LOG_TAG, "Error Code 0x001 - [Raised] - StartupTraceRecorder - dumpToFile - " +
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Rect;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.TextView;
+import com.sun.management.ThreadMXBean;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo prueba que enlazar filas de {@link CountryRecyclerAdapter} en
+ * estado estable no crea objetos. Se simula un desplazamiento: pocas filas recicladas, con un
+ * TextView y un ImageView reales, se enlazan una y otra vez con todos los paises, con las banderas
+ * ya residentes en el cache o con el atlas del continente ya cargado. Las sombras de Robolectric
+ * pueden asignar memoria dentro de las propias vistas, por eso se mide primero el mismo
+ * recorrido escribiendo directamente en las vistas y al adaptador solo se le tolera una cantidad
+ * fija de bytes por encima de esa medicion, en toda la prueba y no por enlace.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class CountryRecyclerAdapterAllocationTest {
+
+    private static final int COUNTRY_COUNT = 60;
+    private static final int RECYCLED_ROW_COUNT = 12;
+    private static final int FLAG_SIZE_PIXELS = 64;
+    private static final int WARM_UP_BINDS = 50_000;
+    private static final int MEASURED_BINDS = 20_000;
+    /**
+     * @description: bytes tolerados en toda la medicion. Un solo objeto por enlace serian al menos
+     * 16 bytes por cada uno de los {@link #MEASURED_BINDS} enlaces, muy por encima de este valor
+     */
+    private static final long ALLOCATION_TOLERANCE_BYTES = 1_024;
+
+    /*! Parametros internos*/
+    private ThreadMXBean threadMXBean;
+    private List<CountryInformation> catalogCountries;
+    private Bitmap residentFlag;
+    private CountryRecyclerAdapter.CountryViewHolder[] recycledRows;
+    private TextView[] countryNameTextViews;
+    private ImageView[] flagImageViews;
+
+    @Before
+    public void setUp() {
+        //? 1. La medicion usa los bytes asignados por el hilo actual, si la JVM no los expone la
+        // prueba se omite
+        this.threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(this.threadMXBean.isThreadAllocatedMemorySupported());
+        this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        //? 2. Armamos el catalogo, la bandera residente y las vistas de las filas recicladas
+        this.catalogCountries = new ArrayList<>(COUNTRY_COUNT);
+        for (int countryId = 0; countryId < COUNTRY_COUNT; countryId++) {
+            CountryInformation country = new CountryInformation(
+                    "Europa", "Pais " + countryId, "flags/europa/pais_" + countryId + ".png");
+            country.setCountryId(countryId);
+            this.catalogCountries.add(country);
+        }
+        this.residentFlag = Bitmap.createBitmap(FLAG_SIZE_PIXELS, FLAG_SIZE_PIXELS,
+                                                Bitmap.Config.RGB_565);
+        Context context = RuntimeEnvironment.getApplication();
+        this.recycledRows = new CountryRecyclerAdapter.CountryViewHolder[RECYCLED_ROW_COUNT];
+        this.countryNameTextViews = new TextView[RECYCLED_ROW_COUNT];
+        this.flagImageViews = new ImageView[RECYCLED_ROW_COUNT];
+        for (int row = 0; row < RECYCLED_ROW_COUNT; row++) {
+            this.countryNameTextViews[row] = new TextView(context);
+            this.flagImageViews[row] = new ImageView(context);
+            this.recycledRows[row] = new CountryRecyclerAdapter.CountryViewHolder(
+                    new View(context), this.flagImageViews[row], this.countryNameTextViews[row]);
+        }
+    }
+
+    @Test
+    public void steadyStateScrollWithCachedFlags_allocatesNothingPerBind() {
+        CountryRecyclerAdapter countryRecyclerAdapter =
+                this.creatingAdapterHelper(new ResidentFlagSource(this.residentFlag, null));
+        this.assertScrollAllocatesNothingHelper(countryRecyclerAdapter, null);
+
+        //? Las filas si se enlazaron con el ultimo pais de su posicion y su bandera
+        int lastRow = this.assertLastBindShowsItsCountryHelper();
+        Drawable boundFlag = this.flagImageViews[lastRow].getDrawable();
+        assertTrue(boundFlag instanceof BitmapDrawable);
+        assertSame(this.residentFlag, ((BitmapDrawable) boundFlag).getBitmap());
+    }
+
+    @Test
+    public void steadyStateScrollWithLoadedFlagAtlas_allocatesNothingPerBind() {
+        FlagAtlas loadedAtlas = this.creatingFlagAtlasHelper();
+        CountryRecyclerAdapter countryRecyclerAdapter =
+                this.creatingAdapterHelper(new ResidentFlagSource(null, loadedAtlas));
+        this.assertScrollAllocatesNothingHelper(countryRecyclerAdapter, loadedAtlas);
+
+        //? Las filas dibujan el rectangulo de su bandera dentro del atlas
+        int lastRow = this.assertLastBindShowsItsCountryHelper();
+        CountryInformation lastCountry =
+                this.catalogCountries.get((MEASURED_BINDS - 1) % COUNTRY_COUNT);
+        assertSame(loadedAtlas.getFlagDrawable(lastCountry.getCountryImageAssetPath()),
+                   this.flagImageViews[lastRow].getDrawable());
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que compara los bytes asignados al enlazar filas con el adaptador contra
+     * los bytes asignados al escribir lo mismo directamente en las vistas.
+     *
+     * <h3>Metodologia:</h3>
+     * <ol>
+     *   <li>Calienta ambos recorridos para que el JIT los compile y las vistas y el atlas creen
+     *   sus objetos de una sola vez</li>
+     *   <li>Mide el recorrido que escribe directamente en las vistas</li>
+     *   <li>Mide el recorrido que enlaza con el adaptador y compara</li>
+     * </ol>
+     * </body>
+     *
+     * @param countryRecyclerAdapter Adaptador con la lista de paises ya entregada
+     * @param loadedAtlas            Atlas con el que el adaptador dibuja las banderas, o null
+     */
+    private void assertScrollAllocatesNothingHelper(CountryRecyclerAdapter countryRecyclerAdapter,
+                                                    FlagAtlas loadedAtlas) {
+        //? 1. Calentamos ambos recorridos
+        Drawable[] atlasFlagDrawables = new Drawable[COUNTRY_COUNT];
+        if (loadedAtlas != null) {
+            for (int countryId = 0; countryId < COUNTRY_COUNT; countryId++) {
+                atlasFlagDrawables[countryId] = loadedAtlas.getFlagDrawable(
+                        this.catalogCountries.get(countryId).getCountryImageAssetPath());
+            }
+        }
+        for (int bind = 0; bind < WARM_UP_BINDS; bind++) {
+            this.writingRowViewsDirectlyHelper(bind, loadedAtlas != null, atlasFlagDrawables);
+            this.bindingRowHelper(countryRecyclerAdapter, bind);
+        }
+
+        //? 2. Medimos lo que cuestan las vistas por si solas
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = this.threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int bind = 0; bind < MEASURED_BINDS; bind++) {
+            this.writingRowViewsDirectlyHelper(bind, loadedAtlas != null, atlasFlagDrawables);
+        }
+        long viewWriteBytes =
+                this.threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        //? 3. Medimos el enlace del adaptador sobre las mismas vistas
+        allocatedBytesBefore = this.threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int bind = 0; bind < MEASURED_BINDS; bind++) {
+            this.bindingRowHelper(countryRecyclerAdapter, bind);
+        }
+        long adapterBindBytes =
+                this.threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+        assertTrue("Enlazar " + MEASURED_BINDS + " filas asigno " + adapterBindBytes +
+                           " bytes, las vistas por si solas " + viewWriteBytes,
+                   adapterBindBytes - viewWriteBytes < ALLOCATION_TOLERANCE_BYTES);
+    }
+
+    /**
+     * @description: enlaza una fila reciclada con el pais de la posicion, igual que el
+     * RecyclerView al desplazarse, volviendo al inicio de la lista al llegar al final
+     */
+    private void bindingRowHelper(CountryRecyclerAdapter countryRecyclerAdapter, int bind) {
+        countryRecyclerAdapter.onBindViewHolder(this.recycledRows[bind % RECYCLED_ROW_COUNT],
+                                                bind % COUNTRY_COUNT);
+    }
+
+    /**
+     * @description: escribe en las vistas de la fila exactamente lo que escribe el ViewHolder al
+     * enlazarla, sin pasar por el adaptador
+     */
+    private void writingRowViewsDirectlyHelper(int bind, boolean drawsFromAtlas,
+                                               Drawable[] atlasFlagDrawables) {
+        int row = bind % RECYCLED_ROW_COUNT;
+        int countryId = bind % COUNTRY_COUNT;
+        this.countryNameTextViews[row].setText(this.catalogCountries.get(countryId)
+                                                       .getCountryName());
+        if (drawsFromAtlas) {
+            this.flagImageViews[row].setImageBitmap(null);
+            this.flagImageViews[row].setImageDrawable(atlasFlagDrawables[countryId]);
+        } else {
+            this.flagImageViews[row].setImageBitmap(this.residentFlag);
+        }
+        this.recycledRows[row].itemView.setActivated(false);
+    }
+
+    /**
+     * @description: revisa que la ultima fila enlazada muestre el nombre de su pais y retorna su
+     * indice para revisar la bandera
+     */
+    private int assertLastBindShowsItsCountryHelper() {
+        int lastBind = MEASURED_BINDS - 1;
+        int lastRow = lastBind % RECYCLED_ROW_COUNT;
+        assertEquals(this.catalogCountries.get(lastBind % COUNTRY_COUNT).getCountryName(),
+                     this.countryNameTextViews[lastRow].getText().toString());
+        return lastRow;
+    }
+
+    private CountryRecyclerAdapter creatingAdapterHelper(CountryRowFlagSource rowFlagSource) {
+        CountryRecyclerAdapter countryRecyclerAdapter =
+                new CountryRecyclerAdapter(null, rowFlagSource, FlagSizeBucket.SMALL);
+        countryRecyclerAdapter.submitList(this.catalogCountries);
+        for (CountryRecyclerAdapter.CountryViewHolder recycledRow : this.recycledRows) {
+            countryRecyclerAdapter.attachingRowListenersHelper(recycledRow);
+        }
+        return countryRecyclerAdapter;
+    }
+
+    /**
+     * @description: atlas del continente con una bandera por pais, en una cuadricula de diez
+     * columnas, como lo empaqueta la tarea de Gradle
+     */
+    private FlagAtlas creatingFlagAtlasHelper() {
+        int columnCount = 10;
+        int rowCount = (COUNTRY_COUNT + columnCount - 1) / columnCount;
+        Map<String, Rect> regionPerCountryImageAssetPath = new HashMap<>(COUNTRY_COUNT);
+        for (int countryId = 0; countryId < COUNTRY_COUNT; countryId++) {
+            int left = (countryId % columnCount) * FLAG_SIZE_PIXELS;
+            int top = (countryId / columnCount) * FLAG_SIZE_PIXELS;
+            regionPerCountryImageAssetPath.put(
+                    this.catalogCountries.get(countryId).getCountryImageAssetPath(),
+                    new Rect(left, top, left + FLAG_SIZE_PIXELS, top + FLAG_SIZE_PIXELS));
+        }
+        Bitmap atlasBitmap = Bitmap.createBitmap(columnCount * FLAG_SIZE_PIXELS,
+                                                 rowCount * FLAG_SIZE_PIXELS,
+                                                 Bitmap.Config.RGB_565);
+        return new FlagAtlas("Europa", FlagSizeBucket.SMALL, atlasBitmap,
+                             regionPerCountryImageAssetPath);
+    }
+
+    /**
+     * @description: fuente de banderas con todas las banderas ya en el cache o con el atlas ya
+     * cargado, cualquier peticion en segundo plano indica que el enlace no esta en estado estable
+     */
+    private static class ResidentFlagSource implements CountryRowFlagSource {
+
+        private final Bitmap residentFlag;
+        private final FlagAtlas loadedAtlas;
+
+        ResidentFlagSource(Bitmap residentFlag, FlagAtlas loadedAtlas) {
+            this.residentFlag = residentFlag;
+            this.loadedAtlas = loadedAtlas;
+        }
+
+        @Override
+        public boolean hasFlagAtlasCovering(String continentName, FlagSizeBucket sizeBucket) {
+            return this.loadedAtlas != null;
+        }
+
+        @Override
+        public FlagAtlas getLoadedFlagAtlas(String continentName) {
+            return this.loadedAtlas;
+        }
+
+        @Override
+        public void requestFlagAtlas(String continentName, Consumer<FlagAtlas> onAtlasReady) {
+            throw new AssertionError("No se esperaba pedir el atlas de " + continentName);
+        }
+
+        @Override
+        public Bitmap getCachedCountryFlag(int countryId, FlagSizeBucket sizeBucket) {
+            return this.residentFlag;
+        }
+
+        @Override
+        public void requestCountryFlagForRow(CountryInformation information,
+                                             FlagSizeBucket sizeBucket,
+                                             int rowPosition,
+                                             Consumer<Bitmap> onFlagReady) {
+            throw new AssertionError("No se esperaba decodificar la bandera de " +
+                                             information.getCountryName());
+        }
+    }
+}
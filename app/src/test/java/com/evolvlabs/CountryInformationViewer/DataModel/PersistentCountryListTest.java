@@ -0,0 +1,105 @@
+package com.evolvlabs.CountryInformationViewer.DataModel;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo prueba que {@link PersistentCountryList} se mantiene balanceado
+ * sin importar el orden de las versiones nuevas. Restaurar un continente completo agrega sus
+ * paises en orden creciente de identificador, el peor caso de un arbol sin rotaciones.
+ */
+public class PersistentCountryListTest {
+
+    private static final int COUNTRY_COUNT = 3_000;
+    private static final List<String> CONTINENTS = Arrays.asList("K0", "K1", "K2", "K3", "K4");
+
+    /*! Parametros internos*/
+    private List<CountryInformation> catalogCountries;
+
+    @Before
+    public void setUp() {
+        this.catalogCountries = new ArrayList<>(COUNTRY_COUNT);
+        for (int index = 0; index < COUNTRY_COUNT; index++) {
+            this.catalogCountries.add(new CountryInformation(
+                    CONTINENTS.get(index % CONTINENTS.size()), "Pais " + index, "p" + index));
+        }
+        //? La tabla del catalogo asigna los identificadores en el orden del listado
+        CountryCatalogTable.of(this.catalogCountries, CONTINENTS);
+    }
+
+    @Test
+    public void ascendingRestores_keepTheTreeBalanced() {
+        PersistentCountryList countryList = PersistentCountryList.empty();
+        for (CountryInformation country : this.catalogCountries) {
+            countryList = countryList.with(country);
+        }
+        assertEquals(this.catalogCountries, countryList);
+        assertBalancedHelper(countryList);
+    }
+
+    @Test
+    public void descendingRestores_keepTheTreeBalanced() {
+        PersistentCountryList countryList = PersistentCountryList.empty();
+        for (int index = COUNTRY_COUNT - 1; index >= 0; index--) {
+            countryList = countryList.with(this.catalogCountries.get(index));
+        }
+        assertEquals(this.catalogCountries, countryList);
+        assertBalancedHelper(countryList);
+    }
+
+    @Test
+    public void continentRestore_mergesInOnePassAndKeepsTheTreeBalanced() {
+        PersistentCountryList countryList = PersistentCountryList.of(this.catalogCountries)
+                .withoutMatching(country -> country.getCountryContinent().equals("K2"));
+        List<CountryInformation> restoredCountries = new ArrayList<>();
+        for (CountryInformation country : this.catalogCountries) {
+            if (country.getCountryContinent().equals("K2")) {
+                restoredCountries.add(country);
+            }
+        }
+        PersistentCountryList restoredList = countryList.withAll(restoredCountries);
+        assertEquals(this.catalogCountries, restoredList);
+        assertBalancedHelper(restoredList);
+        //? Restaurar paises que ya estan no crea una version nueva
+        assertSame(restoredList, restoredList.withAll(restoredCountries));
+    }
+
+    @Test
+    public void mixedRemovalsAndRestores_keepTheTreeBalanced() {
+        Random random = new Random(17);
+        PersistentCountryList countryList = PersistentCountryList.of(this.catalogCountries);
+        for (int step = 0; step < 20_000; step++) {
+            CountryInformation country = this.catalogCountries.get(random.nextInt(COUNTRY_COUNT));
+            countryList = random.nextBoolean() ? countryList.with(country)
+                                               : countryList.without(country);
+            if (random.nextInt(500) == 0) {
+                String removedContinent = CONTINENTS.get(random.nextInt(CONTINENTS.size()));
+                countryList = countryList.withoutMatching(
+                        candidate -> candidate.getCountryContinent().equals(removedContinent));
+            }
+            assertBalancedHelper(countryList);
+        }
+    }
+
+    /**
+     * @description: la profundidad no debe pasar del doble de la de un arbol perfecto con hojas
+     * llenas, una espina de hojas tendria una rama por hoja
+     */
+    private static void assertBalancedHelper(PersistentCountryList countryList) {
+        int fullLeafCount = countryList.size() / PersistentCountryList.LEAF_CAPACITY + 1;
+        int perfectDepth = Integer.SIZE - Integer.numberOfLeadingZeros(fullLeafCount - 1);
+        assertTrue("Profundidad " + countryList.depth() + " con " + countryList.size() +
+                           " paises", countryList.depth() <= 2 * perfectDepth + 1);
+    }
+}
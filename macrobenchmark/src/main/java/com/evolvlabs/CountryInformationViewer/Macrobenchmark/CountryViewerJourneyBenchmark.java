@@ -0,0 +1,107 @@
+package com.evolvlabs.CountryInformationViewer.Macrobenchmark;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.benchmark.macro.Metric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.StartupTimingMetric;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo define los recorridos medidos de la aplicacion. Todos
+ * arrancan en frio para reportar {@link StartupTimingMetric} y ademas reportan
+ * {@link FrameTimingMetric} de la interaccion que sigue, de forma que cada cambio de rendimiento
+ * tiene numeros del arranque y de la fluidez de la lista detras.
+ */
+@RunWith(AndroidJUnit4.class)
+public class CountryViewerJourneyBenchmark {
+
+    private static final int ITERATIONS = 5;
+
+    @Rule
+    public MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    /**
+     * @description: arranque en frio hasta el primer cuadro de ChooseAContinentController con
+     * sus filas dibujadas
+     */
+    @Test
+    public void coldStartToContinentList() {
+        this.measuringJourney(scope -> {
+            CountryViewerJourneys.startAndWaitForContinentList(scope);
+            return Unit.INSTANCE;
+        });
+    }
+
+    /**
+     * @description: toque de un continente hasta ChooseACountryController poblado
+     */
+    @Test
+    public void openContinentToCountryList() {
+        this.measuringJourney(scope -> {
+            CountryViewerJourneys.startAndWaitForContinentList(scope);
+            CountryViewerJourneys.openContinent(scope, CountryViewerJourneys.LONGEST_CONTINENT);
+            return Unit.INSTANCE;
+        });
+    }
+
+    /**
+     * @description: fling de ida y vuelta por el continente con mas paises
+     */
+    @Test
+    public void flingThroughLongestContinent() {
+        this.measuringJourney(scope -> {
+            CountryViewerJourneys.startAndWaitForContinentList(scope);
+            CountryViewerJourneys.openContinent(scope, CountryViewerJourneys.LONGEST_CONTINENT);
+            CountryViewerJourneys.flingThroughCountryList(scope);
+            return Unit.INSTANCE;
+        });
+    }
+
+    /**
+     * @description: apertura de HereIsTheirInfoController desde la lista de paises
+     */
+    @Test
+    public void openCountryInfo() {
+        this.measuringJourney(scope -> {
+            CountryViewerJourneys.startAndWaitForContinentList(scope);
+            CountryViewerJourneys.openContinent(scope, CountryViewerJourneys.LONGEST_CONTINENT);
+            CountryViewerJourneys.openFirstCountry(scope);
+            return Unit.INSTANCE;
+        });
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo auxiliar que mide un recorrido en frio con las metricas de arranque y de cuadros. Antes
+     * de cada iteracion se vuelve a la pantalla de inicio para que el arranque sea desde cero.
+     * </body>
+     *
+     * @param journey Recorrido a medir, debe empezar arrancando la actividad
+     */
+    private void measuringJourney(Function1<MacrobenchmarkScope, Unit> journey) {
+        this.benchmarkRule.measureRepeated(
+                CountryViewerJourneys.TARGET_PACKAGE_NAME,
+                List.<Metric>of(new StartupTimingMetric(), new FrameTimingMetric()),
+                new CompilationMode.Partial(),
+                StartupMode.COLD,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    return Unit.INSTANCE;
+                },
+                journey);
+    }
+}
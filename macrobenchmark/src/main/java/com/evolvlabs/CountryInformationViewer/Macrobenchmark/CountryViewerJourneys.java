@@ -0,0 +1,103 @@
+package com.evolvlabs.CountryInformationViewer.Macrobenchmark;
+
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.BySelector;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo agrupa los pasos de UiAutomator que usan los recorridos de
+ * {@link CountryViewerJourneyBenchmark}. Cada paso espera a que la vista destino tenga contenido,
+ * de forma que la medicion incluye el tiempo hasta que la pantalla esta poblada y no solo hasta el
+ * primer cuadro.
+ */
+final class CountryViewerJourneys {
+
+    static final String TARGET_PACKAGE_NAME = "com.evolvlabs.countryinformationviewer";
+    /**
+     * @description: continente con mas paises en los assets (53), el peor caso para la lista
+     */
+    static final String LONGEST_CONTINENT = "Africa";
+    private static final long UI_TIMEOUT_MILLIS = 10_000L;
+    private static final int FLINGS_THROUGH_LIST = 4;
+
+    private static final BySelector CONTINENT_LIST =
+            By.res(TARGET_PACKAGE_NAME, "inChooseAContinentView_RecyclerViewForItemDisplay");
+    private static final BySelector COUNTRY_LIST =
+            By.res(TARGET_PACKAGE_NAME, "inChooseACountryView_RecyclerViewForComponents");
+    private static final BySelector ROW_NAME =
+            By.res(TARGET_PACKAGE_NAME, "inHereIsYourInfo_TextViewForCountryName");
+    private static final BySelector COUNTRY_INFO_LAYOUT =
+            By.res(TARGET_PACKAGE_NAME, "inHereIsYourInfo_LayoutForCountry");
+
+    private CountryViewerJourneys() {
+    }
+
+    /**
+     * @description: arranca la actividad y espera a que la lista de continentes tenga filas
+     */
+    static void startAndWaitForContinentList(MacrobenchmarkScope scope) {
+        scope.startActivityAndWait();
+        waitFor(scope.getDevice(), CONTINENT_LIST.hasDescendant(ROW_NAME), "lista de continentes");
+    }
+
+    /**
+     * @description: toca un continente y espera a que la lista de paises tenga filas
+     */
+    static void openContinent(MacrobenchmarkScope scope, String continentName) {
+        UiDevice device = scope.getDevice();
+        UiObject2 continentRow = waitFor(device, CONTINENT_LIST, "lista de continentes")
+                .findObject(By.text(continentName));
+        if (continentRow == null) {
+            throw new AssertionError("No se encontro el continente " + continentName);
+        }
+        continentRow.click();
+        waitFor(device, COUNTRY_LIST.hasDescendant(ROW_NAME), "lista de paises");
+    }
+
+    /**
+     * @description: recorre la lista de paises con flings hacia abajo y luego hacia arriba
+     */
+    static void flingThroughCountryList(MacrobenchmarkScope scope) {
+        UiDevice device = scope.getDevice();
+        UiObject2 countryList = waitFor(device, COUNTRY_LIST, "lista de paises");
+        //? El margen evita que el gesto empiece sobre la barra de navegacion del sistema
+        countryList.setGestureMargin(device.getDisplayWidth() / 5);
+        for (int fling = 0; fling < FLINGS_THROUGH_LIST; fling++) {
+            countryList.fling(Direction.DOWN);
+            device.waitForIdle();
+        }
+        for (int fling = 0; fling < FLINGS_THROUGH_LIST; fling++) {
+            countryList.fling(Direction.UP);
+            device.waitForIdle();
+        }
+    }
+
+    /**
+     * @description: toca el primer pais de la lista y espera a que el detalle se muestre. La
+     * pagina de Wikipedia requiere red, por lo que solo se espera al layout del pais
+     */
+    static void openFirstCountry(MacrobenchmarkScope scope) {
+        UiDevice device = scope.getDevice();
+        UiObject2 firstCountryName = waitFor(device, COUNTRY_LIST, "lista de paises")
+                .findObject(ROW_NAME);
+        if (firstCountryName == null) {
+            throw new AssertionError("La lista de paises no tiene filas");
+        }
+        firstCountryName.click();
+        waitFor(device, COUNTRY_INFO_LAYOUT, "detalle del pais");
+    }
+
+    private static UiObject2 waitFor(UiDevice device, BySelector selector, String description) {
+        UiObject2 foundObject = device.wait(Until.findObject(selector), UI_TIMEOUT_MILLIS);
+        if (foundObject == null) {
+            throw new AssertionError("Tiempo agotado esperando " + description);
+        }
+        return foundObject;
+    }
+}
@@ -0,0 +1,74 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryPartitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo mide el filtro por continente tal como lo hace
+ * {@code CountryRecyclerAdapter.getFilteredCountriesBasedOnContinentSelection}, que hoy se
+ * recalcula en cada onBindViewHolder: un stream sobre todo el catalogo con equalsIgnoreCase y un
+ * arreglo nuevo por llamada. La variante partitioned mide la lectura de una fila desde
+ * {@link CountryPartitions}, que es lo que hace hoy el adaptador.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContinentFilterBenchmark {
+
+    @Param({"200", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    @Param({"Americas", "Oceania"})
+    public String selectedContinent;
+
+    private List<CountryInformation> catalog;
+    private CountryPartitions catalogPartitions;
+
+    @Setup(Level.Trial)
+    public void setUpCatalog() {
+        this.catalog = CountryCatalogFixtures.generateCatalog(this.catalogSize);
+        this.catalogPartitions = CountryPartitions.of(this.catalog);
+    }
+
+    @Benchmark
+    public CountryInformation[] filterCountriesPerContinent() {
+        String continent = this.selectedContinent;
+        return this.catalog
+                .stream()
+                .filter(new Predicate<CountryInformation>() {
+                    @Override
+                    public boolean test(CountryInformation countryInformation) {
+                        return countryInformation
+                                .getCountryContinent()
+                                .equalsIgnoreCase(continent);
+                    }
+                }).toArray(CountryInformation[]::new);
+    }
+
+    @Benchmark
+    public CountryInformation partitionedRowRead() {
+        List<CountryInformation> continentCountries =
+                this.catalogPartitions.countriesOf(this.selectedContinent);
+        return continentCountries.get(continentCountries.size() / 2);
+    }
+
+    @Benchmark
+    public CountryPartitions buildPartitions() {
+        return CountryPartitions.of(this.catalog);
+    }
+}
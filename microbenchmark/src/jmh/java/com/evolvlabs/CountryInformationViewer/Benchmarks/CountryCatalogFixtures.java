@@ -0,0 +1,51 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo genera catalogos sinteticos para los benchmarks. El catalogo
+ * real tiene unos 220 paises en 5 continentes, aqui se genera cualquier tamano con la misma forma
+ * (continente, nombre y ruta del asset) para medir como escala cada operacion.
+ */
+final class CountryCatalogFixtures {
+
+    static final String[] CONTINENTS = {"Americas", "Asia", "Africa", "Europe", "Oceania"};
+
+    private CountryCatalogFixtures() {
+    }
+
+    /**
+     * @description: nombre del pais en la posicion dada, con espacios como en el catalogo real
+     */
+    static String countryNameAt(int index) {
+        return String.format(Locale.ROOT, "Country Number %06d", index);
+    }
+
+    /**
+     * <body style="color: WHITE;">
+     * <h3>Descripcion:</h3>
+     * Metodo que genera un catalogo de paises repartidos en los 5 continentes, en el mismo orden
+     * que el catalogo real: agrupados por continente.
+     * </body>
+     *
+     * @param catalogSize Cantidad de paises a generar
+     * @return List Catalogo sintetico
+     */
+    static List<CountryInformation> generateCatalog(int catalogSize) {
+        List<CountryInformation> catalog = new ArrayList<>(catalogSize);
+        for (int index = 0; index < catalogSize; index++) {
+            String continent = CONTINENTS[(int) ((long) index * CONTINENTS.length / catalogSize)];
+            String countryName = countryNameAt(index);
+            catalog.add(new CountryInformation(continent, countryName,
+                                               continent + "/" + continent + "-"
+                                                       + countryName.replace(' ', '_') + ".png"));
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,74 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryFuzzySearchIndex;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo mide la busqueda tolerante a errores de
+ * {@link CountryFuzzySearchIndex}. Todos los nombres sinteticos comparten las palabras "Country" y
+ * "Number", por lo que sus trigramas tienen listas del tamano del catalogo: es el peor caso para el
+ * presupuesto de entradas. Se mide un texto con errores, un alias exacto y la construccion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CountryFuzzySearchBenchmark {
+
+    private static final int MAXIMUM_MATCHES = 20;
+
+    @Param({"200", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    private List<CountryInformation> catalog;
+    private Map<String, List<String>> aliasesPerCountryName;
+    private CountryFuzzySearchIndex catalogFuzzySearchIndex;
+    private String misspelledCountryName;
+
+    @Setup(Level.Trial)
+    public void setUpCatalog() {
+        this.catalog = CountryCatalogFixtures.generateCatalog(this.catalogSize);
+        //? Un alias por cada diez paises, similar a la proporcion de la tabla real
+        this.aliasesPerCountryName = new HashMap<>();
+        for (int country = 0; country < this.catalogSize; country += 10) {
+            this.aliasesPerCountryName.put(CountryCatalogFixtures.countryNameAt(country),
+                                           Collections.singletonList("Alias " + country));
+        }
+        this.catalogFuzzySearchIndex =
+                CountryFuzzySearchIndex.of(this.catalog, this.aliasesPerCountryName);
+        this.misspelledCountryName = CountryCatalogFixtures.countryNameAt(this.catalogSize - 1)
+                .replace("Country", "Cuntry")
+                .replace("Number", "Numbr");
+    }
+
+    @Benchmark
+    public List<CountryFuzzySearchIndex.Match> searchMisspelledName() {
+        return this.catalogFuzzySearchIndex.search(this.misspelledCountryName, MAXIMUM_MATCHES);
+    }
+
+    @Benchmark
+    public List<CountryFuzzySearchIndex.Match> searchAlias() {
+        return this.catalogFuzzySearchIndex.search("Alias 0", MAXIMUM_MATCHES);
+    }
+
+    @Benchmark
+    public CountryFuzzySearchIndex buildFuzzySearchIndex() {
+        return CountryFuzzySearchIndex.of(this.catalog, this.aliasesPerCountryName);
+    }
+}
@@ -0,0 +1,75 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryCatalogTable;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.DataModel.PersistentCountryList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo mide la version nueva del listado de paises que se publica en
+ * cada eliminacion. La variante copied replica el codigo anterior (copiar todo el listado en un
+ * ArrayList y quitar el pais con removeIf), la variante persistent mide
+ * {@link PersistentCountryList#without(CountryInformation)}, que solo copia una hoja y su camino.
+ * La variante de restauracion mide {@link PersistentCountryList#with(CountryInformation)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CountryListSnapshotBenchmark {
+
+    @Param({"200", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    private List<CountryInformation> catalog;
+    private PersistentCountryList catalogSnapshot;
+    private CountryInformation countryToRemove;
+    private PersistentCountryList snapshotWithoutCountry;
+
+    @Setup(Level.Trial)
+    public void setUpCatalog() {
+        this.catalog = CountryCatalogFixtures.generateCatalog(this.catalogSize);
+        CountryCatalogTable.of(this.catalog, Arrays.asList(CountryCatalogFixtures.CONTINENTS));
+        this.catalogSnapshot = PersistentCountryList.of(this.catalog);
+        this.countryToRemove = this.catalog.get(this.catalogSize / 2);
+        this.snapshotWithoutCountry = this.catalogSnapshot.without(this.countryToRemove);
+    }
+
+    @Benchmark
+    public List<CountryInformation> copiedCountryRemoval() {
+        List<CountryInformation> updatedCountryList = new ArrayList<>(this.catalog);
+        updatedCountryList.removeIf(countryInfo -> countryInfo == this.countryToRemove);
+        return updatedCountryList;
+    }
+
+    @Benchmark
+    public List<CountryInformation> persistentCountryRemoval() {
+        return this.catalogSnapshot.without(this.countryToRemove);
+    }
+
+    @Benchmark
+    public List<CountryInformation> persistentContinentRemoval() {
+        String removedContinent = this.countryToRemove.getCountryContinent();
+        return this.catalogSnapshot.withoutMatching(
+                countryInfo -> countryInfo.getCountryContinent().equals(removedContinent));
+    }
+
+    @Benchmark
+    public List<CountryInformation> persistentCountryRestore() {
+        return this.snapshotWithoutCountry.with(this.countryToRemove);
+    }
+}
@@ -0,0 +1,98 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo mide la busqueda de un pais por nombre tal como la hace
+ * {@code ApplicationDataPOJO.getConstantCountryFromCountryListPerName}: un stream lineal sobre el
+ * catalogo comparando con equalsIgnoreCase. Se mide un nombre al inicio, al final y uno que no
+ * existe, que es el peor caso. Las variantes indexed miden la misma busqueda sobre
+ * {@link CountryNameIndex}, que es la que usa hoy el ViewModel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CountryLookupBenchmark {
+
+    @Param({"200", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    private List<CountryInformation> catalog;
+    private CountryNameIndex catalogNameIndex;
+    private String firstCountryName;
+    private String lastCountryName;
+    private String missingCountryName;
+
+    @Setup(Level.Trial)
+    public void setUpCatalog() {
+        this.catalog = CountryCatalogFixtures.generateCatalog(this.catalogSize);
+        this.catalogNameIndex = CountryNameIndex.of(this.catalog);
+        //? Usamos mayusculas para forzar la comparacion sin distinguir mayusculas
+        this.firstCountryName = CountryCatalogFixtures.countryNameAt(0).toUpperCase();
+        this.lastCountryName =
+                CountryCatalogFixtures.countryNameAt(this.catalogSize - 1).toUpperCase();
+        this.missingCountryName = "Atlantis";
+    }
+
+    /**
+     * @description: misma logica que getConstantCountryFromCountryListPerName
+     */
+    private CountryInformation findingCountryPerName(String countryName) {
+        return this.catalog
+                .stream()
+                .filter(new Predicate<CountryInformation>() {
+                    @Override
+                    public boolean test(CountryInformation countryInformation) {
+                        return countryInformation.getCountryName().equalsIgnoreCase(countryName);
+                    }
+                })
+                .findFirst()
+                .orElse(new CountryInformation());
+    }
+
+    @Benchmark
+    public CountryInformation lookupFirstCountry() {
+        return this.findingCountryPerName(this.firstCountryName);
+    }
+
+    @Benchmark
+    public CountryInformation lookupLastCountry() {
+        return this.findingCountryPerName(this.lastCountryName);
+    }
+
+    @Benchmark
+    public CountryInformation lookupMissingCountry() {
+        return this.findingCountryPerName(this.missingCountryName);
+    }
+
+    @Benchmark
+    public CountryInformation indexedLookupLastCountry() {
+        return this.catalogNameIndex.get(this.lastCountryName);
+    }
+
+    @Benchmark
+    public CountryInformation indexedLookupMissingCountry() {
+        return this.catalogNameIndex.get(this.missingCountryName);
+    }
+
+    @Benchmark
+    public CountryNameIndex buildIndex() {
+        return CountryNameIndex.of(this.catalog);
+    }
+}
@@ -0,0 +1,90 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryPrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo mide la busqueda por prefijo mientras se escribe. Cada
+ * invocacion escribe el nombre del ultimo pais tecla por tecla; la variante linear filtra todo el
+ * catalogo con startsWith en cada tecla, la variante full busca en {@link CountryPrefixIndex} desde
+ * cero y la variante refined refina el rango de la tecla anterior, que es lo que hace el ViewModel.
+ * El resultado dividido entre la cantidad de teclas es el costo por tecla.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CountryPrefixSearchBenchmark {
+
+    @Param({"200", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    private List<CountryInformation> catalog;
+    private CountryPrefixIndex catalogPrefixIndex;
+    private String[] keystrokes;
+
+    @Setup(Level.Trial)
+    public void setUpCatalog() {
+        this.catalog = CountryCatalogFixtures.generateCatalog(this.catalogSize);
+        this.catalogPrefixIndex = CountryPrefixIndex.of(this.catalog);
+        String typedName = CountryCatalogFixtures.countryNameAt(this.catalogSize - 1);
+        this.keystrokes = new String[typedName.length()];
+        for (int typed = 1; typed <= typedName.length(); typed++) {
+            this.keystrokes[typed - 1] = typedName.substring(0, typed);
+        }
+    }
+
+    @Benchmark
+    public int linearSearchPerKeystroke() {
+        int matches = 0;
+        for (String keystroke : this.keystrokes) {
+            String foldedKeystroke = keystroke.toLowerCase(Locale.ROOT);
+            List<CountryInformation> matchingCountries = new ArrayList<>();
+            for (CountryInformation country : this.catalog) {
+                if (country.getCountryName().toLowerCase(Locale.ROOT).startsWith(foldedKeystroke)) {
+                    matchingCountries.add(country);
+                }
+            }
+            matches = matchingCountries.size();
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int fullSearchPerKeystroke() {
+        int matches = 0;
+        for (String keystroke : this.keystrokes) {
+            matches = this.catalogPrefixIndex.search(keystroke).size();
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int refinedSearchPerKeystroke() {
+        CountryPrefixIndex.Range range = null;
+        for (String keystroke : this.keystrokes) {
+            range = this.catalogPrefixIndex.refine(range, keystroke);
+        }
+        return range.size();
+    }
+
+    @Benchmark
+    public CountryPrefixIndex buildPrefixIndex() {
+        return CountryPrefixIndex.of(this.catalog);
+    }
+}
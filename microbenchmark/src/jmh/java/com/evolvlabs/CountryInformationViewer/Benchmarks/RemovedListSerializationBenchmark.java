@@ -0,0 +1,115 @@
+package com.evolvlabs.CountryInformationViewer.Benchmarks;
+
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryCatalogTable;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryInformation;
+import com.evolvlabs.CountryInformationViewer.DataModel.CountryRemovalFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * @author: Paulo Cantos, Santiago Arellano
+ * @date: 17-Oct-2026
+ * @description: El presente archivo mide la serializacion y la lectura de la lista de paises
+ * eliminados. La serializacion replica {@code ApplicationDataPOJO.serializeSingleCountryRemoved}
+ * (revisa duplicados, agrega y convierte toda la lista a String en cada eliminacion) y la lectura
+ * replica {@code deserializeSharedPreferences} (quita los corchetes, separa por comas y recorta
+ * cada nombre). Los benchmarks del filtro miden el formato actual
+ * ({@link CountryRemovalFilter}) con el mismo estado: todo el catalogo menos un pais eliminado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RemovedListSerializationBenchmark {
+
+    @Param({"200", "1000", "10000", "100000"})
+    public int catalogSize;
+
+    private List<CountryInformation> removedCountryList;
+    private CountryInformation countryToRemove;
+    private String serializedRemovedCountries;
+    private CountryCatalogTable catalogTable;
+    private String encodedRemovalFilter;
+
+    @Setup(Level.Trial)
+    public void setUpRemovedList() {
+        List<CountryInformation> catalog = CountryCatalogFixtures.generateCatalog(this.catalogSize);
+        //? Todo el catalogo menos el ultimo pais esta eliminado, el ultimo es el que se elimina en
+        // cada iteracion
+        this.removedCountryList = new ArrayList<>(catalog.subList(0, this.catalogSize - 1));
+        this.countryToRemove = catalog.get(this.catalogSize - 1);
+        this.serializedRemovedCountries = this.removedCountryList
+                .stream()
+                .map(CountryInformation::getCountryName)
+                .collect(Collectors.toList())
+                .toString();
+        this.catalogTable = CountryCatalogTable.of(
+                catalog, Arrays.asList(CountryCatalogFixtures.CONTINENTS));
+        CountryRemovalFilter removalFilter = CountryRemovalFilter.empty();
+        for (int countryId = 0; countryId < this.catalogSize - 1; countryId++) {
+            removalFilter.removeCountry(countryId);
+        }
+        this.encodedRemovalFilter = removalFilter.encode(this.catalogTable);
+    }
+
+    @Benchmark
+    public String serializeCountryRemoved() {
+        //> 1. Revisamos si el pais ya esta eliminado
+        for (CountryInformation information : this.removedCountryList) {
+            if (information.getCountryName()
+                    .equalsIgnoreCase(this.countryToRemove.getCountryName())) {
+                return null;
+            }
+        }
+        //> 2. Anadimos el pais sobre una copia, para que cada iteracion parta del mismo estado
+        List<CountryInformation> updatedRemovedCountryList =
+                new ArrayList<>(this.removedCountryList.size() + 1);
+        updatedRemovedCountryList.addAll(this.removedCountryList);
+        updatedRemovedCountryList.add(this.countryToRemove);
+        //> 3. Convertimos el listado a una lista de Strings y la serializamos
+        return updatedRemovedCountryList
+                .stream()
+                .map(CountryInformation::getCountryName)
+                .collect(Collectors.toList())
+                .toString();
+    }
+
+    @Benchmark
+    public List<String> parseRemovedCountries() {
+        List<String> removedCountryNames = new ArrayList<>();
+        var newString = this.serializedRemovedCountries.replace('[', ' ').replace(']', ' ');
+        for (String countryName : newString.split(",")) {
+            String trimmedName = countryName.trim().strip();
+            if (!trimmedName.isEmpty()) {
+                removedCountryNames.add(trimmedName);
+            }
+        }
+        return removedCountryNames;
+    }
+
+    @Benchmark
+    public String serializeRemovalFilter() {
+        //? Partimos del filtro guardado para que cada iteracion parta del mismo estado
+        CountryRemovalFilter removalFilter = CountryRemovalFilter.decode(
+                this.encodedRemovalFilter, this.catalogTable);
+        removalFilter.removeCountry(this.countryToRemove.getCountryId());
+        return removalFilter.encode(this.catalogTable);
+    }
+
+    @Benchmark
+    public CountryRemovalFilter parseRemovalFilter() {
+        return CountryRemovalFilter.decode(this.encodedRemovalFilter, this.catalogTable);
+    }
+}